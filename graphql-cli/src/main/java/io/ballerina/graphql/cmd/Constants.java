@@ -37,6 +37,26 @@ public class Constants {
             "GraphQL schema file with .graphql respectively.";
     public static final String MESSAGE_FOR_USE_RECORDS_FOR_OBJECTS_FLAG_MISUSE =
             "The use-records-for-objects flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_FAST_EMIT_FLAG_MISUSE =
+            "The fast-emit flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_TYPED_BINDING_FLAG_MISUSE =
+            "The typed-binding flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_OPERATION_MANIFEST_FLAG_MISUSE =
+            "The operation-manifest flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_INVALID_GENERATION_THREADS =
+            "The generation-threads value must be a positive number. Provided value: %d";
+    public static final String MESSAGE_FOR_PARALLEL_FLAG_MISUSE =
+            "The parallel flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_INVALID_INTROSPECTION_CONCURRENCY =
+            "The introspection-concurrency value must be a positive number. Provided value: %d";
+    public static final String MESSAGE_FOR_OFFLINE_FLAG_MISUSE =
+            "The offline flag is incompatible with: \"%s\"";
+    public static final String MESSAGE_FOR_OFFLINE_WITHOUT_CACHE =
+            "The offline flag is incompatible with the no-cache flag, as the offline mode reads the cache.";
+    public static final String MESSAGE_FOR_INVALID_PARALLEL_WORKERS =
+            "The parallel value must not be a negative number. Provided value: %d";
+    public static final String MESSAGE_FOR_PROJECT_GENERATION_FAILURE =
+            "Client generation failed for the project \"%s\": %s";
     public static final String MESSAGE_FOR_EMPTY_CONFIGURATION_FILE =
             "The GraphQL configuration YAML file is empty. \nPlease provide a valid content in the YAML file.";
     public static final String MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT =
@@ -46,6 +66,9 @@ public class Constants {
     public static final String MESSAGE_FOR_MISSING_SCHEMA_OR_DOCUMENTS = "The GraphQL configuration YAML file " +
             "project is configured with a missing schema or documents section. " +
             "\nPlease provide both the schema & documents section under each project in the YAML file.";
+    public static final String MESSAGE_FOR_INVALID_TYPES_SHARD_SIZE = "The GraphQL configuration YAML file " +
+            "project is configured with a negative typesShardSize extension. " +
+            "\nPlease provide a positive number of operations per types file, or 0 to not split the types file.";
     public static final String MESSAGE_FOR_INVALID_SCHEMA_URL = "The GraphQL configuration YAML file " +
             "project is configured with an invalid web URL for schema location. " +
             "\nPlease provide a valid graphQL endpoint URL or file path for the schema section " +
@@ -71,8 +94,17 @@ public class Constants {
     public static final String BAL_EXTENSION = ".bal";
     public static final String GRAPHQL_EXTENSION = ".graphql";
 
+    // Constants related to the schema cache
+    public static final String BALLERINA_HOME_DIR_ENV = "BALLERINA_HOME_DIR";
+    public static final String USER_HOME = "user.home";
+    public static final String BALLERINA_HOME_DIR = ".ballerina";
+    public static final String SCHEMA_CACHE_DIR = "graphql-schema-cache";
+    public static final String SCHEMA_CACHE_FILE_EXTENSION = ".ser.gz";
+    public static final String INTROSPECTION_CACHE_DIR = "graphql-introspection-cache";
+
     // Constants related to HTTP request
     public static final String URL_RECOGNIZER = "http";
+    public static final int DEFAULT_INTROSPECTION_CONCURRENCY = 8;
 
     public static final String NEW_LINE = "\n";
 }
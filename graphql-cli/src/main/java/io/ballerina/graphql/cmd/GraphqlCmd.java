@@ -26,6 +26,7 @@ import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
 import io.ballerina.graphql.generator.client.pojo.Extension;
@@ -54,15 +55,21 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.graphql.cmd.Constants.BAL_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.GRAPHQL_EXTENSION;
+import static io.ballerina.graphql.cmd.Constants.INTROSPECTION_CACHE_DIR;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_CONFIGURATION_FILE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_CONFIGURATION_FILE_CONTENT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_FILE_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_MODE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISMATCH_MODE_AND_FILE_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISSING_INPUT_ARGUMENT;
+import static io.ballerina.graphql.cmd.Constants.SCHEMA_CACHE_DIR;
 import static io.ballerina.graphql.cmd.Constants.YAML_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.YML_EXTENSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODE_CLIENT;
@@ -110,6 +117,51 @@ public class GraphqlCmd implements BLauncherCmd {
             description = "Inform the generator to generate records types where ever possible")
     private boolean useRecordsForObjectsFlag;
 
+    @CommandLine.Option(names = {"--fast-emit"},
+            description = "Inform the generator to write the client types directly to the output files without " +
+                    "building and formatting the syntax tree")
+    private boolean fastEmitFlag;
+
+    @CommandLine.Option(names = {"--typed-binding"},
+            description = "Inform the generator to generate clients which bind the responses to the response types " +
+                    "in the GraphQL client")
+    private boolean typedBindingFlag;
+
+    @CommandLine.Option(names = {"--operation-manifest"},
+            description = "Inform the generator to write a manifest which maps the hash of each operation to its " +
+                    "query text alongside the generated client")
+    private boolean operationManifestFlag;
+
+    @CommandLine.Option(names = {"--generation-threads"},
+            description = "Number of threads used to generate the Ballerina client source files of a project " +
+                    "concurrently. Defaults to the number of available processors.")
+    private int generationThreads = Runtime.getRuntime().availableProcessors();
+
+    @CommandLine.Option(names = {"--parallel"}, arity = "0..1", fallbackValue = "0",
+            description = "Validate and generate the projects of the GraphQL config file concurrently using the " +
+                    "given number of workers. Defaults to the number of available processors if no value is given.")
+    private Integer parallelProjects;
+
+    @CommandLine.Option(names = {"--offline"},
+            description = "Inform the generator to use the introspection results cached by the previous runs for " +
+                    "the GraphQL schema URLs, without introspecting the GraphQL APIs")
+    private boolean offlineFlag;
+
+    @CommandLine.Option(names = {"--introspection-concurrency"},
+            description = "Maximum number of GraphQL APIs introspected concurrently for the projects of the GraphQL " +
+                    "config file. Defaults to " + Constants.DEFAULT_INTROSPECTION_CONCURRENCY + ".")
+    private int introspectionConcurrency = Constants.DEFAULT_INTROSPECTION_CONCURRENCY;
+
+    @CommandLine.Option(names = {"--cache-dir"},
+            description = "Directory to keep the parsed schemas and the introspection results cached by the " +
+                    "GraphQL tool. Defaults to the Ballerina home directory.")
+    private String cacheDirectory;
+
+    @CommandLine.Option(names = {"--no-cache"},
+            description = "Inform the generator to parse the schemas and introspect the GraphQL APIs without " +
+                    "reading or writing the caches")
+    private boolean noCacheFlag;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -211,6 +263,45 @@ public class GraphqlCmd implements BLauncherCmd {
         if (useRecordsForObjectsFlag && !(filePath.endsWith(GRAPHQL_EXTENSION))) {
             throw new CmdException(String.format(Constants.MESSAGE_FOR_USE_RECORDS_FOR_OBJECTS_FLAG_MISUSE, mode));
         }
+
+        if (fastEmitFlag && !(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_FAST_EMIT_FLAG_MISUSE, mode));
+        }
+
+        if (typedBindingFlag && !(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_TYPED_BINDING_FLAG_MISUSE, mode));
+        }
+
+        if (operationManifestFlag && !(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_OPERATION_MANIFEST_FLAG_MISUSE, mode));
+        }
+
+        if (offlineFlag && !(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_OFFLINE_FLAG_MISUSE, mode));
+        }
+
+        if (offlineFlag && noCacheFlag) {
+            throw new CmdException(Constants.MESSAGE_FOR_OFFLINE_WITHOUT_CACHE);
+        }
+
+        if (introspectionConcurrency < 1) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_INVALID_INTROSPECTION_CONCURRENCY,
+                    introspectionConcurrency));
+        }
+
+        if (generationThreads < 1) {
+            throw new CmdException(String.format(Constants.MESSAGE_FOR_INVALID_GENERATION_THREADS, generationThreads));
+        }
+
+        if (parallelProjects != null) {
+            if (!(filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
+                throw new CmdException(String.format(Constants.MESSAGE_FOR_PARALLEL_FLAG_MISUSE, mode));
+            }
+            if (parallelProjects < 0) {
+                throw new CmdException(String.format(Constants.MESSAGE_FOR_INVALID_PARALLEL_WORKERS,
+                        parallelProjects));
+            }
+        }
     }
 
     private boolean validInputFileExtension(String filePath) {
@@ -252,6 +343,16 @@ public class GraphqlCmd implements BLauncherCmd {
         if ((MODE_CLIENT.equals(mode) || mode == null) &&
                 (filePath.endsWith(YAML_EXTENSION) || filePath.endsWith(YML_EXTENSION))) {
             setClientCodeGenerator(new ClientCodeGenerator());
+            if (fastEmitFlag) {
+                this.clientCodeGenerator.enableFastEmit();
+            }
+            if (typedBindingFlag) {
+                this.clientCodeGenerator.enableTypedBinding();
+            }
+            if (operationManifestFlag) {
+                this.clientCodeGenerator.enableOperationManifest();
+            }
+            this.clientCodeGenerator.setGenerationThreads(generationThreads);
             generateClient(filePath);
         } else if ((MODE_SCHEMA.equals(mode) || mode == null) && (filePath.endsWith(BAL_EXTENSION))) {
             generateSchema(filePath);
@@ -263,20 +364,35 @@ public class GraphqlCmd implements BLauncherCmd {
     }
 
     /**
-     * Generate the client according to the given configurations.
+     * Generate the client according to the given configurations. The GraphQL APIs of the projects with a schema URL
+     * are introspected concurrently before the projects are validated, and the projects with the same schema source
+     * share a single schema instance.
      *
      * @throws ParseException      when a parsing related error occurs
      * @throws IOException         If an I/O error occurs
      * @throws ValidationException when validation related error occurs
      * @throws ClientCodeGenerationException when a code generation error occurs
+     * @throws CmdException        when the generation of a project fails in parallel mode, or the introspection is
+     *                             interrupted
      */
     private void generateClient(String filePath)
-            throws ParseException, IOException, ValidationException, ClientCodeGenerationException {
+            throws ParseException, IOException, ValidationException, ClientCodeGenerationException, CmdException {
         Config config = readConfig(filePath);
         ConfigValidator.getInstance().validate(config);
         List<GraphqlClientProject> projects = populateProjects(config);
+        SchemaRegistry schemaRegistry = new SchemaRegistry(getSchemaCache(), getIntrospectionCache(), offlineFlag);
+        try {
+            schemaRegistry.introspect(projects, introspectionConcurrency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CmdException(e.getMessage(), e);
+        }
+        if (parallelProjects != null) {
+            generateClientsInParallel(projects, schemaRegistry);
+            return;
+        }
         for (GraphqlClientProject project : projects) {
-            Utils.validateGraphqlProject(project);
+            Utils.validateGraphqlProject(project, schemaRegistry);
             QueryValidator.getInstance().validate(project);
         }
         for (GraphqlProject project : projects) {
@@ -284,6 +400,76 @@ public class GraphqlCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * Validates and generates the clients of the given projects concurrently. Each project is handled as a single
+     * task, and the errors are reported in the order of the projects once all the tasks are completed, so that the
+     * console output does not depend on the order in which the tasks finish.
+     *
+     * @param projects             the list of Graphql client projects
+     * @param schemaRegistry       the schema registry of the run
+     * @throws CmdException        when the generation of one or more projects fails
+     */
+    private void generateClientsInParallel(List<GraphqlClientProject> projects, SchemaRegistry schemaRegistry)
+            throws CmdException {
+        if (projects.isEmpty()) {
+            return;
+        }
+        int workers = parallelProjects == 0 ? Runtime.getRuntime().availableProcessors() : parallelProjects;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(workers, projects.size()));
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (GraphqlClientProject project : projects) {
+                results.add(executor.submit(() -> {
+                    Utils.validateGraphqlProject(project, schemaRegistry);
+                    QueryValidator.getInstance().validate(project);
+                    this.clientCodeGenerator.generate(project);
+                    return null;
+                }));
+            }
+
+            List<String> errorMessages = new ArrayList<>();
+            for (int i = 0; i < projects.size(); i++) {
+                try {
+                    results.get(i).get();
+                } catch (ExecutionException e) {
+                    errorMessages.add(String.format(Constants.MESSAGE_FOR_PROJECT_GENERATION_FAILURE,
+                            projects.get(i).getName(), e.getCause().getMessage()));
+                }
+            }
+            if (!errorMessages.isEmpty()) {
+                throw new CmdException(String.join(System.lineSeparator(), errorMessages));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CmdException(e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the cache of the parsed schema files, under the given cache directory or the Ballerina home directory.
+     *
+     * @return the schema cache, or `null` if caching is turned off
+     */
+    private SchemaCache getSchemaCache() {
+        return noCacheFlag ? null : new SchemaCache(getCachePath().resolve(SCHEMA_CACHE_DIR));
+    }
+
+    /**
+     * Gets the cache of the introspection results of the schema URLs, under the given cache directory or the
+     * Ballerina home directory.
+     *
+     * @return the introspection cache, or `null` if caching is turned off
+     */
+    private IntrospectionCache getIntrospectionCache() {
+        return noCacheFlag ? null : new IntrospectionCache(getCachePath().resolve(INTROSPECTION_CACHE_DIR));
+    }
+
+    private Path getCachePath() {
+        return cacheDirectory != null ? Paths.get(cacheDirectory) : Utils.getBallerinaHomePath();
+    }
+
     private void generateService(String filePath)
             throws IOException, ValidationException, ServiceGenerationException {
         File graphqlFile = new File(filePath);
@@ -297,7 +483,7 @@ public class GraphqlCmd implements BLauncherCmd {
         }
         GraphqlServiceProject graphqlProject =
                 new GraphqlServiceProject(ROOT_PROJECT_NAME, filePath, getTargetOutputPath().toString());
-        Utils.validateGraphqlProject(graphqlProject);
+        Utils.validateGraphqlProject(graphqlProject, new SchemaRegistry(getSchemaCache(), null, false));
         if (useRecordsForObjectsFlag) {
             this.serviceCodeGenerator.enableToUseRecords();
         }
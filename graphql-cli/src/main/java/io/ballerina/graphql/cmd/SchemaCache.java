@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.GraphQL;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.errors.SchemaProblem;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static io.ballerina.graphql.cmd.Constants.SCHEMA_CACHE_FILE_EXTENSION;
+
+/**
+ * This class represents a content addressed on-disk cache of parsed GraphQL schemas (SDL). The parsed
+ * `TypeDefinitionRegistry` of a schema is stored in the given cache directory, keyed by the hash of the SDL and the
+ * graphql-java version, so that later runs with the same schema skip lexing and parsing the SDL.
+ */
+public class SchemaCache {
+    // The cache entries are in a user writable directory, so only the graphql-java AST (including its shaded Guava
+    // collections) and the JDK types a serialized TypeDefinitionRegistry contains are read back, within limits on the
+    // size of the object graph. The limits leave room for a schema with tens of thousands of types.
+    private static final String DESERIALIZATION_FILTER = String.join(";",
+            "maxdepth=100", "maxarray=1000000", "maxrefs=50000000", "maxbytes=268435456",
+            "graphql.**", "java.lang.Object", "java.lang.Number", "java.math.BigInteger", "java.math.BigDecimal",
+            "java.util.ArrayList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.Map$Entry", "!*");
+
+    private final Path cacheDirectory;
+    private final String graphqlJavaVersion;
+
+    public SchemaCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        this.graphqlJavaVersion = getGraphqlJavaVersion();
+    }
+
+    /**
+     * Returns the `TypeDefinitionRegistry` of a given GraphQL schema (SDL). The registry is read from the cache if
+     * the same SDL has been parsed before with the same graphql-java version, otherwise the SDL is parsed and the
+     * registry is stored in the cache. The cache is best effort, a cache entry which cannot be read or written is
+     * ignored and the SDL is parsed instead.
+     *
+     * @param sdlInput              the content of the GraphQL schema (SDL)
+     * @return                      the `TypeDefinitionRegistry` instance
+     * @throws SchemaProblem        If a GraphQL schema related error occurs
+     */
+    public TypeDefinitionRegistry getTypeDefinitionRegistry(String sdlInput) throws SchemaProblem {
+        Path cacheEntry = cacheDirectory.resolve(
+                CodeGeneratorUtils.getSha256Hash(graphqlJavaVersion + Constants.NEW_LINE + sdlInput) +
+                        SCHEMA_CACHE_FILE_EXTENSION);
+        TypeDefinitionRegistry typeRegistry = readCacheEntry(cacheEntry);
+        if (typeRegistry == null) {
+            typeRegistry = new SchemaParser().parse(sdlInput);
+            writeCacheEntry(cacheEntry, typeRegistry);
+        }
+        return typeRegistry;
+    }
+
+    private TypeDefinitionRegistry readCacheEntry(Path cacheEntry) {
+        if (!Files.isRegularFile(cacheEntry)) {
+            return null;
+        }
+        try (InputStream inputStream = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(cacheEntry)));
+             ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)) {
+            objectInputStream.setObjectInputFilter(ObjectInputFilter.Config.createFilter(DESERIALIZATION_FILTER));
+            return (TypeDefinitionRegistry) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private void writeCacheEntry(Path cacheEntry, TypeDefinitionRegistry typeRegistry) {
+        Path tempEntry = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            tempEntry = Files.createTempFile(cacheDirectory, cacheEntry.getFileName().toString(), null);
+            try (OutputStream outputStream =
+                         new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempEntry)));
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(typeRegistry);
+            }
+            // Concurrent runs may write the same entry, moving the complete file keeps the entry readable at any time
+            Files.move(tempEntry, cacheEntry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(tempEntry);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The left over temporary file does not affect the cache entries
+        }
+    }
+
+    private static String getGraphqlJavaVersion() {
+        String version = GraphQL.class.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        CodeSource codeSource = GraphQL.class.getProtectionDomain().getCodeSource();
+        return codeSource != null ? codeSource.getLocation().toString() : GraphQL.class.getName();
+    }
+}
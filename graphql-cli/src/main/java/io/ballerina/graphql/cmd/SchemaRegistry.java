@@ -0,0 +1,226 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.errors.SchemaProblem;
+import io.ballerina.graphql.generator.GraphqlProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
+import io.ballerina.graphql.generator.client.Introspector;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
+
+/**
+ * This class represents the registry of the GraphQL schemas of a single run. The projects which refer to the same
+ * schema file, or to the same schema URL with the same headers, share a single `GraphQLSchema` instance, so that each
+ * distinct schema is read, introspected and built only once per run. A `GraphQLSchema` is immutable, so the shared
+ * instance is safe to use by the concurrent generations of the projects.
+ */
+public class SchemaRegistry {
+    private final SchemaCache schemaCache;
+    private final IntrospectionCache introspectionCache;
+    private final boolean offline;
+    private final Map<String, CompletableFuture<Map<String, Object>>> introspectionResults =
+            new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<GraphQLSchema>> graphQLSchemas = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the schema registry of a run.
+     *
+     * @param schemaCache           the cache of the parsed schema files, or `null` to always parse the schema files
+     * @param introspectionCache    the cache of the introspection results of the schema URLs, or `null` to always
+     *                              introspect the GraphQL APIs without caching the results
+     * @param offline               whether the schema URLs are resolved only from the introspection cache
+     */
+    public SchemaRegistry(SchemaCache schemaCache, IntrospectionCache introspectionCache, boolean offline) {
+        this.schemaCache = schemaCache;
+        this.introspectionCache = introspectionCache;
+        this.offline = offline;
+    }
+
+    /**
+     * Introspects the GraphQL APIs of the given projects with a schema URL. Each distinct schema URL is introspected
+     * once, the introspection requests are sent asynchronously, and at most the given number of introspections are
+     * in flight at the same time, so that the introspections take about as long as the slowest of them instead of
+     * the sum of all of them.
+     *
+     * @param projects                              the list of Graphql projects
+     * @param maxConcurrentIntrospections           the maximum number of introspections in flight
+     * @throws InterruptedException                 If the thread is interrupted while waiting to introspect
+     */
+    public void introspect(List<? extends GraphqlProject> projects, int maxConcurrentIntrospections)
+            throws InterruptedException {
+        Semaphore introspectionPermits = new Semaphore(maxConcurrentIntrospections);
+        for (GraphqlProject project : projects) {
+            if (project.getSchema() == null || !project.getSchema().startsWith(URL_RECOGNIZER)) {
+                continue;
+            }
+            String schemaKey = getSchemaKey(project);
+            if (introspectionResults.containsKey(schemaKey)) {
+                continue;
+            }
+            introspectionPermits.acquire();
+            CompletableFuture<Map<String, Object>> introspectionResult;
+            try {
+                introspectionResult = Introspector.getInstance().getIntrospectionResultAsync(project.getSchema(),
+                        Utils.getExtensions(project), introspectionCache, offline);
+            } catch (RuntimeException e) {
+                // The failure is reported when the schema of the project is built, like an asynchronous failure
+                introspectionResult = CompletableFuture.failedFuture(e);
+            }
+            introspectionResult.whenComplete((result, error) -> introspectionPermits.release());
+            introspectionResults.put(schemaKey, introspectionResult);
+        }
+    }
+
+    /**
+     * Returns the `GraphQLSchema` instance of a given project. The schema is built on the first request of its
+     * schema source, and the following requests of the same schema source wait for and share the same instance, or
+     * the same error if the schema cannot be built.
+     *
+     * @param project                               the instance of the Graphql project
+     * @return                                      the `GraphQLSchema` instance
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    public GraphQLSchema getGraphQLSchema(GraphqlProject project)
+            throws IntospectionException, SchemaProblem, IOException {
+        String schemaKey = getSchemaKey(project);
+        CompletableFuture<GraphQLSchema> newGraphQLSchema = new CompletableFuture<>();
+        CompletableFuture<GraphQLSchema> graphQLSchema = graphQLSchemas.putIfAbsent(schemaKey, newGraphQLSchema);
+        if (graphQLSchema == null) {
+            graphQLSchema = newGraphQLSchema;
+            try {
+                newGraphQLSchema.complete(createGraphQLSchema(project, schemaKey));
+            } catch (IntospectionException | IOException | RuntimeException e) {
+                newGraphQLSchema.completeExceptionally(e);
+            }
+        }
+        return awaitGraphQLSchema(graphQLSchema);
+    }
+
+    private GraphQLSchema createGraphQLSchema(GraphqlProject project, String schemaKey)
+            throws IntospectionException, SchemaProblem, IOException {
+        String schema = project.getSchema();
+        if (!schema.startsWith(URL_RECOGNIZER)) {
+            return Utils.createGraphQLSchema(schema, null, schemaCache);
+        }
+        CompletableFuture<Map<String, Object>> introspectionResult = introspectionResults.get(schemaKey);
+        if (introspectionResult == null) {
+            return Utils.createGraphQLSchema(schema, Introspector.getInstance().getIntrospectionResult(schema,
+                    Utils.getExtensions(project), introspectionCache, offline), null);
+        }
+        return Utils.createGraphQLSchema(schema, awaitIntrospectionResult(introspectionResult), null);
+    }
+
+    CompletableFuture<Map<String, Object>> getIntrospectionResult(GraphqlProject project) {
+        return introspectionResults.get(getSchemaKey(project));
+    }
+
+    /**
+     * Gets the key of the schema source of a given project. A schema URL is keyed by the normalised URL and the
+     * headers sent to introspect it, as the headers may change the introspected schema, and a schema file is keyed by
+     * its canonical path.
+     *
+     * @param project                               the instance of the Graphql project
+     * @return                                      the key of the schema source
+     */
+    static String getSchemaKey(GraphqlProject project) {
+        String schema = project.getSchema();
+        if (schema.startsWith(URL_RECOGNIZER)) {
+            StringBuilder schemaKey = new StringBuilder(normalizeUrl(schema));
+            Map<String, String> headers = new TreeMap<>();
+            Introspector.getHeaders(Utils.getExtensions(project))
+                    .forEach((name, value) -> headers.put(name.toLowerCase(Locale.ENGLISH), value));
+            headers.forEach((name, value) ->
+                    schemaKey.append(Constants.NEW_LINE).append(name).append(':').append(value));
+            return schemaKey.toString();
+        }
+        try {
+            return new File(schema).getCanonicalPath();
+        } catch (IOException e) {
+            return Paths.get(schema).toAbsolutePath().normalize().toString();
+        }
+    }
+
+    private static String normalizeUrl(String schema) {
+        try {
+            URI uri = new URI(schema).normalize();
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return uri.toString();
+            }
+            return new URI(uri.getScheme().toLowerCase(Locale.ENGLISH), uri.getUserInfo(),
+                    uri.getHost().toLowerCase(Locale.ENGLISH), uri.getPort(), uri.getPath(), uri.getQuery(),
+                    uri.getFragment()).toString();
+        } catch (URISyntaxException e) {
+            return schema;
+        }
+    }
+
+    private static Map<String, Object> awaitIntrospectionResult(
+            CompletableFuture<Map<String, Object>> introspectionResult) throws IntospectionException {
+        try {
+            return introspectionResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntospectionException(e.getMessage());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IntospectionException) {
+                throw (IntospectionException) e.getCause();
+            }
+            throw new IntospectionException(e.getCause().getMessage());
+        }
+    }
+
+    private static GraphQLSchema awaitGraphQLSchema(CompletableFuture<GraphQLSchema> graphQLSchema)
+            throws IntospectionException, IOException {
+        try {
+            return graphQLSchema.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IntospectionException) {
+                throw (IntospectionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import io.ballerina.graphql.exception.SDLValidationException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.Introspector;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Default;
@@ -58,13 +59,16 @@ import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Map;
 
+import static io.ballerina.graphql.cmd.Constants.BALLERINA_HOME_DIR;
+import static io.ballerina.graphql.cmd.Constants.BALLERINA_HOME_DIR_ENV;
+import static io.ballerina.graphql.cmd.Constants.SCHEMA_CACHE_DIR;
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
+import static io.ballerina.graphql.cmd.Constants.USER_HOME;
 
 /**
  * Utility class for GraphQL code generation command line tool.
  */
 public class Utils {
-
     /**
      * Returns the Snakeyaml `Constructor` instance processing unsupported keywords in Java.
      *
@@ -93,28 +97,88 @@ public class Utils {
      */
     public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions)
             throws IntospectionException, SchemaProblem, IOException {
-        Document introspectSchema = null;
+        return getGraphQLSchemaDocument(schema, extensions, null, false);
+    }
+
+    /**
+     * Returns the `GraphQLSchema` instance for a given GraphQL schema file or schema URL. The introspection results
+     * of the schema URLs are cached in the given cache, and when offline, the cached introspection result is used
+     * without introspecting the GraphQL API.
+     *
+     * @param schema                                the schema value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the cache of the introspection results, or `null` to not cache
+     * @param offline                               whether the schema URL is resolved only from the cache
+     * @return                                      the `GraphQLSchema` instance
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    public static GraphQLSchema getGraphQLSchemaDocument(String schema, Extension extensions,
+                                                         IntrospectionCache introspectionCache, boolean offline)
+            throws IntospectionException, SchemaProblem, IOException {
+        Map<String, Object> introspectionResult = null;
         if (schema.startsWith(URL_RECOGNIZER)) {
-            Map<String, Object> introspectionResult =
-                    Introspector.getInstance().getIntrospectionResult(schema, extensions);
+            introspectionResult = Introspector.getInstance()
+                    .getIntrospectionResult(schema, extensions, introspectionCache, offline);
+        }
+        return createGraphQLSchema(schema, introspectionResult, null);
+    }
+
+    /**
+     * Creates the `GraphQLSchema` instance from the introspection result of a schema URL, or from the content of a
+     * GraphQL schema file if there is no introspection result.
+     *
+     * @param schema                                the schema value of the Graphql config file
+     * @param introspectionResult                   the introspection results map, or `null` for a schema file
+     * @param schemaCache                           the cache of the parsed schema files, or `null` to not cache
+     * @return                                      the `GraphQLSchema` instance
+     * @throws SchemaProblem                        If a GraphQL schema related error occurs
+     * @throws IOException                          If an I/O error occurs
+     */
+    static GraphQLSchema createGraphQLSchema(String schema, Map<String, Object> introspectionResult,
+                                             SchemaCache schemaCache) throws SchemaProblem, IOException {
+        Document introspectSchema = null;
+        if (introspectionResult != null) {
             IntrospectionResultToSchema introspectionResultToSchema = new IntrospectionResultToSchema();
             introspectSchema = introspectionResultToSchema.createSchemaDefinition(introspectionResult);
         }
 
-        SchemaParser schemaParser = new SchemaParser();
         SchemaGenerator schemaGenerator = new SchemaGenerator();
         TypeDefinitionRegistry typeRegistry;
         if (introspectSchema != null) {
-            typeRegistry = schemaParser.buildRegistry(introspectSchema);
+            typeRegistry = new SchemaParser().buildRegistry(introspectSchema);
         } else {
             String sdlInput = extractSchemaContent(schema);
-            typeRegistry = schemaParser.parse(sdlInput);
+            typeRegistry = schemaCache != null ? schemaCache.getTypeDefinitionRegistry(sdlInput) :
+                    new SchemaParser().parse(sdlInput);
         }
         GraphQLSchema graphQLSchema = schemaGenerator.makeExecutableSchema(typeRegistry,
                 RuntimeWiring.MOCKED_WIRING);
         return graphQLSchema;
     }
 
+    /**
+     * Returns the path of the Ballerina home directory, which keeps the caches of the GraphQL tool by default.
+     *
+     * @return                                      the path of the Ballerina home directory
+     */
+    public static Path getBallerinaHomePath() {
+        String ballerinaHome = System.getenv(BALLERINA_HOME_DIR_ENV);
+        return ballerinaHome != null && !ballerinaHome.isBlank() ?
+                Paths.get(ballerinaHome) : Paths.get(System.getProperty(USER_HOME), BALLERINA_HOME_DIR);
+    }
+
+    /**
+     * Returns the schema cache under the Ballerina home directory, which is the default location of the caches of the
+     * GraphQL tool.
+     *
+     * @return                                      the schema cache under the Ballerina home directory
+     */
+    public static SchemaCache getDefaultSchemaCache() {
+        return new SchemaCache(getBallerinaHomePath().resolve(SCHEMA_CACHE_DIR));
+    }
+
     /**
      * Extracts the schema content.
      *
@@ -178,21 +242,33 @@ public class Utils {
      * @throws IOException         If an I/O error occurs
      */
     public static void validateGraphqlProject(GraphqlProject project) throws ValidationException, IOException {
-        String schema = project.getSchema();
-
-        Extension extensions = null;
-        if (project.getGenerationType() == GenerationType.CLIENT) {
-            GraphqlClientProject clientProject = (GraphqlClientProject) project;
-            extensions = clientProject.getExtensions();
-        }
+        validateGraphqlProject(project, new SchemaRegistry(null, null, false));
+    }
 
+    /**
+     * Validates the GraphQL schema (SDL) of the given project, sharing the `GraphQLSchema` instance of the schema
+     * registry with the other projects of the same schema source.
+     *
+     * @param project               the instance of the Graphql project
+     * @param schemaRegistry        the schema registry of the run
+     * @throws ValidationException when a validation error occurs
+     * @throws IOException         If an I/O error occurs
+     */
+    public static void validateGraphqlProject(GraphqlProject project, SchemaRegistry schemaRegistry)
+            throws ValidationException, IOException {
         try {
-            GraphQLSchema graphQLSchema = Utils.getGraphQLSchemaDocument(schema, extensions);
-            project.setGraphQLSchema(graphQLSchema);
+            project.setGraphQLSchema(schemaRegistry.getGraphQLSchema(project));
         } catch (IntospectionException e) {
             throw new ValidationException(e.getMessage(), project.getName());
         } catch (SchemaProblem e) {
             throw new SDLValidationException("GraphQL SDL validation failed.", e.getErrors(), project.getName());
         }
     }
+
+    static Extension getExtensions(GraphqlProject project) {
+        if (project.getGenerationType() == GenerationType.CLIENT) {
+            return ((GraphqlClientProject) project).getExtensions();
+        }
+        return null;
+    }
 }
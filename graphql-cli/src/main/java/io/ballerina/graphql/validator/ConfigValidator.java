@@ -40,6 +40,7 @@ import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_EMPTY_PROJECT;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_DOCUMENT_PATH;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_SCHEMA_PATH;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_SCHEMA_URL;
+import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_INVALID_TYPES_SHARD_SIZE;
 import static io.ballerina.graphql.cmd.Constants.MESSAGE_FOR_MISSING_SCHEMA_OR_DOCUMENTS;
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
 import static io.ballerina.graphql.cmd.Utils.isValidURL;
@@ -116,6 +117,10 @@ public class ConfigValidator {
         if (!(schema != null && documents != null)) {
             throw new ValidationException(MESSAGE_FOR_MISSING_SCHEMA_OR_DOCUMENTS, project.getName());
         }
+        Extension extensions = project.getExtensions();
+        if (extensions != null && extensions.getTypesShardSize() < 0) {
+            throw new ValidationException(MESSAGE_FOR_INVALID_TYPES_SHARD_SIZE, project.getName());
+        }
 
         try {
             validateSchema(schema);
@@ -25,7 +25,7 @@ import graphql.validation.Validator;
 import io.ballerina.graphql.exception.QueryValidationException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
 
 import java.io.IOException;
 import java.util.List;
@@ -34,12 +34,9 @@ import java.util.List;
  * This class is used to validate the GraphQL query files.
  */
 public class QueryValidator {
-    private static QueryValidator queryValidator = null;
+    private static final QueryValidator queryValidator = new QueryValidator();
 
     public static QueryValidator getInstance() {
-        if (queryValidator == null) {
-            queryValidator = new QueryValidator();
-        }
         return queryValidator;
     }
 
@@ -54,10 +51,11 @@ public class QueryValidator {
         List<String> documents = project.getDocuments();
         GraphQLSchema graphQLSchema = project.getGraphQLSchema();
         String projectName = project.getName();
+        QueryDocumentRegistry documentRegistry = project.getDocumentRegistry();
 
         for (String document : documents) {
             try {
-                validateDocument(graphQLSchema, document, projectName);
+                validateDocument(graphQLSchema, documentRegistry, document, projectName);
             } catch (QueryValidationException e) {
                 throw new ValidationException(e.getMessage());
             }
@@ -68,14 +66,16 @@ public class QueryValidator {
      * Validates a GraphQL query file (document) with the given GraphQL schema (SDL).
      *
      * @param graphQLSchema                         the GraphQL schema instance
+     * @param documentRegistry                      the registry of the parsed GraphQL query documents
      * @param document                              the GraphQL query document value
      * @param projectName                           the name of the project
      * @throws QueryValidationException             If a GraphQL queries related error occurs
      * @throws IOException                          If an I/O error occurs
      */
-    private void validateDocument(GraphQLSchema graphQLSchema, String document, String projectName)
+    private void validateDocument(GraphQLSchema graphQLSchema, QueryDocumentRegistry documentRegistry,
+                                  String document, String projectName)
             throws QueryValidationException, IOException {
-        Document parsedDocument = Utils.getGraphQLQueryDocument(document);
+        Document parsedDocument = documentRegistry.getDocument(document);
 
         Validator validator = new Validator();
         List<ValidationError> validationErrors = validator.validateDocument(graphQLSchema, parsedDocument);
@@ -37,6 +37,498 @@ isolated function performDataBinding(json graphqlResponse, typedesc<DataResponse
     }
 }
 
+# Creates the HTTP client which sends the automatic persisted queries and the batched operations.
+#
+# + serviceUrl - URL of the target service
+# + graphqlClientConfig - The configurations of the GraphQL client
+# + return - Returns the HTTP client or error at failure of client initialization
+isolated function getHttpClient(string serviceUrl, graphql:ClientConfiguration graphqlClientConfig)
+                                returns http:Client|graphql:ClientError {
+    do {
+        var {validation: _, ...clientConfig} = graphqlClientConfig;
+        http:ClientConfiguration httpClientConfig = check clientConfig.cloneWithType();
+        http:Client httpClient = check new (serviceUrl, httpClientConfig);
+        return httpClient;
+    } on fail var e {
+        return <graphql:ClientError> error("GraphQL Client Error", e, body = ());
+    }
+}
+
+# Executes an operation as an automatic persisted query. Only the hash of the query is sent at first, and the query
+# is sent along with the hash if the server has not persisted the query yet.
+#
+# + httpClient - The HTTP client which sends the persisted queries
+# + query - The GraphQL document of the operation
+# + queryHash - The SHA-256 hash of the GraphQL document
+# + variables - The variables of the operation
+# + headers - The HTTP headers of the request
+# + return - Returns the GraphQL response or error at failure of the operation
+isolated function executePersistedQuery(http:Client httpClient, string query, string queryHash,
+                                        map<anydata> variables, map<string|string[]>? headers = ())
+                                        returns json|graphql:ClientError {
+    do {
+        map<json> extensions = {"persistedQuery": {"version": 1, "sha256Hash": queryHash}};
+        json variablesJson = variables.toJson();
+        json graphqlResponse = check httpClient->post("", {variables: variablesJson, extensions}, headers);
+        if isPersistedQueryNotFound(graphqlResponse) {
+            graphqlResponse = check httpClient->post("", {query, variables: variablesJson, extensions}, headers);
+        }
+        return handleGraphqlErrors(graphqlResponse);
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Executes the given operations as a single batched request. The operations are sent as a JSON array and the
+# responses are bound to the types of the operations in the same order. The error of an operation does not fail
+# the other operations of the batch.
+#
+# + httpClient - The HTTP client which sends the batched operations
+# + operations - The operations of the batch
+# + headers - The HTTP headers of the request
+# + return - Returns the responses of the operations or error at failure of the batched request
+isolated function executeBatchOperations(http:Client httpClient, BatchOperation[] operations,
+                                         map<string|string[]>? headers = ())
+                                         returns BatchResponse[]|graphql:ClientError {
+    do {
+        json[] batchPayload = from BatchOperation operation in operations
+            select {query: operation.query, variables: operation.variables.toJson()};
+        json[] batchResponse = check httpClient->post("", batchPayload, headers);
+        if batchResponse.length() != operations.length() {
+            fail error("The batched response does not contain a response for each operation");
+        }
+        BatchResponse[] responses = [];
+        foreach int index in 0 ..< operations.length() {
+            json|graphql:ClientError graphqlResponse = handleGraphqlErrors(batchResponse[index]);
+            if graphqlResponse is graphql:ClientError {
+                responses.push(graphqlResponse);
+                continue;
+            }
+            typedesc<DataResponse> targetType = check operations[index].targetType.ensureType();
+            responses.push(performDataBinding(graphqlResponse, targetType));
+        }
+        return responses;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Returns the GraphQL response, or the server error if the response contains errors.
+#
+# + graphqlResponse - The GraphQL response
+# + return - Returns the GraphQL response or the server error
+isolated function handleGraphqlErrors(json graphqlResponse) returns json|graphql:ClientError {
+    do {
+        map<json> responseMap = check graphqlResponse.ensureType();
+        if responseMap.hasKey("errors") {
+            graphql:ErrorDetail[] errors = check responseMap.get("errors").cloneWithType();
+            map<json>? responseExtensions = check responseMap["extensions"].ensureType();
+            return error graphql:ServerError("GraphQL Server Error", data = responseMap["data"], errors = errors,
+                                             extensions = responseExtensions);
+        }
+        return graphqlResponse;
+    } on fail var e {
+        return error graphql:RequestError("GraphQL Client Error", e);
+    }
+}
+
+# Checks whether the server has responded that the persisted query is not found.
+#
+# + graphqlResponse - The GraphQL response
+# + return - Returns `true` if the persisted query is not found
+isolated function isPersistedQueryNotFound(json graphqlResponse) returns boolean {
+    json|error errors = graphqlResponse.errors;
+    if errors !is json[] {
+        return false;
+    }
+    foreach json graphqlError in errors {
+        json|error message = graphqlError.message;
+        json|error code = graphqlError.extensions.code;
+        if (message is string && message == "PersistedQueryNotFound") ||
+                (code is string && code == "PERSISTED_QUERY_NOT_FOUND") {
+            return true;
+        }
+    }
+    return false;
+}
+
+# Represents a bounded in-memory cache of the query responses. A cached response is reused until it expires, and the
+# oldest responses are evicted when the cache is full. The keys are queued in the order they are cached, so that the
+# expired and the oldest entries are found without going through all the entries.
+isolated class ResponseCache {
+    private final int maxEntries;
+    private final decimal ttl;
+    private final map<CachedResponse> entries = {};
+    private [string, decimal][] order = [];
+    private int head = 0;
+
+    isolated function init(ResponseCacheConfig config) {
+        self.maxEntries = config.maxEntries;
+        self.ttl = config.ttl;
+    }
+
+    # Gets the cached response of a given key.
+    #
+    # + key - The cache key of the operation
+    # + return - Returns the cached response or `()` if the response is not cached or has expired
+    isolated function get(string key) returns json {
+        lock {
+            CachedResponse? cachedResponse = self.entries[key];
+            if cachedResponse is () {
+                return ();
+            }
+            if time:monotonicNow() - cachedResponse.cachedTime >= self.ttl {
+                _ = self.entries.remove(key);
+                return ();
+            }
+            return cachedResponse.response;
+        }
+    }
+
+    # Caches the response of a given key. The expired entries are removed first, and the oldest entries are evicted
+    # only if the cache is still full.
+    #
+    # + key - The cache key of the operation
+    # + response - The GraphQL response of the operation
+    isolated function put(string key, json response) {
+        if self.maxEntries <= 0 {
+            return;
+        }
+        decimal now = time:monotonicNow();
+        CachedResponse cachedResponse = {response: response.cloneReadOnly(), cachedTime: now};
+        lock {
+            _ = self.entries.removeIfHasKey(key);
+            // The entries expire in the order they are cached, so the expired entries are at the head of the queue
+            while self.head < self.order.length() {
+                [string, decimal] [oldestKey, oldestTime] = self.order[self.head];
+                if self.isCached(oldestKey, oldestTime) {
+                    if now - oldestTime < self.ttl && self.entries.length() < self.maxEntries {
+                        break;
+                    }
+                    _ = self.entries.remove(oldestKey);
+                }
+                self.head += 1;
+            }
+            self.entries[key] = cachedResponse;
+            self.order.push([key, now]);
+            self.compactOrder();
+        }
+    }
+
+    # Checks whether a queued key still refers to a cached entry. The queued key is stale if the entry has been
+    # removed or cached again since the key was queued.
+    #
+    # + key - The queued key
+    # + cachedTime - The time the entry of the queued key was cached
+    # + return - Returns `true` if the entry cached at the given time is still in the cache
+    isolated function isCached(string key, decimal cachedTime) returns boolean {
+        lock {
+            CachedResponse? cachedResponse = self.entries[key];
+            return cachedResponse !is () && cachedResponse.cachedTime == cachedTime;
+        }
+    }
+
+    # Drops the dequeued and the stale keys from the queue once they outnumber the entries of the cache, so that the
+    # queue stays bounded and is copied only after at least `maxEntries` puts.
+    isolated function compactOrder() {
+        lock {
+            if self.order.length() - self.head <= 2 * self.maxEntries {
+                if self.head > self.maxEntries {
+                    self.order = self.order.slice(self.head);
+                    self.head = 0;
+                }
+                return;
+            }
+            [string, decimal][] order = [];
+            foreach int i in self.head ..< self.order.length() {
+                [string, decimal] [queuedKey, cachedTime] = self.order[i];
+                if self.isCached(queuedKey, cachedTime) {
+                    order.push([queuedKey, cachedTime]);
+                }
+            }
+            self.order = order;
+            self.head = 0;
+        }
+    }
+}
+
+# Creates the cache key of an operation from the hash of the operation and its variables. The variables are
+# canonicalised, so that the same variables give the same key regardless of the order of their fields.
+#
+# + queryHash - The SHA-256 hash of the GraphQL document
+# + variables - The variables of the operation
+# + return - Returns the cache key of the operation
+isolated function getCacheKey(string queryHash, map<anydata> variables) returns string {
+    return queryHash + ":" + getCanonicalJsonString(variables.toJson());
+}
+
+# Serializes a JSON value with the fields of the mappings sorted by their keys.
+#
+# + value - The JSON value
+# + return - Returns the canonical JSON string of the value
+isolated function getCanonicalJsonString(json value) returns string {
+    if value is map<json> {
+        string[] fields = from string key in value.keys().sort()
+            select key.toJsonString() + ":" + getCanonicalJsonString(value.get(key));
+        return "{" + string:'join(",", ...fields) + "}";
+    }
+    if value is json[] {
+        string[] items = from json item in value select getCanonicalJsonString(item);
+        return "[" + string:'join(",", ...items) + "]";
+    }
+    return value.toJsonString();
+}
+
+# The WebSocket subprotocol the subscriptions are sent with.
+const GRAPHQL_TRANSPORT_WS = "graphql-transport-ws";
+
+# The ID of a subscription. Each subscription has its own connection, so the ID is the same for all subscriptions.
+const SUBSCRIPTION_ID = "1";
+
+# The time (in seconds) to wait before checking the buffer of a subscription again, when the responses are read in
+# the background.
+const decimal SUBSCRIPTION_POLL_INTERVAL = 0.01;
+
+# Gets the WebSocket URL the subscriptions are sent to. The URL is derived from the service URL by replacing the
+# HTTP scheme with the WebSocket scheme if it is not configured.
+#
+# + serviceUrl - URL of the target service
+# + config - The configurations of the subscriptions
+# + return - Returns the WebSocket URL of the subscriptions
+isolated function getSubscriptionUrl(string serviceUrl, SubscriptionConfig config) returns string {
+    string? url = config.url;
+    if url is string {
+        return url;
+    }
+    if serviceUrl.startsWith("https://") {
+        return "wss://" + serviceUrl.substring(8);
+    }
+    if serviceUrl.startsWith("http://") {
+        return "ws://" + serviceUrl.substring(7);
+    }
+    return serviceUrl;
+}
+
+# Represents a subscription over a WebSocket connection with the graphql-transport-ws protocol. The class is the
+# iterator of the stream of the subscription. With the `BLOCK` backpressure policy, a response is read from the
+# connection only when the next response is requested, so that the server is slowed down by the flow control of the
+# connection. With the other policies, the messages are read in the background into a bounded buffer, and the policy
+# decides what happens when a response is received while the buffer is full.
+isolated class SubscriptionStream {
+    private final websocket:Client wsClient;
+    private final int bufferSize;
+    private final BackpressurePolicy backpressurePolicy;
+    private final (readonly & json)[] buffer = [];
+    private boolean completed = false;
+    private graphql:ClientError? failure = ();
+
+    isolated function init(string url, SubscriptionConfig config, string query, map<anydata> variables,
+                           map<string|string[]>? headers = ()) returns graphql:ClientError? {
+        websocket:Client|error wsClient = openSubscription(url, query, variables, headers);
+        if wsClient is error {
+            return error graphql:RequestError("GraphQL Client Error", wsClient);
+        }
+        self.wsClient = wsClient;
+        self.bufferSize = config.bufferSize > 0 ? config.bufferSize : 1;
+        self.backpressurePolicy = config.backpressurePolicy;
+        if self.backpressurePolicy != BACKPRESSURE_BLOCK {
+            _ = start self.readMessages();
+        }
+    }
+
+    # Gets the next response of the subscription, waiting until a response is received. With the `BLOCK` policy,
+    # the response is read from the connection by this call. With the other policies, the buffer is checked again
+    # after the poll interval until a response is read in the background.
+    #
+    # + return - Returns the next response, `()` if the subscription has completed, or the error which ended the
+    # subscription
+    public isolated function next() returns record {| json value; |}|graphql:ClientError? {
+        if self.backpressurePolicy == BACKPRESSURE_BLOCK {
+            record {| json value; |}|error? response = self.readResponse();
+            if response is record {| json value; |} {
+                return response;
+            }
+            if response is error {
+                _ = self.complete(error graphql:RequestError("GraphQL Client Error", response));
+            }
+        }
+        while true {
+            boolean completed;
+            lock {
+                if self.buffer.length() > 0 {
+                    return {value: self.buffer.shift()};
+                }
+                completed = self.completed;
+            }
+            if completed {
+                graphql:ClientError? closeError = self.closeConnection();
+                lock {
+                    return self.failure ?: closeError;
+                }
+            }
+            runtime:sleep(SUBSCRIPTION_POLL_INTERVAL);
+        }
+    }
+
+    # Stops the subscription and closes its connection.
+    #
+    # + return - Returns an error if the connection cannot be closed
+    public isolated function close() returns graphql:ClientError? {
+        if self.complete(()) && self.wsClient.isOpen() {
+            websocket:Error? writeError =
+                self.wsClient->writeTextMessage({"id": SUBSCRIPTION_ID, "type": "complete"}.toJsonString());
+            if writeError is websocket:Error {
+                return error graphql:RequestError("GraphQL Client Error", writeError);
+            }
+        }
+        return self.closeConnection();
+    }
+
+    # Reads the messages of the subscription in the background until the subscription is completed by the server or
+    # the client.
+    isolated function readMessages() {
+        do {
+            while true {
+                record {| json value; |}? response = check self.readResponse();
+                if response is () {
+                    return;
+                }
+                check self.offer(response.value);
+            }
+        } on fail var e {
+            _ = self.complete(error graphql:RequestError("GraphQL Client Error", e));
+        }
+    }
+
+    # Reads the messages of the subscription from the connection until a response is received, answering the pings
+    # of the server in the meantime.
+    #
+    # + return - Returns the next response, `()` if the subscription has completed, or an error if a message cannot
+    # be read
+    isolated function readResponse() returns record {| json value; |}|error? {
+        while !self.isCompleted() {
+            json message = check (check self.wsClient->readTextMessage()).fromJsonString();
+            string messageType = check (check message.'type).ensureType();
+            if messageType == "ping" {
+                check self.wsClient->writeTextMessage({"type": "pong"}.toJsonString());
+            } else if messageType == "next" {
+                json|graphql:ClientError payload = handleGraphqlErrors(check message.payload);
+                if payload is graphql:ClientError {
+                    _ = self.complete(payload);
+                } else {
+                    return {value: payload};
+                }
+            } else if messageType == "error" {
+                graphql:ErrorDetail[] errors = check (check message.payload).cloneWithType();
+                _ = self.complete(error graphql:ServerError("GraphQL Server Error", data = (), errors = errors,
+                                                           extensions = ()));
+            } else if messageType == "complete" {
+                _ = self.complete(());
+            }
+        }
+        return ();
+    }
+
+    # Adds a response received in the background to the buffer according to the backpressure policy.
+    #
+    # + response - The received response
+    # + return - Returns an error if the buffer is full with the `ERROR` policy
+    isolated function offer(json response) returns error? {
+        readonly & json value = response.cloneReadOnly();
+        lock {
+            if self.completed {
+                return;
+            }
+            if self.buffer.length() < self.bufferSize {
+                self.buffer.push(value);
+                return;
+            }
+            if self.backpressurePolicy == BACKPRESSURE_DROP_OLDEST {
+                _ = self.buffer.shift();
+                self.buffer.push(value);
+                return;
+            }
+            if self.backpressurePolicy == BACKPRESSURE_ERROR {
+                return error("The buffer of the subscription is full");
+            }
+            // The response is dropped with the `DROP_LATEST` policy
+        }
+    }
+
+    # Marks the subscription as completed, if it has not completed already.
+    #
+    # + failure - The error which ended the subscription, or `()` if the subscription has completed normally
+    # + return - Returns `true` if the subscription was completed by this call
+    isolated function complete(graphql:ClientError? failure) returns boolean {
+        lock {
+            if self.completed {
+                return false;
+            }
+            self.completed = true;
+            self.failure = failure;
+            return true;
+        }
+    }
+
+    isolated function isCompleted() returns boolean {
+        lock {
+            return self.completed;
+        }
+    }
+
+    isolated function closeConnection() returns graphql:ClientError? {
+        if !self.wsClient.isOpen() {
+            return;
+        }
+        websocket:Error? closeError = self.wsClient->close();
+        if closeError is websocket:Error {
+            return error graphql:RequestError("GraphQL Client Error", closeError);
+        }
+    }
+}
+
+# Opens a WebSocket connection with the graphql-transport-ws protocol and subscribes to the given operation.
+#
+# + url - The WebSocket URL of the service
+# + query - The GraphQL document of the subscription
+# + variables - The variables of the subscription
+# + headers - The HTTP headers of the WebSocket handshake
+# + return - Returns the WebSocket client of the subscription or error at failure of the subscription
+isolated function openSubscription(string url, string query, map<anydata> variables,
+                                   map<string|string[]>? headers) returns websocket:Client|error {
+    map<string> customHeaders = {};
+    if headers is map<string|string[]> {
+        foreach [string, string|string[]] [key, value] in headers.entries() {
+            customHeaders[key] = value is string ? value : string:'join(",", ...value);
+        }
+    }
+    websocket:Client wsClient = check new (url, {subProtocols: [GRAPHQL_TRANSPORT_WS], customHeaders});
+    check wsClient->writeTextMessage({"type": "connection_init", "payload": {}}.toJsonString());
+    while true {
+        json message = check (check wsClient->readTextMessage()).fromJsonString();
+        string messageType = check (check message.'type).ensureType();
+        if messageType == "connection_ack" {
+            break;
+        }
+        if messageType != "ping" {
+            return error(string `Unexpected message before the connection is acknowledged: ${messageType}`);
+        }
+        check wsClient->writeTextMessage({"type": "pong"}.toJsonString());
+    }
+    check wsClient->writeTextMessage({"id": SUBSCRIPTION_ID, "type": "subscribe",
+                                      "payload": {query, variables: variables.toJson()}}.toJsonString());
+    return wsClient;
+}
+
+# Represents a cached response of a query along with the time it was cached.
+#
+# + response - The GraphQL response of the query
+# + cachedTime - The monotonic time (in seconds) the response was cached
+type CachedResponse readonly & record {|
+   json response;
+   decimal cachedTime;
+|};
+
 # Represents return types of a GraphQL operation.
 type OperationResponse record {| anydata...; |}|record {| anydata...; |}[]|boolean|string|int|float|();
 
@@ -47,3 +539,21 @@ type DataResponse record {|
    map<json?> __extensions?;
    OperationResponse ...;
 |};
+
+# Represents an operation of a batched request.
+#
+# + query - The GraphQL document of the operation
+# + variables - The variables of the operation
+# + targetType - The type the response of the operation is bound to
+public type BatchOperation record {|
+   string query;
+   map<anydata> variables;
+   typedesc<record {| anydata...; |}> targetType;
+|};
+
+# Represents the response of an operation of a batched request.
+public type BatchResponse record {| anydata...; |}|graphql:ClientError;
+
+# The variables of the operations without variables. The constant is shared by all the operations, as the variables
+# of an operation without variables are never modified.
+const map<anydata> EMPTY_VARIABLES = {};
@@ -63,7 +63,40 @@ public class GraphqlCmdTest extends GraphqlTest {
     @Test(description = "Test successful graphql command execution")
     public void testExecute() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        try {
+            graphqlCmd.execute();
+
+            Path expectedClientFile = resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"));
+            Path expectedTypesFile = resourceDir.resolve(Paths.get("expectedGenCode", "types.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+            String expectedTypesContent = readContent(expectedTypesFile);
+
+            if (Files.exists(this.tmpDir.resolve("client.bal")) && Files.exists(this.tmpDir.resolve("types.bal"))) {
+                String generatedClientContent = readContent(this.tmpDir.resolve("client.bal"));
+                String generatedTypesContent = readContent(this.tmpDir.resolve("types.bal"));
+
+                Assert.assertEquals(expectedClientContent, generatedClientContent);
+                Assert.assertEquals(expectedTypesContent, generatedTypesContent);
+            } else {
+                Assert.fail("Code generation failed. : " + readOutput(true));
+            }
+        } catch (BLauncherException | IOException e) {
+            String output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
+    @Test(description = "Test successful graphql command execution with fast-emit flag")
+    public void testExecuteWithFastEmitFlag() {
+        Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--fast-emit"};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
 
         new CommandLine(graphqlCmd).parseArgs(args);
@@ -95,7 +128,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     public void testExecuteWithModeFlag() {
         Path graphql = resourceDir.resolve(
                 Paths.get("serviceGen", "graphqlSchemas", "valid", "SchemaWithSingleObjectApi.graphql"));
-        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString(), "--mode", "service"};
+        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -123,7 +157,7 @@ public class GraphqlCmdTest extends GraphqlTest {
     public void testExecutionWithoutModeFlagForGraphqlFileInput() {
         Path graphql = resourceDir.resolve(
                 Paths.get("serviceGen", "graphqlSchemas", "valid", "SchemaWithSingleObjectApi.graphql"));
-        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString(), "--cache-dir", this.tmpDir.toString()};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -151,7 +185,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     public void testExecutionWithModeAndUseRecordsForObjectsFlags() {
         Path graphql = resourceDir.resolve(
                 Paths.get("serviceGen", "graphqlSchemas", "valid", "SchemaWithObjectTakingInputArgumentApi.graphql"));
-        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString(), "--mode", "service",
+        String[] args = {"-i", graphql.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", "service",
                 "--use-records-for-objects"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
@@ -214,7 +249,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     @Test(description = "Test graphql command execution with invalid config file extension")
     public void testExecuteWithInvalidConfigFileExtension() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql.config.yam"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
@@ -238,7 +274,8 @@ public class GraphqlCmdTest extends GraphqlTest {
             dataProvider = "invalidFileNameExtension")
     public void testExecuteWithInvalidFileExtensions(String invalidFileNameExtension) {
         Path filePath = resourceDir.resolve(Paths.get("specs", invalidFileNameExtension));
-        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -263,7 +300,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     )
     public void testExecuteWithMismatchModeAndFileExtension(String mode, String fileName) {
         Path filePath = resourceDir.resolve(Paths.get("specs", fileName));
-        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(), "--mode", mode};
+        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", mode};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -287,7 +325,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     )
     public void testExecuteWithUseRecordsForObjectsFlagAndIncompatibleMode(String mode, String fileName) {
         Path filePath = resourceDir.resolve(Paths.get("specs", fileName));
-        String[] args = new String[]{"-i", filePath.toString(), "-o", this.tmpDir.toString(), "--mode", mode,
+        String[] args = new String[]{"-i", filePath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", mode,
                 "--use-records-for-objects"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
@@ -301,10 +340,26 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test graphql command execution with the offline flag and the no-cache flag")
+    public void testExecuteWithOfflineAndNoCacheFlags() {
+        Path filePath = resourceDir.resolve(Paths.get("specs", "graphql.config.yaml"));
+        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(), "--offline", "--no-cache"};
+        try {
+            GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+            new CommandLine(graphqlCmd).parseArgs(args);
+            graphqlCmd.execute();
+            String output = readOutput(true);
+            Assert.assertTrue(output.contains(Constants.MESSAGE_FOR_OFFLINE_WITHOUT_CACHE));
+        } catch (BLauncherException | IOException e) {
+            Assert.fail(e.toString());
+        }
+    }
+
     @Test(description = "Test graphql command execution with invalid schema file path")
     public void testExecuteWithInvalidSchemaFilePath() {
         Path filePath = resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", "schema.graphql"));
-        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(), "--mode", "service"};
+        String[] args = {"-i", filePath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -320,7 +375,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     @Test(description = "Test graphql command execution with empty config file")
     public void testExecuteWithEmptyConfigFile() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "empty.graphql.config.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
@@ -337,7 +393,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     @Test(description = "Test graphql command execution with invalid config file content")
     public void testExecuteWithInvalidConfigFileContent() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "invalid.graphql.config.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
@@ -354,7 +411,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     @Test(description = "Test successful graphql command execution with projects in config file")
     public void testExecuteWithProjects() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-projects.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
 
@@ -384,10 +442,44 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
+    @Test(description = "Test successful graphql command execution with multiple projects in parallel")
+    public void testExecuteWithProjectsInParallel() {
+        Path graphqlConfigYaml =
+                resourceDir.resolve(Paths.get("specs", "graphql-config-with-multiple-projects.yaml"));
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--parallel=2"};
+        GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
+        new CommandLine(graphqlCmd).parseArgs(args);
+
+        try {
+            graphqlCmd.execute();
+
+            Path expectedClientFile = resourceDir.resolve(Paths.get("expectedGenCode", "client.bal"));
+            Path expectedTypesFile = resourceDir.resolve(Paths.get("expectedGenCode", "types.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+            String expectedTypesContent = readContent(expectedTypesFile);
+
+            for (String projectName : new String[]{"country", "countries"}) {
+                Path clientFile = this.tmpDir.resolve(Paths.get("modules", projectName, "client.bal"));
+                Path typesFile = this.tmpDir.resolve(Paths.get("modules", projectName, "types.bal"));
+                if (Files.exists(clientFile) && Files.exists(typesFile)) {
+                    Assert.assertEquals(expectedClientContent, readContent(clientFile));
+                    Assert.assertEquals(expectedTypesContent, readContent(typesFile));
+                } else {
+                    Assert.fail("Code generation failed. : " + readOutput(true));
+                }
+            }
+        } catch (BLauncherException | IOException e) {
+            String output = e.toString();
+            Assert.fail(output);
+        }
+    }
+
     @Test(description = "Test successful graphql command execution with schema URL in config file", enabled = false)
     public void testExecuteWithSchemaUrl() {
         Path graphqlConfigYaml = resourceDir.resolve(Paths.get("specs", "graphql-config-with-schema-url.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
 
@@ -418,7 +510,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     public void testExecuteWithInvalidIntrospectionUrl() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-introspection-url.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
 
@@ -437,7 +530,8 @@ public class GraphqlCmdTest extends GraphqlTest {
     public void testExecuteWithUnsupportedOperations1() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-schema-with-unsupported-operations.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
 
@@ -453,22 +547,31 @@ public class GraphqlCmdTest extends GraphqlTest {
         }
     }
 
-    @Test(description = "Test error message of unsupported operations in schema")
-    public void testExecuteWithUnsupportedOperations2() {
+    @Test(description = "Test successful graphql command execution with subscription operations")
+    public void testExecuteWithSubscriptions() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-schema-with-subscription.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
 
-        String output = "";
         try {
             graphqlCmd.execute();
-            output = readOutput(true);
-            Assert.assertTrue(output.contains(
-                    "The provided schema includes operations that are not supported by the client generation."));
+            if (Files.exists(this.tmpDir.resolve("client.bal")) && Files.exists(this.tmpDir.resolve("utils.bal"))) {
+                String generatedClientContent = readContent(this.tmpDir.resolve("client.bal"));
+                String generatedUtilsContent = readContent(this.tmpDir.resolve("utils.bal"));
+                String generatedConfigTypesContent = readContent(this.tmpDir.resolve("config_types.bal"));
+
+                Assert.assertTrue(generatedClientContent.contains(
+                        "returnsstream<MySubResponse,graphql:ClientError?>|graphql:ClientError"));
+                Assert.assertTrue(generatedUtilsContent.contains("isolatedclassSubscriptionStream"));
+                Assert.assertTrue(generatedConfigTypesContent.contains("SubscriptionConfigsubscription={};"));
+            } else {
+                Assert.fail("Code generation failed. : " + readOutput(true));
+            }
         } catch (BLauncherException | IOException e) {
-            output = e.toString();
+            String output = e.toString();
             Assert.fail(output);
         }
     }
@@ -18,22 +18,35 @@
 
 package io.ballerina.graphql.cmd;
 
+import com.sun.net.httpserver.HttpServer;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.IntrospectionCache;
 import io.ballerina.graphql.generator.client.Introspector;
 import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Introspection;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
 
 import static io.ballerina.graphql.cmd.Constants.URL_RECOGNIZER;
 
@@ -85,4 +98,201 @@ public class IntrospectorTest extends GraphqlTest {
             Assert.fail("Error while introspecting. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test successful introspection with a retry and a compressed response")
+    @SuppressWarnings("unchecked")
+    public void testGetIntrospectionResultWithRetryAndCompression() throws IOException, IntospectionException {
+        byte[] compressedResponse = getCompressedContent("{\"data\":{\"__schema\":{\"types\":[" +
+                "{\"kind\":\"OBJECT\",\"name\":\"Query\",\"description\":null}]}}}");
+        AtomicInteger attempts = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/graphql", exchange -> {
+            if (attempts.incrementAndGet() == 1) {
+                exchange.sendResponseHeaders(503, -1);
+            } else if ("gzip, deflate".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, compressedResponse.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(compressedResponse);
+                }
+            } else {
+                exchange.sendResponseHeaders(400, -1);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        Introspection introspection = new Introspection();
+        introspection.setRetryBackoff(1);
+        Extension extensions = new Extension();
+        extensions.setIntrospection(introspection);
+        try {
+            Map<String, Object> introspectionResult = Introspector.getInstance().getIntrospectionResult(
+                    "http://localhost:" + server.getAddress().getPort() + "/graphql", extensions);
+            Map<String, Object> schema = (Map<String, Object>) introspectionResult.get("__schema");
+            List<Object> types = (List<Object>) schema.get("types");
+            Assert.assertEquals(types.size(), 1);
+            Assert.assertEquals(((Map<String, Object>) types.get(0)).get("name"), "Query");
+            Assert.assertEquals(attempts.get(), 2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "Test unsuccessful introspection when the request times out")
+    public void testGetIntrospectionResultWithRequestTimeout() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/graphql", exchange -> {
+            try {
+                Thread.sleep(3000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+
+        Introspection introspection = new Introspection();
+        introspection.setRequestTimeout(1);
+        introspection.setMaxRetries(0);
+        Extension extensions = new Extension();
+        extensions.setIntrospection(introspection);
+        try {
+            Introspector.getInstance().getIntrospectionResult(
+                    "http://localhost:" + server.getAddress().getPort() + "/graphql", extensions);
+            Assert.fail("Expected the introspection to time out.");
+        } catch (IntospectionException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to retrieve SDL."));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "Test unsuccessful introspection when the response contains errors")
+    public void testGetIntrospectionResultWithErrors() throws IOException {
+        byte[] response = "{\"errors\":[{\"message\":\"Introspection is disabled\"}]}"
+                .getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/graphql", exchange -> {
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            Introspector.getInstance().getIntrospectionResult(
+                    "http://localhost:" + server.getAddress().getPort() + "/graphql", null);
+            Assert.fail("Expected the introspection to fail.");
+        } catch (IntospectionException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to retrieve SDL."));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "Test successful introspection with a cached introspection result")
+    public void testGetIntrospectionResultWithCache() throws IOException, IntospectionException {
+        byte[] response = "{\"data\":{\"__schema\":{\"types\":[]}}}".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger fullResponses = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/graphql", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                fullResponses.incrementAndGet();
+                exchange.getResponseHeaders().add("ETag", "\"v1\"");
+                exchange.sendResponseHeaders(200, response.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(response);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        String schema = "http://localhost:" + server.getAddress().getPort() + "/graphql";
+        IntrospectionCache introspectionCache =
+                new IntrospectionCache(this.tmpDir.resolve("graphql-introspection-cache"));
+        try {
+            Map<String, Object> introspectionResult = Introspector.getInstance()
+                    .getIntrospectionResult(schema, null, introspectionCache, false);
+            Map<String, Object> cachedIntrospectionResult = Introspector.getInstance()
+                    .getIntrospectionResult(schema, null, introspectionCache, false);
+            Assert.assertEquals(cachedIntrospectionResult, introspectionResult);
+            Assert.assertEquals(fullResponses.get(), 1);
+        } finally {
+            server.stop(0);
+        }
+
+        Map<String, Object> offlineIntrospectionResult = Introspector.getInstance()
+                .getIntrospectionResult(schema, null, introspectionCache, true);
+        Assert.assertTrue(offlineIntrospectionResult.containsKey("__schema"));
+        try {
+            Introspector.getInstance().getIntrospectionResult(schema + "/v2", null, introspectionCache, true);
+            Assert.fail("Expected the offline introspection to fail without a cached introspection result.");
+        } catch (IntospectionException e) {
+            Assert.assertTrue(e.getMessage().startsWith("No introspection snapshot is found"));
+        }
+    }
+
+    @Test(description = "Test concurrent introspection of the distinct schema URLs of the projects")
+    public void testIntrospectGraphqlProjectsConcurrently() throws IOException, InterruptedException {
+        byte[] response = "{\"data\":{\"__schema\":{\"types\":[]}}}".getBytes(StandardCharsets.UTF_8);
+        CountDownLatch pendingRequests = new CountDownLatch(2);
+        AtomicInteger concurrentRequests = new AtomicInteger();
+        AtomicInteger totalRequests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        ExecutorService serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            totalRequests.incrementAndGet();
+            pendingRequests.countDown();
+            try {
+                // Each request waits for the other request, so they succeed only if they are in flight together
+                if (pendingRequests.await(5, TimeUnit.SECONDS)) {
+                    concurrentRequests.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(response);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        int port = server.getAddress().getPort();
+        List<GraphqlClientProject> projects = List.of(
+                new GraphqlClientProject("project1", "http://localhost:" + port + "/project1", List.of(), null),
+                new GraphqlClientProject("project2", "http://localhost:" + port + "/project2", List.of(), null),
+                new GraphqlClientProject("project3", "http://LOCALHOST:" + port + "/./project1", List.of(), null));
+        try {
+            SchemaRegistry schemaRegistry = new SchemaRegistry(null,
+                    new IntrospectionCache(this.tmpDir.resolve("introspection-cache-concurrent")), false);
+            schemaRegistry.introspect(projects, 2);
+            for (GraphqlClientProject project : projects) {
+                Assert.assertTrue(schemaRegistry.getIntrospectionResult(project).join().containsKey("__schema"));
+            }
+            Assert.assertSame(schemaRegistry.getIntrospectionResult(projects.get(2)),
+                    schemaRegistry.getIntrospectionResult(projects.get(0)));
+            Assert.assertEquals(concurrentRequests.get(), 2);
+            Assert.assertEquals(totalRequests.get(), 2);
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+        }
+    }
+
+    private static byte[] getCompressedContent(String content) throws IOException {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(compressedContent)) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressedContent.toByteArray();
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.ballerina.graphql.common.GraphqlTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class is used to test the functionality of the GraphQL schema cache.
+ */
+public class SchemaCacheTest extends GraphqlTest {
+
+    @Test(description = "Test the schema cache returning the cached type definitions for the same schema")
+    public void testGetTypeDefinitionRegistryFromCache() throws IOException {
+        Path cacheDirectory = this.tmpDir.resolve("schema-cache-hit");
+        String sdlInput = Utils.extractSchemaContent(
+                resourceDir.resolve(Paths.get("specs", "schema.graphql")).toString());
+        String markerSdlInput = "type Query { cacheHitMarker: String }";
+        SchemaCache schemaCache = new SchemaCache(cacheDirectory);
+
+        TypeDefinitionRegistry parsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        List<Path> cacheEntries = getCacheEntries(cacheDirectory);
+        Assert.assertEquals(cacheEntries.size(), 1);
+        Path cacheEntry = cacheEntries.get(0);
+
+        schemaCache.getTypeDefinitionRegistry(markerSdlInput);
+        List<Path> markerCacheEntries = getCacheEntries(cacheDirectory);
+        markerCacheEntries.remove(cacheEntry);
+        Assert.assertEquals(markerCacheEntries.size(), 1);
+        // The entry of the marker schema now holds the type definitions of the real schema, so they are returned for
+        // the marker schema only if they are read from the cache instead of parsing the marker schema again
+        Files.copy(cacheEntry, markerCacheEntries.get(0), StandardCopyOption.REPLACE_EXISTING);
+
+        TypeDefinitionRegistry cachedRegistry = schemaCache.getTypeDefinitionRegistry(markerSdlInput);
+        Assert.assertNotSame(cachedRegistry, parsedRegistry);
+        Assert.assertEquals(cachedRegistry.types().keySet(), parsedRegistry.types().keySet());
+        Assert.assertTrue(cachedRegistry.types().size() > 1);
+    }
+
+    @Test(description = "Test the schema cache parsing the schema when the cache entry is corrupted")
+    public void testGetTypeDefinitionRegistryWithCorruptedCacheEntry() throws IOException {
+        Path cacheDirectory = this.tmpDir.resolve("schema-cache-corrupted");
+        String sdlInput = Utils.extractSchemaContent(
+                resourceDir.resolve(Paths.get("specs", "schema.graphql")).toString());
+        SchemaCache schemaCache = new SchemaCache(cacheDirectory);
+
+        TypeDefinitionRegistry parsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Path cacheEntry = getCacheEntries(cacheDirectory).get(0);
+        Files.writeString(cacheEntry, "corrupted cache entry");
+
+        TypeDefinitionRegistry reparsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Assert.assertEquals(reparsedRegistry.types().keySet(), parsedRegistry.types().keySet());
+    }
+
+    @Test(description = "Test the schema cache parsing the schema when the cache entry has a disallowed type")
+    public void testGetTypeDefinitionRegistryWithDisallowedTypeInCacheEntry() throws IOException {
+        Path cacheDirectory = this.tmpDir.resolve("schema-cache-disallowed-type");
+        String sdlInput = Utils.extractSchemaContent(
+                resourceDir.resolve(Paths.get("specs", "schema.graphql")).toString());
+        SchemaCache schemaCache = new SchemaCache(cacheDirectory);
+
+        TypeDefinitionRegistry parsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Path cacheEntry = getCacheEntries(cacheDirectory).get(0);
+        writeCacheEntry(cacheEntry, new TreeMap<>(Map.of("type", "Query")));
+
+        TypeDefinitionRegistry reparsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Assert.assertEquals(reparsedRegistry.types().keySet(), parsedRegistry.types().keySet());
+    }
+
+    @Test(description = "Test the schema cache parsing the schema when the cache entry is nested too deeply")
+    public void testGetTypeDefinitionRegistryWithDeeplyNestedCacheEntry() throws IOException {
+        Path cacheDirectory = this.tmpDir.resolve("schema-cache-deeply-nested");
+        String sdlInput = Utils.extractSchemaContent(
+                resourceDir.resolve(Paths.get("specs", "schema.graphql")).toString());
+        SchemaCache schemaCache = new SchemaCache(cacheDirectory);
+
+        TypeDefinitionRegistry parsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Path cacheEntry = getCacheEntries(cacheDirectory).get(0);
+        ArrayList<Object> nestedList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ArrayList<Object> outerList = new ArrayList<>();
+            outerList.add(nestedList);
+            nestedList = outerList;
+        }
+        writeCacheEntry(cacheEntry, nestedList);
+
+        TypeDefinitionRegistry reparsedRegistry = schemaCache.getTypeDefinitionRegistry(sdlInput);
+        Assert.assertEquals(reparsedRegistry.types().keySet(), parsedRegistry.types().keySet());
+    }
+
+    private void writeCacheEntry(Path cacheEntry, Object content) throws IOException {
+        try (ObjectOutputStream objectOutputStream =
+                     new ObjectOutputStream(new GZIPOutputStream(Files.newOutputStream(cacheEntry)))) {
+            objectOutputStream.writeObject(content);
+        }
+    }
+
+    private List<Path> getCacheEntries(Path cacheDirectory) throws IOException {
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            return entries.sorted().collect(Collectors.toList());
+        }
+    }
+}
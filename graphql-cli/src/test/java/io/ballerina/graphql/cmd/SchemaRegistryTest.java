@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.cmd;
+
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.errors.SchemaProblem;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.exception.IntospectionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This class is used to test the functionality of the GraphQL schema registry.
+ */
+public class SchemaRegistryTest extends GraphqlTest {
+
+    @Test(description = "Test the projects with the same schema file sharing a single schema instance")
+    public void testGetGraphQLSchemaOfSharedSchemaFile() throws IntospectionException, IOException {
+        Path specsDir = resourceDir.resolve("specs");
+        GraphqlClientProject project1 = new GraphqlClientProject("project1",
+                specsDir.resolve("schema.graphql").toString(), List.of(), null);
+        GraphqlClientProject project2 = new GraphqlClientProject("project2",
+                specsDir.resolve(Paths.get("queries", "..", "schema.graphql")).toString(), List.of(), null);
+        GraphqlClientProject project3 = new GraphqlClientProject("project3",
+                specsDir.resolve("schema-with-scalar.graphql").toString(), List.of(), null);
+        SchemaRegistry schemaRegistry = new SchemaRegistry(null, null, false);
+
+        GraphQLSchema graphQLSchema = schemaRegistry.getGraphQLSchema(project1);
+        Assert.assertSame(schemaRegistry.getGraphQLSchema(project2), graphQLSchema);
+        Assert.assertNotSame(schemaRegistry.getGraphQLSchema(project3), graphQLSchema);
+        Assert.assertNotSame(new SchemaRegistry(null, null, false).getGraphQLSchema(project1), graphQLSchema);
+    }
+
+    @Test(description = "Test the projects with the same invalid schema file reporting the same schema error")
+    public void testGetGraphQLSchemaOfSharedInvalidSchemaFile() throws IntospectionException, IOException {
+        String schema = resourceDir.resolve(Paths.get("specs", "invalid-local-sdl.graphql")).toString();
+        SchemaRegistry schemaRegistry = new SchemaRegistry(null, null, false);
+        SchemaProblem schemaProblem = null;
+        for (String projectName : List.of("project1", "project2")) {
+            try {
+                schemaRegistry.getGraphQLSchema(new GraphqlClientProject(projectName, schema, List.of(), null));
+                Assert.fail("Expected the schema of the project to be invalid.");
+            } catch (SchemaProblem e) {
+                if (schemaProblem != null) {
+                    Assert.assertSame(e, schemaProblem);
+                }
+                schemaProblem = e;
+            }
+        }
+    }
+}
@@ -74,7 +74,8 @@ public class ServiceGenerationTest extends GraphqlTest {
     public void testExecuteWithInvalidSchemaForServiceGen() {
         Path graphqlSchema = this.resourceDir.resolve(
                 Paths.get("serviceGen", "graphqlSchemas", "invalid", "SchemaWithMissingCharApi.graphql"));
-        String[] args = {"-i", graphqlSchema.toString(), "-o", this.tmpDir.toString(), "-m", "service"};
+        String[] args = {"-i", graphqlSchema.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "-m", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -91,7 +92,8 @@ public class ServiceGenerationTest extends GraphqlTest {
     public void testExecuteWithSchemaInvalidFilePath() {
         Path invalidPath =
                 this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "invalid", "Schema.graphql"));
-        String[] args = {"-i", invalidPath.toString(), "-o", this.tmpDir.toString(), "-m", "service"};
+        String[] args = {"-i", invalidPath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "-m", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -110,7 +112,8 @@ public class ServiceGenerationTest extends GraphqlTest {
         Path graphqlSchema = this.resourceDir.resolve(
                 Paths.get("serviceGen", "graphqlSchemas", "valid", "SchemaWithSingleObjectApi.graphql"));
         Path outputPath = Paths.get(tmpDir.toString(), "new");
-        String[] args = {"-i", graphqlSchema.toString(), "-o", outputPath.toString(), "-m", "service"};
+        String[] args = {"-i", graphqlSchema.toString(), "-o", outputPath.toString(),
+                "--cache-dir", this.tmpDir.toString(), "-m", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -132,7 +135,8 @@ public class ServiceGenerationTest extends GraphqlTest {
     )
     public void testExecuteWithSchemaFileWithoutReadPermission() {
         Path graphqlSchema = Paths.get(tmpDir.toString(), "schema.graphql");
-        String[] args = {"-i", graphqlSchema.toString(), "-o", tmpDir.toString(), "-m", "service"};
+        String[] args = {"-i", graphqlSchema.toString(), "-o", tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "-m", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -172,7 +176,8 @@ public class ServiceGenerationTest extends GraphqlTest {
     )
     public void testCompilationForAllSchemas(String file) {
         Path schemaPath = this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", file));
-        String[] args = {"-i", schemaPath.toString(), "-o", this.tmpDir.toString(), "--mode", "service"};
+        String[] args = {"-i", schemaPath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", "service"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, this.tmpDir, false);
             new CommandLine(graphqlCmd).parseArgs(args);
@@ -190,7 +195,8 @@ public class ServiceGenerationTest extends GraphqlTest {
     )
     public void testCompilationForAllSchemasWithUseRecordsForObjects(String file) {
         Path schemaPath = this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", file));
-        String[] args = {"-i", schemaPath.toString(), "-o", this.tmpDir.toString(), "--mode", "service",
+        String[] args = {"-i", schemaPath.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString(), "--mode", "service",
                 "--use-records-for-objects"};
         try {
             GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, this.tmpDir, false);
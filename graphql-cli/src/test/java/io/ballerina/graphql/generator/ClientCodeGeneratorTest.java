@@ -18,6 +18,7 @@
 
 package io.ballerina.graphql.generator;
 
+import io.ballerina.graphql.cmd.Utils;
 import io.ballerina.graphql.common.GraphqlTest;
 import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.CmdException;
@@ -25,11 +26,19 @@ import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.generator.ClientCodeGenerator;
+import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.utils.GeneratorContext;
+import io.ballerina.graphql.generator.utils.SrcFilePojo;
+import io.ballerina.graphql.validator.QueryValidator;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
@@ -53,4 +62,83 @@ public class ClientCodeGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the concurrently generated sources are identical to the sequentially generated sources")
+    public void testGenerateBalSourcesConcurrently() throws CmdException, IOException, ParseException,
+            ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                    this.tmpDir);
+            ClientCodeGenerator sequentialCodeGenerator = new ClientCodeGenerator();
+            sequentialCodeGenerator.setGenerationThreads(1);
+            ClientCodeGenerator concurrentCodeGenerator = new ClientCodeGenerator();
+            concurrentCodeGenerator.setGenerationThreads(4);
+            for (GraphqlProject project : projects) {
+                List<SrcFilePojo> sequentialSources =
+                        sequentialCodeGenerator.generateBalSources(project, GeneratorContext.CLI);
+                List<SrcFilePojo> concurrentSources =
+                        concurrentCodeGenerator.generateBalSources(project, GeneratorContext.CLI);
+                Assert.assertEquals(concurrentSources.size(), sequentialSources.size());
+                for (int i = 0; i < sequentialSources.size(); i++) {
+                    Assert.assertEquals(concurrentSources.get(i).getFileName(),
+                            sequentialSources.get(i).getFileName());
+                    Assert.assertEquals(concurrentSources.get(i).getContent(), sequentialSources.get(i).getContent());
+                }
+            }
+        } catch (ClientCodeGenerationException e) {
+            Assert.fail("Error while generating the code. " + e.getMessage());
+        }
+    }
+
+    @Test(description = "Test the stale generated types shard files are deleted when sharding is turned off")
+    public void testGenerateDeletesStaleTypesShards() throws ClientCodeGenerationException, IOException,
+            ValidationException {
+        Path outputPath = this.tmpDir.resolve("shards");
+        Extension extensions = new Extension();
+        extensions.setTypesShardSize(2);
+        GraphqlClientProject project = new GraphqlClientProject(CodeGeneratorConstants.ROOT_PROJECT_NAME,
+                "src/test/resources/specs/typesGenTests/country.graphql",
+                List.of("src/test/resources/specs/queries/typesGenTests/country-queries.graphql"), extensions,
+                outputPath.toString());
+        Utils.validateGraphqlProject(project);
+        QueryValidator.getInstance().validate(project);
+        Path userShardFile = outputPath.resolve("types_9.bal");
+        Files.createDirectories(outputPath);
+        Files.writeString(userShardFile, "public type UserRecord record {};");
+
+        ClientCodeGenerator clientCodeGenerator = new ClientCodeGenerator();
+        clientCodeGenerator.generate(project);
+        Assert.assertTrue(Files.exists(outputPath.resolve("types_1.bal")));
+        Assert.assertTrue(Files.exists(outputPath.resolve("types_3.bal")));
+
+        extensions.setTypesShardSize(0);
+        clientCodeGenerator.generate(project);
+        Assert.assertFalse(Files.exists(outputPath.resolve("types_1.bal")));
+        Assert.assertFalse(Files.exists(outputPath.resolve("types_3.bal")));
+        Assert.assertTrue(Files.readString(outputPath.resolve("types.bal")).contains("public type CountryResponse"));
+        Assert.assertTrue(Files.exists(userShardFile));
+    }
+
+    @Test(description = "Test typed binding is rejected for the projects with persisted queries or response cache",
+            dataProvider = "configFilesIncompatibleWithTypedBinding",
+            expectedExceptions = ClientGenerationException.class,
+            expectedExceptionsMessageRegExp = "The typed-binding flag is incompatible with .*")
+    public void testGenerateWithTypedBindingAndIncompatibleExtensions(String configFile) throws CmdException,
+            IOException, ParseException, ValidationException, ClientCodeGenerationException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", configFile)).toString(),
+                this.tmpDir);
+        ClientCodeGenerator clientCodeGenerator = new ClientCodeGenerator();
+        clientCodeGenerator.enableTypedBinding();
+        clientCodeGenerator.generateBalSources(projects.get(0), GeneratorContext.CLI);
+    }
+
+    @DataProvider(name = "configFilesIncompatibleWithTypedBinding")
+    public Object[][] configFilesIncompatibleWithTypedBinding() {
+        return new Object[][]{
+                {"graphql-config-with-persisted-queries.yaml"},
+                {"graphql-config-with-response-cache.yaml"}
+        };
+    }
 }
@@ -29,6 +29,7 @@ import io.ballerina.graphql.generator.client.exception.ClientGenerationException
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import org.testng.Assert;
@@ -172,4 +173,41 @@ public class ClientGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the client code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the successful generation of client code with typed binding")
+    public void testGenerateSrcWithTypedBinding()
+            throws CmdException, IOException, ParseException, ValidationException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-auth-apikeys-config.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+            List<String> documents = projects.get(0).getDocuments();
+            GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            ClientOptions clientOptions = new ClientOptions();
+            clientOptions.setTypedBinding(true);
+
+            String generatedClientContent = ClientGenerator.getInstance().
+                    generateSrc(documents, projects.get(0).getDocumentRegistry(), schema, authConfig,
+                            GeneratorContext.CLI, clientOptions)
+                    .trim().replaceAll("\\s+", "").replaceAll(System.lineSeparator(), "");
+
+            Path expectedClientFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "typedBinding",
+                            "client.bal"));
+            String expectedClientContent = readContent(expectedClientFile);
+
+            Assert.assertEquals(expectedClientContent, generatedClientContent);
+
+        } catch (ClientGenerationException e) {
+            Assert.fail("Error while generating the client code. " + e.getMessage());
+        }
+    }
 }
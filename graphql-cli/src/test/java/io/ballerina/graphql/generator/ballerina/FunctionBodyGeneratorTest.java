@@ -15,6 +15,7 @@ import io.ballerina.graphql.generator.client.generator.ballerina.FunctionBodyGen
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -163,6 +164,196 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
         Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
     }
 
+    @Test(description = "Test the successful generation of remote function body which omits the unset optional " +
+            "variables")
+    public void testGenerateRemoteFunctionBodyWithOmitUnsetVariables()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-to-test-arguments.yaml")).toString(),
+                this.tmpDir);
+
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setOmitUnsetVariables(true);
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition queryOperation3Definition = queryReader.getExtendedOperationDefinitions().get(2);
+
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateRemoteFunctionBody(queryOperation3Definition, schema, new AuthConfig(), clientOptions);
+        String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
+        String expectedRemoteFunctionBody = "{stringquery=string`query operation3(" +
+                "$argument1:CustomInput!,$argument2:CustomInput) {operation3(argument1:$argument1," +
+                "argument2:$argument2) {field1 field2}}`;map<anydata>variables={\"argument1\":argument1};" +
+                "if argument2 !is () {\n    variables[\"argument2\"] = argument2;\n}" +
+                "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);" +
+                "return<Operation3Response> check performDataBinding(graphqlResponse, Operation3Response);}";
+        Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
+    }
+
+    @Test(description = "Test the successful generation of remote function body with typed binding",
+            dataProvider = "dataProviderForRemoteFunctionBodyWithTypedBinding")
+    public void testGenerateRemoteFunctionBodyWithTypedBinding(String configFile, String expectedRemoteFunctionBody)
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", configFile)).toString(),
+                this.tmpDir);
+
+        Extension extensions = projects.get(0).getExtensions();
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        AuthConfig authConfig = new AuthConfig();
+        AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+        AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
+
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setTypedBinding(true);
+
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateRemoteFunctionBody(queryOperation1Definition, schema, authConfig, clientOptions);
+        String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
+        Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
+    }
+
+    @Test(description = "Test the successful generation of remote function body with persisted queries")
+    public void testGenerateRemoteFunctionBodyWithPersistedQueries()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-persisted-queries.yaml")).toString(),
+                this.tmpDir);
+
+        Extension extensions = projects.get(0).getExtensions();
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        AuthConfig authConfig = new AuthConfig();
+        AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+        AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setPersistedQueries(extensions.isPersistedQueries());
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
+
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateRemoteFunctionBody(queryOperation1Definition, schema, authConfig, clientOptions);
+        String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
+        String expectedRemoteFunctionBody = "{stringquery=string`query country($code:ID!) " +
+                "{country(code:$code) {capital name}}`;map<anydata>variables={\"code\":code};" +
+                "json graphqlResponse = check executePersistedQuery(self.httpClient, query, " +
+                "\"929ba9b46f0c3c402cb92d2aabe433661d5bbd2b70883a5383a2492543b468c2\", variables);" +
+                "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}";
+        Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
+    }
+
+    @Test(description = "Test the successful generation of remote function body with response cache")
+    public void testGenerateRemoteFunctionBodyWithResponseCache()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-response-cache.yaml")).toString(),
+                this.tmpDir);
+
+        Extension extensions = projects.get(0).getExtensions();
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        AuthConfig authConfig = new AuthConfig();
+        AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+        AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setResponseCache(extensions.isResponseCache());
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
+
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateRemoteFunctionBody(queryOperation1Definition, schema, authConfig, clientOptions);
+        String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
+        String expectedRemoteFunctionBody = "{stringquery=string`query country($code:ID!) " +
+                "{country(code:$code) {capital name}}`;map<anydata>variables={\"code\":code};" +
+                "string cacheKey = getCacheKey(" +
+                "\"929ba9b46f0c3c402cb92d2aabe433661d5bbd2b70883a5383a2492543b468c2\", variables);" +
+                "json cachedResponse = self.responseCache.get(cacheKey);" +
+                "if cachedResponse !is () {\n" +
+                "    return <CountryResponse> check performDataBinding(cachedResponse, CountryResponse);\n" +
+                "}" +
+                "jsongraphqlResponse=checkself.graphqlClient->executeWithType(query,variables);" +
+                "self.responseCache.put(cacheKey, graphqlResponse);" +
+                "return<CountryResponse> check performDataBinding(graphqlResponse, CountryResponse);}";
+        Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
+    }
+
+    @Test(description = "Test the successful generation of remote function body of a subscription")
+    public void testGenerateSubscriptionFunctionBody()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-schema-with-subscription.yaml")).toString(),
+                this.tmpDir);
+
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setSubscriptions(true);
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition subscriptionDefinition = queryReader.getExtendedOperationDefinitions().get(0);
+
+        FunctionBodyNode remoteFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateRemoteFunctionBody(subscriptionDefinition, schema, new AuthConfig(), clientOptions);
+        String generatedRemoteFunctionBody = remoteFunctionBodyNode.toString();
+        String expectedRemoteFunctionBody = "{stringquery=string`subscription MySub {names}`;" +
+                "map<anydata>variables={};" +
+                "SubscriptionStream subscriptionStream = check new (self.subscriptionUrl, self.subscriptionConfig, " +
+                "query, variables);" +
+                "stream<json, graphql:ClientError?> messages = new (subscriptionStream);" +
+                "return stream from json message in messages " +
+                "select <MySubResponse> check performDataBinding(message, MySubResponse);}";
+        Assert.assertEquals(expectedRemoteFunctionBody, generatedRemoteFunctionBody);
+    }
+
+    @Test(description = "Test the successful generation of batch operation function body")
+    public void testGenerateBatchOperationFunctionBody()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql-config-with-batching.yaml")).toString(),
+                this.tmpDir);
+
+        List<String> documents = projects.get(0).getDocuments();
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+
+        Document queryDocument = Utils.getGraphQLQueryDocument(documents.get(0));
+        QueryReader queryReader = new QueryReader(queryDocument);
+
+        ExtendedOperationDefinition queryOperation1Definition = queryReader.getExtendedOperationDefinitions().get(0);
+
+        FunctionBodyNode batchOperationFunctionBodyNode = FunctionBodyGenerator.getInstance().
+                generateBatchOperationFunctionBody(queryOperation1Definition, schema);
+        String generatedBatchOperationFunctionBody = batchOperationFunctionBodyNode.toString();
+        String expectedBatchOperationFunctionBody = "{stringquery=string`query country($code:ID!) " +
+                "{country(code:$code) {capital name}}`;map<anydata>variables={\"code\":code};" +
+                "return {query, variables, targetType: CountryResponse};}";
+        Assert.assertEquals(expectedBatchOperationFunctionBody, generatedBatchOperationFunctionBody);
+    }
+
     @DataProvider(name = "dataProviderForInitFunctionBody")
     public Object[][] dataProviderForInitFunctionBody() {
         return new Object[][]{
@@ -273,6 +464,21 @@ public class FunctionBodyGeneratorTest extends GraphqlTest {
         };
     }
 
+    @DataProvider(name = "dataProviderForRemoteFunctionBodyWithTypedBinding")
+    public Object[][] dataProviderForRemoteFunctionBodyWithTypedBinding() {
+        return new Object[][]{
+                {"graphql.config.yaml", "{stringquery=string`query country($code:ID!) {country(code:$code) " +
+                        "{capital name}}`;map<anydata>variables={\"code\":code};" +
+                        "returnself.graphqlClient->executeWithType(query,variables,targetType=CountryResponse);}"},
+                {"graphql-config-with-auth-apikeys-config.yaml", "{stringquery=string`query country($code:ID!) " +
+                        "{country(code:$code) {capital name}}`;map<anydata>variables={\"code\":code};" +
+                        "map<any>headerValues={\"Header1\":self.apiKeysConfig.header1,\"Header2\":" +
+                        "self.apiKeysConfig.header2};map<string|string[]>httpHeaders=getMapForHeaders(headerValues);" +
+                        "returnself.graphqlClient->executeWithType(query,variables,headers=httpHeaders," +
+                        "targetType=CountryResponse);}"}
+        };
+    }
+
     @DataProvider(name = "dataProviderForRemoteFunctionBodyWithRequiredParameters")
     public Object[][] dataProviderForRemoteFunctionBodyWithRequiredParameters() {
         return new Object[][]{
@@ -24,14 +24,24 @@ import io.ballerina.graphql.common.TestUtils;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.service.GraphqlServiceProject;
 import io.ballerina.graphql.generator.service.exception.ServiceGenerationException;
+import io.ballerina.graphql.generator.service.generator.ServiceCodeGenerator;
 import io.ballerina.graphql.generator.service.generator.ServiceGenerator;
 import io.ballerina.graphql.generator.service.generator.ServiceTypesGenerator;
+import io.ballerina.graphql.generator.utils.SrcFilePojo;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.graphql.common.TestUtils.writeContentTo;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SERVICE_FILE_NAME;
@@ -98,4 +108,71 @@ public class ServiceGeneratorTest extends GraphqlTest {
             Assert.fail(e.getMessage());
         }
     }
+
+    @DataProvider(name = "validSchemaFileNamesWithGoldenServiceFiles")
+    public Object[][] getValidSchemaFileNamesWithGoldenServiceFiles() {
+        return new Object[][]{{"SchemaWithSingleObjectApi", false, "serviceForSchemaWithSingleObject.bal"},
+                {"SchemaDocsWithMutationAndSubscriptionResolversApi", false,
+                        "serviceForSchemaDocsWithMutationAndSubscriptionResolvers.bal"},
+                {"SchemaWithObjectTakingInputArgumentApi", true, "serviceForSchemaWithObjectTakingInputArgument.bal"}};
+    }
+
+    @Test(dataProvider = "validSchemaFileNamesWithGoldenServiceFiles",
+            description = "Test the single formatting pass output is byte-identical to the golden file")
+    public void testGenerateSrcIdenticalToGoldenFile(String fileName, boolean useRecordsForObjects,
+                                                     String goldenFile) {
+        try {
+            GraphqlServiceProject project = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", fileName + ".graphql"))
+                            .toString(), this.tmpDir);
+            ServiceTypesGenerator serviceTypesGenerator = new ServiceTypesGenerator();
+            serviceTypesGenerator.setFileName(fileName);
+            serviceTypesGenerator.setUseRecordsForObjects(useRecordsForObjects);
+            serviceTypesGenerator.generateSrc(project.getGraphQLSchema());
+
+            ServiceGenerator serviceGenerator = new ServiceGenerator();
+            serviceGenerator.setFileName(fileName);
+            serviceGenerator.setMethodDeclarations(serviceTypesGenerator.getServiceMethodDeclarations());
+            String generatedServiceContent = serviceGenerator.generateSrc();
+
+            // The golden files are the output of the generator before the second formatting pass was removed
+            String goldenServiceContent = Files.readString(
+                    resourceDir.resolve(Paths.get("serviceGen", "expectedServices", goldenFile)));
+            Assert.assertEquals(generatedServiceContent, goldenServiceContent);
+        } catch (ServiceGenerationException | IOException | ValidationException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test(description = "Test a shared service code generator producing the same sources for concurrent generations")
+    public void testGenerateBalSourcesConcurrently() {
+        String fileName = "SchemaDocsWithMutationAndSubscriptionResolversApi";
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            GraphqlServiceProject project = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", fileName + ".graphql"))
+                            .toString(), this.tmpDir);
+            ServiceCodeGenerator serviceCodeGenerator = new ServiceCodeGenerator();
+            List<SrcFilePojo> expectedSources = serviceCodeGenerator.generateBalSources(project);
+
+            List<Future<List<SrcFilePojo>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> serviceCodeGenerator.generateBalSources(project)));
+            }
+            for (Future<List<SrcFilePojo>> result : results) {
+                List<SrcFilePojo> generatedSources = result.get();
+                Assert.assertEquals(generatedSources.size(), expectedSources.size());
+                for (int i = 0; i < expectedSources.size(); i++) {
+                    Assert.assertEquals(generatedSources.get(i).getContent(), expectedSources.get(i).getContent());
+                }
+            }
+        } catch (ServiceGenerationException | IOException | ValidationException | ExecutionException e) {
+            Assert.fail(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Assert.fail(e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -30,6 +30,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -816,4 +817,66 @@ public class ServiceTypesGeneratorTest extends GraphqlTest {
             Assert.assertTrue(e.getMessage().contains(errorMessage));
         }
     }
+
+    @DataProvider(name = "validSchemaFileNamesWithGoldenFiles")
+    public Object[][] getValidSchemaFileNamesWithGoldenFiles() {
+        return new Object[][]{{"SchemaWithSingleObjectApi", false, "typesWithSingleObjectDefault.bal"},
+                {"SchemaWithMultipleObjectsApi", false, "typesWithMultipleObjectsDefault.bal"},
+                {"SchemaWithMutationApi", false, "typesWithMutationDefault.bal"},
+                {"SchemaWithSubscriptionApi", false, "typesWithSubscriptionDefault.bal"},
+                {"SchemaWithListsApi", false, "typesWithListsDefault.bal"},
+                {"SchemaWithInputsApi", false, "typesWithInputsDefault.bal"},
+                {"SchemaWithObjectTakingInputArgumentApi", true,
+                        "typesWithObjectTakingInputArgumentRecordsAllowed.bal"},
+                {"SchemaWithInterfaceApi", true, "typesWithInterfaceRecordsAllowed.bal"},
+                {"SchemaWithUnionApi", true, "typesWithUnionRecordsAllowed.bal"},
+                {"SchemaWithEnumApi", false, "typesWithEnumDefault.bal"},
+                {"SchemaWithUnionApi", false, "typesWithUnionDefault.bal"},
+                {"SchemaWithInterfaceApi", false, "typesWithInterfaceDefault.bal"},
+                {"SchemaWithMultipleInterfacesApi", false, "typesWithMultipleInterfacesDefault.bal"},
+                {"SchemaWithInterfacesImplementingInterfacesApi", false,
+                        "typesWithInterfacesImplementingInterfacesDefault.bal"},
+                {"SchemaWithMultiDimensionalListsApi", false, "typesWithMultiDimensionalListsDefault.bal"},
+                {"SchemaWithDefaultParameters01Api", false, "typesWithDefaultParameters01Default.bal"},
+                {"SchemaWithDefaultParameters02Api", false, "typesWithDefaultParameters02Default.bal"},
+                {"SchemaWithDefaultParameters03Api", false, "typesWithDefaultParameters03Default.bal"},
+                {"SchemaWithDefaultParameters04Api", false, "typesWithDefaultParameters04Default.bal"},
+                {"SchemaDocsWithQueryResolversApi", false, "typesDocsWithQueryResolversDefault.bal"},
+                {"SchemaDocsWithResolverArgumentsApi", false, "typesDocsWithResolverArgumentsDefault.bal"},
+                {"SchemaDocsWithMultipleLinesApi", false, "typesDocsWithMultipleLinesDefault.bal"},
+                {"SchemaDocsWithObjectsApi", false, "typesDocsWithObjectsDefault.bal"},
+                {"SchemaDocsWithObjectsApi", true, "typesDocsWithObjectsRecordsAllowed.bal"},
+                {"SchemaDocsWithUnionApi", false, "typesDocsWithUnionDefault.bal"},
+                {"SchemaDocsWithEnumApi", false, "typesDocsWithEnumDefault.bal"},
+                {"SchemaDocsWithInputsApi", false, "typesDocsWithInputsDefault.bal"},
+                {"SchemaDocsWithInterfacesApi", false, "typesDocsWithInterfacesDefault.bal"},
+                {"SchemaDocsWithDeprecated01Api", false, "typesDocsWithDeprecated01Default.bal"},
+                {"SchemaDocsWithDeprecated02Api", false, "typesDocsWithDeprecated02Default.bal"},
+                {"SchemaDocsWithDeprecated03Api", false, "typesDocsWithDeprecated03Default.bal"},
+                {"SchemaDocsWithDeprecated01Api", true, "typesDocsWithDeprecated01RecordsAllowed.bal"},
+                {"SchemaWithFileUploadApi", false, "typesWithFileUploadDefault.bal"},
+                {"SchemaWithInputTypeDefaultParametersApi", false, "typesWithInputTypeDefaultParameters.bal"}};
+    }
+
+    @Test(dataProvider = "validSchemaFileNamesWithGoldenFiles",
+            description = "Test the single formatting pass output is byte-identical to the golden file")
+    public void testGenerateSrcIdenticalToGoldenFile(String fileName, boolean useRecordsForObjects,
+                                                     String goldenFile) {
+        try {
+            GraphqlServiceProject project = TestUtils.getValidatedMockServiceProject(
+                    this.resourceDir.resolve(Paths.get("serviceGen", "graphqlSchemas", "valid", fileName + ".graphql"))
+                            .toString(), this.tmpDir);
+            ServiceTypesGenerator serviceTypesGenerator = new ServiceTypesGenerator();
+            serviceTypesGenerator.setFileName(fileName);
+            serviceTypesGenerator.setUseRecordsForObjects(useRecordsForObjects);
+            String generatedServiceTypesContent = serviceTypesGenerator.generateSrc(project.getGraphQLSchema());
+
+            // The golden files are the output of the generator before the second formatting pass was removed
+            String goldenServiceTypesContent = Files.readString(
+                    resourceDir.resolve(Paths.get("serviceGen", "expectedServices", goldenFile)));
+            Assert.assertEquals(generatedServiceTypesContent, goldenServiceTypesContent);
+        } catch (ValidationException | IOException | ServiceGenerationException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
 }
@@ -9,11 +9,16 @@ import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.validator.ConfigValidator;
 import io.ballerina.graphql.validator.QueryValidator;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -41,6 +46,80 @@ public class TypesGeneratorTest {
         TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
     }
 
+    @Test(description = "Generate only the input records referred by the operations")
+    public void getPrunedInputRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests/graphql.config.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        GraphqlClientProject project = projects.get(0);
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setPruneUnusedTypes(true);
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(project.getGraphQLSchema(),
+                project.getDocuments(), project.getDocumentRegistry(), clientOptions);
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/types/expectedPrunedInputRecords.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+        Assert.assertFalse(typesFileContent.contains("ContinentFilterInput"));
+        Assert.assertFalse(typesFileContent.contains("LanguageFilterInput"));
+    }
+
+    @Test(description = "Generate a single named record for each selection shape")
+    public void getDeduplicatedQueryResponseRecords() throws IOException, ParseException, CmdException,
+            ValidationException, ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests/graphql.config.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        GraphqlClientProject project = projects.get(0);
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setDeduplicateRecords(true);
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(project.getGraphQLSchema(),
+                project.getDocuments(), project.getDocumentRegistry(), clientOptions);
+        Path expectedFilePath = RES_DIR.resolve("expectedGenCode/types/expectedDeduplicatedRecords.bal");
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
+
+        StringWriter emittedTypesFileContent = new StringWriter();
+        ClientTypesGenerator.getInstance().emitSrc(project.getGraphQLSchema(), project.getDocuments(),
+                project.getDocumentRegistry(), clientOptions, emittedTypesFileContent);
+        Assert.assertEquals(emittedTypesFileContent.toString(), typesFileContent);
+    }
+
+    @Test(description = "Generate the query response records in types files of a given number of operations")
+    public void getShardedRecords() throws IOException, ParseException, CmdException, ValidationException,
+            ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests/graphql.config.yaml").toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        GraphqlClientProject project = projects.get(0);
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setTypesShardSize(2);
+        List<String> typesFileContents = ClientTypesGenerator.getInstance().generateShardedSrc(
+                project.getGraphQLSchema(), project.getDocuments(), project.getDocumentRegistry(), clientOptions);
+        Assert.assertEquals(typesFileContents.size(), 4);
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(
+                RES_DIR.resolve("expectedGenCode/types/expectedInputRecords.bal"));
+        TestUtils.compareGeneratedFileWithExpectedFile(typesFileContents.get(0), expectedFileContent);
+        Assert.assertFalse(typesFileContents.get(0).contains("CountryResponse"));
+        Assert.assertTrue(typesFileContents.get(1).contains("public type CountryResponse"));
+        Assert.assertTrue(typesFileContents.get(1).contains("public type CountriesResponse"));
+        Assert.assertTrue(typesFileContents.get(2).contains("public type CombinedQueryResponse"));
+        Assert.assertTrue(typesFileContents.get(2).contains("public type NeighbouringCountriesResponse"));
+        Assert.assertTrue(typesFileContents.get(3).contains("public type AliasExample1Response"));
+    }
+
     @Test(description = "Generate query response records from the GraphQL Schema")
     public void getQueryResponseRecords() throws IOException, ParseException, CmdException, ValidationException,
             ClientTypesGenerationException {
@@ -92,4 +171,86 @@ public class TypesGeneratorTest {
         String expectedFileContent = TestUtils.getStringFromGivenBalFile(expectedFilePath);
         TestUtils.compareGeneratedFileWithExpectedFile(typesFileContent, expectedFileContent);
     }
+
+    @DataProvider(name = "configFilesWithGoldenFiles")
+    public Object[][] getConfigFilesWithGoldenFiles() {
+        return new Object[][]{{"graphql.config.yaml", "goldenTypes.bal"},
+                {"fragment-graphql.config.yaml", "goldenFragmentTypes.bal"}};
+    }
+
+    @Test(dataProvider = "configFilesWithGoldenFiles",
+            description = "Test the single formatting pass output is byte-identical to the golden file")
+    public void getAllRecordsIdenticalToGoldenFile(String configFile, String goldenFile) throws IOException,
+            ParseException, CmdException, ValidationException, ClientTypesGenerationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests").resolve(configFile).toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        GraphqlClientProject project = projects.get(0);
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(project.getGraphQLSchema(),
+                project.getDocuments());
+        // The golden files are the output of the generator before the second formatting pass was removed
+        String goldenFileContent = Files.readString(RES_DIR.resolve("expectedGenCode/types").resolve(goldenFile));
+        Assert.assertEquals(typesFileContent, goldenFileContent);
+    }
+
+    @DataProvider(name = "configFilesWithExpectedFiles")
+    public Object[][] getConfigFilesWithExpectedFiles() {
+        return new Object[][]{
+                {"graphql.config.yaml", false, false, "expectedInputRecords.bal"},
+                {"graphql.config.yaml", false, false, "expectedQueryResponseRecords.bal"},
+                {"graphql.config.yaml", false, false, "expectedTypes.bal"},
+                {"graphql.config.yaml", true, false, "expectedPrunedInputRecords.bal"},
+                {"graphql.config.yaml", false, true, "expectedDeduplicatedRecords.bal"},
+                {"fragment-graphql.config.yaml", false, false, "expectedFragmentTypes.bal"}
+        };
+    }
+
+    @Test(dataProvider = "configFilesWithExpectedFiles",
+            description = "Test the directly emitted types match the expected file and the formatted types")
+    public void emitRecords(String configFile, boolean pruneUnusedTypes, boolean deduplicateRecords,
+                            String expectedFile) throws IOException, ParseException, CmdException,
+            ValidationException, ClientTypesGenerationException {
+        GraphqlClientProject project = getValidatedProject(configFile);
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setPruneUnusedTypes(pruneUnusedTypes);
+        clientOptions.setDeduplicateRecords(deduplicateRecords);
+        StringWriter emittedTypesFileContent = new StringWriter();
+        ClientTypesGenerator.getInstance().emitSrc(project.getGraphQLSchema(), project.getDocuments(),
+                project.getDocumentRegistry(), clientOptions, emittedTypesFileContent);
+        String expectedFileContent = TestUtils.getStringFromGivenBalFile(
+                RES_DIR.resolve("expectedGenCode/types").resolve(expectedFile));
+        TestUtils.compareGeneratedFileWithExpectedFile(emittedTypesFileContent.toString(), expectedFileContent);
+
+        String typesFileContent = ClientTypesGenerator.getInstance().generateSrc(project.getGraphQLSchema(),
+                project.getDocuments(), project.getDocumentRegistry(), clientOptions);
+        Assert.assertEquals(emittedTypesFileContent.toString(), typesFileContent);
+    }
+
+    @Test(dataProvider = "configFilesWithGoldenFiles",
+            description = "Test the directly emitted types are byte-identical to the golden file")
+    public void emitAllRecordsIdenticalToGoldenFile(String configFile, String goldenFile) throws IOException,
+            ParseException, CmdException, ValidationException, ClientTypesGenerationException {
+        GraphqlClientProject project = getValidatedProject(configFile);
+        StringWriter emittedTypesFileContent = new StringWriter();
+        ClientTypesGenerator.getInstance().emitSrc(project.getGraphQLSchema(), project.getDocuments(),
+                project.getDocumentRegistry(), emittedTypesFileContent);
+        String goldenFileContent = Files.readString(RES_DIR.resolve("expectedGenCode/types").resolve(goldenFile));
+        Assert.assertEquals(emittedTypesFileContent.toString(), goldenFileContent);
+    }
+
+    private GraphqlClientProject getValidatedProject(String configFile) throws IOException, ParseException,
+            CmdException, ValidationException {
+        Config config = TestUtils.readConfig(RES_DIR.resolve("specs/typesGenTests").resolve(configFile).toString());
+        ConfigValidator.getInstance().validate(config);
+        List<GraphqlClientProject> projects = TestUtils.populateProjects(config, Paths.get(""));
+        for (GraphqlClientProject project : projects) {
+            Utils.validateGraphqlProject(project);
+            QueryValidator.getInstance().validate(project);
+        }
+        return projects.get(0);
+    }
 }
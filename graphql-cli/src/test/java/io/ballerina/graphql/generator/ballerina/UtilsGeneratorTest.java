@@ -10,6 +10,7 @@ import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.ballerina.AuthConfigGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.client.pojo.Extension;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -85,4 +86,38 @@ public class UtilsGeneratorTest extends GraphqlTest {
             Assert.fail("Error while generating the utils code. " + e.getMessage());
         }
     }
+
+    @Test(description = "Test the functionality of the GraphQL utils code generator with typed binding")
+    public void testGenerateSrcWithTypedBinding()
+            throws ValidationException, CmdException, IOException, ParseException {
+        try {
+            List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                    this.resourceDir.resolve(Paths.get("specs",
+                            "graphql-config-with-auth-apikeys-config.yaml")).toString(),
+                    this.tmpDir);
+
+            Extension extensions = projects.get(0).getExtensions();
+
+            AuthConfig authConfig = new AuthConfig();
+            AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
+            AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
+
+            ClientOptions clientOptions = new ClientOptions();
+            clientOptions.setTypedBinding(true);
+
+            String generatedUtilsContent = UtilsGenerator.getInstance().generateSrc(authConfig, clientOptions)
+                    .trim().replaceAll("\\s+", "")
+                    .replaceAll(System.lineSeparator(), "");
+
+            Path expectedUtilsFile =
+                    resourceDir.resolve(Paths.get("expectedGenCode", "client", "typedBinding",
+                            "utils.bal"));
+            String expectedUtilsContent = readContent(expectedUtilsFile);
+
+            Assert.assertEquals(expectedUtilsContent, generatedUtilsContent);
+
+        } catch (UtilsGenerationException e) {
+            Assert.fail("Error while generating the utils code. " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.graphql;
+
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.common.TestUtils;
+import io.ballerina.graphql.exception.CmdException;
+import io.ballerina.graphql.exception.ParseException;
+import io.ballerina.graphql.exception.ValidationException;
+import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.OperationManifestGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This class is used to test the functionality of the persisted operation manifest generator.
+ */
+public class OperationManifestGeneratorTest extends GraphqlTest {
+
+    @Test(description = "Test the generation of a deterministic persisted operation manifest")
+    public void testGenerateSrc()
+            throws ValidationException, CmdException, IOException, ParseException, ClientGenerationException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        List<String> documents = projects.get(0).getDocuments();
+
+        String generatedManifest = OperationManifestGenerator.getInstance()
+                .generateSrc(documents, new QueryDocumentRegistry());
+        String expectedManifest = Files.readString(
+                this.resourceDir.resolve(Paths.get("expectedGenCode", "persisted_operations.json")));
+        Assert.assertEquals(generatedManifest, expectedManifest);
+
+        // The documents are parsed again, the manifest must not depend on the parsed document instances
+        Assert.assertEquals(OperationManifestGenerator.getInstance()
+                .generateSrc(documents, new QueryDocumentRegistry()), generatedManifest);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.graphql;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import io.ballerina.graphql.common.GraphqlTest;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * This class is used to test the functionality of the GraphQL query document registry.
+ */
+public class QueryDocumentRegistryTest extends GraphqlTest {
+
+    @Test(description = "Test the registry returning the same parsed document for an unchanged queries file")
+    public void testGetDocumentForUnchangedFile() throws IOException {
+        Path queriesPath = this.tmpDir.resolve("registry-unchanged-queries.graphql");
+        Files.writeString(queriesPath, "query country { country(code: \"LK\") { name } }");
+        QueryDocumentRegistry documentRegistry = new QueryDocumentRegistry();
+
+        Document document = documentRegistry.getDocument(queriesPath.toString());
+        Assert.assertSame(documentRegistry.getDocument(queriesPath.toString()), document);
+        Assert.assertSame(documentRegistry.getQueryReader(queriesPath.toString()),
+                documentRegistry.getQueryReader(queriesPath.toString()));
+
+        // Touching the file changes its last modified time but not its content, so it is not parsed again
+        FileTime lastModifiedTime = Files.getLastModifiedTime(queriesPath);
+        Files.setLastModifiedTime(queriesPath, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+        Assert.assertSame(documentRegistry.getDocument(queriesPath.toString()), document);
+    }
+
+    @Test(description = "Test the registry parsing a queries file again after it is changed keeping its size and " +
+            "last modified time")
+    public void testGetDocumentForChangedFileWithSameAttributes() throws IOException {
+        Path queriesPath = this.tmpDir.resolve("registry-same-attributes-queries.graphql");
+        Files.writeString(queriesPath, "query countryA { country(code: \"LK\") { name } }");
+        QueryDocumentRegistry documentRegistry = new QueryDocumentRegistry();
+
+        Document document = documentRegistry.getDocument(queriesPath.toString());
+        FileTime lastModifiedTime = Files.getLastModifiedTime(queriesPath);
+        // An edit within the time resolution of a file system keeps the size and the last modified time of the file
+        Files.writeString(queriesPath, "query countryB { country(code: \"LK\") { name } }");
+        Files.setLastModifiedTime(queriesPath, lastModifiedTime);
+
+        Document changedDocument = documentRegistry.getDocument(queriesPath.toString());
+        Assert.assertNotSame(changedDocument, document);
+        Assert.assertEquals(getFirstOperationName(changedDocument), "countryB");
+    }
+
+    @Test(description = "Test the registry parsing a queries file again after it is changed")
+    public void testGetDocumentForChangedFile() throws IOException {
+        Path queriesPath = this.tmpDir.resolve("registry-changed-queries.graphql");
+        Files.writeString(queriesPath, "query country { country(code: \"LK\") { name } }");
+        QueryDocumentRegistry documentRegistry = new QueryDocumentRegistry();
+
+        Document document = documentRegistry.getDocument(queriesPath.toString());
+        FileTime lastModifiedTime = Files.getLastModifiedTime(queriesPath);
+        Files.writeString(queriesPath, "query countries { countries { name } }");
+        Files.setLastModifiedTime(queriesPath, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+
+        Document changedDocument = documentRegistry.getDocument(queriesPath.toString());
+        Assert.assertNotSame(changedDocument, document);
+        Assert.assertEquals(getFirstOperationName(changedDocument), "countries");
+    }
+
+    private static String getFirstOperationName(Document document) {
+        return document.getDefinitionsOfType(OperationDefinition.class).get(0).getName();
+    }
+}
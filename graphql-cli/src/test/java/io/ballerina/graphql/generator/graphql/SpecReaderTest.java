@@ -25,6 +25,7 @@ import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.ParseException;
 import io.ballerina.graphql.exception.ValidationException;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.generator.graphql.SchemaIndex;
 import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import org.apache.commons.logging.Log;
@@ -37,6 +38,9 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -146,4 +150,34 @@ public class SpecReaderTest extends GraphqlTest {
             assertTrue(expectedEnumTypes.contains(generatedEnumType));
         }
     }
+
+    @Test
+    public void testSchemaIndexLookups() throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        SchemaIndex schemaIndex = SchemaIndex.of(schema);
+        assertSame(SchemaIndex.of(schema), schemaIndex);
+        assertTrue(schemaIndex.isEnumType("CacheControlScope"));
+        assertTrue(schemaIndex.isCustomScalarType("Upload"));
+        assertTrue(schemaIndex.isInputObjectType("CountryFilterInput"));
+        assertTrue(schemaIndex.isObjectType("Country"));
+        assertFalse(schemaIndex.isCustomScalarType("String"));
+        assertFalse(schemaIndex.isObjectType("__Schema"));
+    }
+
+    @Test
+    public void testGetObjectTypeFieldsMapIsMemoised()
+            throws ValidationException, CmdException, IOException, ParseException {
+        List<GraphqlClientProject> projects = TestUtils.getValidatedMockProjects(
+                this.resourceDir.resolve(Paths.get("specs", "graphql.config.yaml")).toString(),
+                this.tmpDir);
+        GraphQLSchema schema = projects.get(0).getGraphQLSchema();
+        Map<String, FieldType> objectTypeFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, "Country");
+        assertSame(SpecReader.getObjectTypeFieldsMap(schema, "Country"), objectTypeFieldsMap);
+        assertTrue(objectTypeFieldsMap.containsKey("name"));
+        assertThrows(UnsupportedOperationException.class, () -> objectTypeFieldsMap.remove("name"));
+        assertTrue(SpecReader.getObjectTypeFieldsMap(schema, "CountryFilterInput").isEmpty());
+    }
 }
@@ -43,7 +43,8 @@ public class ConfigValidatorTest extends GraphqlTest {
     public void testValidateWithInvalidSchemaUrl() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-sdl-url.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(this.printStream, this.tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
@@ -38,7 +38,8 @@ public class QueryValidatorTest extends GraphqlTest {
     public void testValidate() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-query-file.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
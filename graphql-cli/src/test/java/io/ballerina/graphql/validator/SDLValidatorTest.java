@@ -38,7 +38,8 @@ public class SDLValidatorTest extends GraphqlTest {
     public void testValidateWithInvalidLocalSdl() {
         Path graphqlConfigYaml =
                 resourceDir.resolve(Paths.get("specs", "graphql-config-with-invalid-local-sdl.yaml"));
-        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString()};
+        String[] args = {"-i", graphqlConfigYaml.toString(), "-o", this.tmpDir.toString(),
+                "--cache-dir", this.tmpDir.toString()};
         GraphqlCmd graphqlCmd = new GraphqlCmd(printStream, tmpDir, false);
         new CommandLine(graphqlCmd).parseArgs(args);
         String output = "";
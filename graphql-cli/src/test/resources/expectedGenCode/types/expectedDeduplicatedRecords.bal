@@ -0,0 +1,22 @@
+public type CountrySelection record {|
+    string name;
+|};
+
+public type CountryResponse record {|
+    map<json?> __extensions?;
+    CountrySelection? country;
+|};
+
+public type ContinentSelection record {|
+    CountrySelection[] countries;
+|};
+
+public type CountrySelection2 record {|
+    string name;
+    ContinentSelection continent;
+|};
+
+public type CountriesResponse record {|
+    map<json?> __extensions?;
+    CountrySelection2[] countries;
+|};
\ No newline at end of file
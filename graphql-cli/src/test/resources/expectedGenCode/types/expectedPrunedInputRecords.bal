@@ -0,0 +1,14 @@
+public type CountryFilterInput record {
+    StringQueryOperatorInput? continent?;
+    StringQueryOperatorInput? code?;
+    StringQueryOperatorInput? currency?;
+};
+
+public type StringQueryOperatorInput record {
+    string?[]? nin?;
+    string? regex?;
+    string? ne?;
+    string? glob?;
+    string? eq?;
+    string?[]? 'in?;
+};
\ No newline at end of file
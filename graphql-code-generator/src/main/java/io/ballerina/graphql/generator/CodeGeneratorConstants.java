@@ -39,8 +39,14 @@ public class CodeGeneratorConstants {
     public static final String CLIENT_FILE_NAME = "client.bal";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String TYPES_FILE_NAME = "types.bal";
+    public static final String TYPES_SHARD_FILE_NAME = "types_%d.bal";
+    public static final String TYPES_SHARD_FILE_NAME_PATTERN = "types_\\d+\\.bal";
+    public static final String TYPES_SHARD_FILE_GLOB = "types_*.bal";
+    public static final String TYPES_SHARD_FILE_HEADER =
+            "// This types shard file is generated by the Ballerina GraphQL tool. Do not edit it manually.";
     public static final String UTILS_FILE_NAME = "utils.bal";
     public static final String CONFIG_TYPES_FILE_NAME = "config_types.bal";
+    public static final String OPERATION_MANIFEST_FILE_NAME = "persisted_operations.json";
     public static final String SCHEMA_PATTERN = "schema";
     public static final String DOCUMENTS_PATTERN = "documents";
     public static final String GET = "get";
@@ -63,6 +69,9 @@ public class CodeGeneratorConstants {
     public static final String BALLERINA = "ballerina";
     public static final String BALLERINAX = "ballerinax";
     public static final String HTTP = "http";
+    public static final String TIME = "time";
+    public static final String WEBSOCKET = "websocket";
+    public static final String LANG_RUNTIME = "lang.runtime";
     public static final String GRAPHQL = "graphql";
     public static final String CLIENT_CLASS_PREFIX = "Graphql";
     public static final String IDL_PLUGIN_CLIENT = "'client";
@@ -77,9 +86,28 @@ public class CodeGeneratorConstants {
     public static final String INIT_RETURN_TYPE = "graphql:ClientError";
     public static final String SELF = "self";
     public static final String CLIENT_EP = "clientEp";
+    public static final String HTTP_CLIENT = "httpClient";
+    public static final String EXECUTE_BATCH = "executeBatch";
+    public static final String BATCH_OPERATION_TYPE_NAME = "BatchOperation";
+    public static final String BATCH_RESPONSE_TYPE_NAME = "BatchResponse";
+    public static final String BATCH_OPERATION_FUNCTION_SUFFIX = "Operation";
+    public static final String BATCH_OPERATIONS_PARAM_NAME = "operations";
+    public static final String RESPONSE_CACHE = "responseCache";
+    public static final String RESPONSE_CACHE_CONFIG_TYPE_NAME = "ResponseCacheConfig";
+    public static final String SUBSCRIPTION_URL = "subscriptionUrl";
+    public static final String SUBSCRIPTION_CONFIG = "subscriptionConfig";
+    public static final String SUBSCRIPTION_CONFIG_FIELD_NAME = "subscription";
+    public static final String SUBSCRIPTION_CONFIG_TYPE_NAME = "SubscriptionConfig";
+    public static final String SUBSCRIPTION_STREAM_TYPE_NAME = "SubscriptionStream";
+    public static final String SUBSCRIPTION_STREAM_VAR_NAME = "subscriptionStream";
+    public static final String SUBSCRIPTION_MESSAGES_VAR_NAME = "messages";
+    public static final String CACHE_KEY_VAR_NAME = "cacheKey";
+    public static final String CACHED_RESPONSE_VAR_NAME = "cachedResponse";
     public static final String QUERY_VAR_NAME = "query";
     public static final String GRAPHQL_RESPONSE_VAR_NAME = "graphqlResponse";
     public static final String CLONE_READ_ONLY = "cloneReadOnly";
+    public static final String SHA_256 = "SHA-256";
+    public static final int DEFAULT_GENERATION_THREADS = 1;
 
     public static final String FRAGMENT = "Fragment";
     public static final String MUTATION = "Mutation";
@@ -101,6 +129,7 @@ public class CodeGeneratorConstants {
     public static final String GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME = "graphqlClientConfig";
     public static final String GRAPHQL_VARIABLES_TYPE_NAME = "map<anydata>";
     public static final String GRAPHQL_VARIABLES_VAR_NAME = "variables";
+    public static final String EMPTY_VARIABLES = "EMPTY_VARIABLES";
     public static final String HEADER_VALUES_VARIABLES_TYPE_NAME = "map<any>";
     public static final String HEADER_VALUES_VARIABLES_VAR_NAME = "headerValues";
     public static final String HTTP_HEADERS_VARIABLES_TYPE_NAME = "map<string|string[]>";
@@ -181,6 +210,10 @@ public class CodeGeneratorConstants {
 
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String APPLICATION_JSON = "application/json";
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
     public static final String DATA_FIELD = "data";
     public static final String ERROR_FIELD = "errors";
 
@@ -31,6 +31,7 @@ public class GraphqlClientProject extends GraphqlProject {
     private List<String> documents;
     private static GenerationType generationType = GenerationType.CLIENT;
     private Extension extensions;
+    private final QueryDocumentRegistry documentRegistry = new QueryDocumentRegistry();
 
     public GraphqlClientProject(String name, String schema, List<String> documents, Extension extensions,
                                 String outputPath) {
@@ -53,6 +54,10 @@ public class GraphqlClientProject extends GraphqlProject {
         return extensions;
     }
 
+    public QueryDocumentRegistry getDocumentRegistry() {
+        return documentRegistry;
+    }
+
     public GenerationType getGenerationType() {
         return generationType;
     }
@@ -0,0 +1,295 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DATA_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ERROR_FIELD;
+
+/**
+ * This class represents an on-disk cache of the introspection results of the GraphQL APIs. A successful introspection
+ * response is stored as a snapshot along with its `ETag` and `Last-Modified` validators, keyed by the hash of the
+ * endpoint and the request headers, so that a later introspection is sent as a conditional request and reuses the
+ * snapshot if the schema is not modified. The snapshots are also used to introspect the GraphQL APIs offline. The
+ * cache is best effort, a snapshot which cannot be written is ignored.
+ */
+public class IntrospectionCache {
+    private static final String SNAPSHOT_FILE_EXTENSION = ".json.gz";
+    private static final String VALIDATORS_FILE_EXTENSION = ".properties";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private final Path cacheDirectory;
+
+    public IntrospectionCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Gets the key of the snapshot of a given endpoint. The header names are case-insensitive and the headers are
+     * sorted, so that the same headers in a different order refer to the same snapshot. The key is a hash, so that
+     * the values of the headers, e.g. the tokens, are not stored in the cache.
+     *
+     * @param endpoint      the Graphql API endpoint
+     * @param headers       the headers of the introspection request
+     * @return              the key of the snapshot
+     */
+    String getKey(String endpoint, Map<String, String> headers) {
+        Map<String, String> sortedHeaders = new TreeMap<>();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            sortedHeaders.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+        }
+        StringBuilder content = new StringBuilder(endpoint);
+        for (Map.Entry<String, String> header : sortedHeaders.entrySet()) {
+            content.append('\n').append(header.getKey()).append(':').append(header.getValue());
+        }
+        return CodeGeneratorUtils.getSha256Hash(content.toString());
+    }
+
+    /**
+     * Gets the headers which make the introspection request conditional on the stored validators of a snapshot.
+     *
+     * @param key           the key of the snapshot
+     * @return              the conditional request headers, or an empty map if there is no snapshot with validators
+     */
+    Map<String, String> getConditionalHeaders(String key) {
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        Path validatorsFile = cacheDirectory.resolve(key + VALIDATORS_FILE_EXTENSION);
+        if (!Files.isRegularFile(getSnapshotFile(key)) || !Files.isRegularFile(validatorsFile)) {
+            return conditionalHeaders;
+        }
+        Properties validators = new Properties();
+        try (Reader reader = Files.newBufferedReader(validatorsFile, StandardCharsets.UTF_8)) {
+            validators.load(reader);
+        } catch (IOException e) {
+            return conditionalHeaders;
+        }
+        if (validators.getProperty(ETAG) != null) {
+            conditionalHeaders.put(IF_NONE_MATCH, validators.getProperty(ETAG));
+        }
+        if (validators.getProperty(LAST_MODIFIED) != null) {
+            conditionalHeaders.put(IF_MODIFIED_SINCE, validators.getProperty(LAST_MODIFIED));
+        }
+        return conditionalHeaders;
+    }
+
+    /**
+     * Reads the snapshot of a given key.
+     *
+     * @param key           the key of the snapshot
+     * @return              the stored introspection response, or `null` if there is no readable snapshot
+     */
+    Map<String, Object> readSnapshot(String key) {
+        Path snapshotFile = getSnapshotFile(key);
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+        try (Reader reader = new InputStreamReader(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile))),
+                StandardCharsets.UTF_8)) {
+            return new JsonStreamReader(reader).readDocument();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads an introspection response and stores it as the snapshot of a given key. The response is copied to the
+     * snapshot while it is read, and the snapshot replaces the previous snapshot only if the response is a
+     * successful introspection result.
+     *
+     * @param key               the key of the snapshot
+     * @param responseBody      the decoded introspection response body
+     * @param responseHeaders   the headers of the introspection response
+     * @return                  the introspection response
+     * @throws IOException      If an I/O error occurs while reading the response
+     */
+    Map<String, Object> readAndStoreSnapshot(String key, InputStream responseBody, HttpHeaders responseHeaders)
+            throws IOException {
+        Path tempSnapshotFile = createTempFile(key);
+        OutputStream snapshotStream = null;
+        if (tempSnapshotFile != null) {
+            try {
+                snapshotStream =
+                        new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempSnapshotFile)));
+            } catch (IOException e) {
+                deleteQuietly(tempSnapshotFile);
+                tempSnapshotFile = null;
+            }
+        }
+        SnapshotInputStream inputStream = new SnapshotInputStream(responseBody, snapshotStream);
+        Map<String, Object> introspectionResult;
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            introspectionResult = new JsonStreamReader(reader).readDocument();
+        } catch (IOException e) {
+            inputStream.closeSnapshot();
+            deleteQuietly(tempSnapshotFile);
+            throw e;
+        }
+        boolean snapshotWritten = inputStream.closeSnapshot();
+        if (tempSnapshotFile != null && snapshotWritten && !introspectionResult.containsKey(ERROR_FIELD) &&
+                introspectionResult.get(DATA_FIELD) instanceof Map) {
+            commitSnapshot(key, tempSnapshotFile, responseHeaders);
+        } else {
+            deleteQuietly(tempSnapshotFile);
+        }
+        return introspectionResult;
+    }
+
+    private void commitSnapshot(String key, Path tempSnapshotFile, HttpHeaders responseHeaders) {
+        Path validatorsFile = cacheDirectory.resolve(key + VALIDATORS_FILE_EXTENSION);
+        Path tempValidatorsFile = null;
+        try {
+            Properties validators = new Properties();
+            Optional<String> etag = responseHeaders.firstValue(ETAG);
+            Optional<String> lastModified = responseHeaders.firstValue(LAST_MODIFIED);
+            etag.ifPresent(value -> validators.setProperty(ETAG, value));
+            lastModified.ifPresent(value -> validators.setProperty(LAST_MODIFIED, value));
+            // The validators of the previous snapshot are removed before the snapshot is replaced, so that they are
+            // never sent for the new snapshot
+            Files.deleteIfExists(validatorsFile);
+            Files.move(tempSnapshotFile, getSnapshotFile(key), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            if (!validators.isEmpty()) {
+                tempValidatorsFile = createTempFile(key);
+                if (tempValidatorsFile == null) {
+                    return;
+                }
+                try (OutputStream outputStream = Files.newOutputStream(tempValidatorsFile)) {
+                    validators.store(outputStream, null);
+                }
+                Files.move(tempValidatorsFile, validatorsFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            deleteQuietly(tempSnapshotFile);
+            deleteQuietly(tempValidatorsFile);
+        }
+    }
+
+    private Path getSnapshotFile(String key) {
+        return cacheDirectory.resolve(key + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    private Path createTempFile(String key) {
+        try {
+            Files.createDirectories(cacheDirectory);
+            return Files.createTempFile(cacheDirectory, key, null);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The left over temporary file does not affect the snapshots
+        }
+    }
+
+    /**
+     * This class copies the bytes read from a response body to a snapshot. A failure to write the snapshot does not
+     * fail reading the response body, the copying is stopped instead and the snapshot is discarded.
+     */
+    private static class SnapshotInputStream extends FilterInputStream {
+        private OutputStream snapshotStream;
+        private boolean failed;
+
+        SnapshotInputStream(InputStream responseBody, OutputStream snapshotStream) {
+            super(responseBody);
+            this.snapshotStream = snapshotStream;
+            this.failed = snapshotStream == null;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int next = super.read();
+            if (next != -1) {
+                copy(new byte[]{(byte) next}, 0, 1);
+            }
+            return next;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = super.read(bytes, offset, length);
+            if (count > 0) {
+                copy(bytes, offset, count);
+            }
+            return count;
+        }
+
+        private void copy(byte[] bytes, int offset, int length) {
+            if (failed) {
+                return;
+            }
+            try {
+                snapshotStream.write(bytes, offset, length);
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        /**
+         * Closes the snapshot.
+         *
+         * @return      `true` if the whole response body is copied to the snapshot
+         */
+        boolean closeSnapshot() {
+            if (snapshotStream != null) {
+                try {
+                    snapshotStream.close();
+                } catch (IOException e) {
+                    failed = true;
+                }
+                snapshotStream = null;
+            }
+            return !failed;
+        }
+    }
+}
@@ -22,33 +22,62 @@ import io.ballerina.graphql.generator.client.exception.IntospectionException;
 import io.ballerina.graphql.generator.client.pojo.Default;
 import io.ballerina.graphql.generator.client.pojo.Endpoints;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.client.pojo.Introspection;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.ACCEPT_ENCODING;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.APPLICATION_JSON;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONTENT_ENCODING;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONTENT_TYPE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DATA_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DEFLATE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ERROR_FIELD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.GZIP;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.INTROSPECTION_QUERY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
 
 /**
- * This class is used to introspect a GraphQL API.
+ * This class is used to introspect a GraphQL API. The HTTP clients are shared by the introspections, so that the
+ * connections to the GraphQL APIs are reused, the introspection requests are sent asynchronously, and the failed
+ * introspection requests are retried with an exponential backoff.
  */
 public class Introspector {
-    private static Introspector introspector = null;
+    private static final String INTROSPECTION_ERROR_MESSAGE = "Failed to retrieve SDL. Please provide a valid " +
+            "GraphQL endpoint with relevant headers or a local SDL file path.";
+    // The status codes of the responses which may succeed when the request is sent again
+    private static final Set<Integer> RETRYABLE_STATUS_CODES = Set.of(408, 429, 500, 502, 503, 504);
+    private static final String MISSING_SNAPSHOT_ERROR_MESSAGE = "No introspection snapshot is found for the " +
+            "GraphQL endpoint \"%s\". Please run the command without the offline flag to introspect the GraphQL API.";
+    private static final int MAX_BACKOFF_EXPONENT = 30;
+    private static final Introspection DEFAULT_INTROSPECTION = new Introspection();
+    private static final Introspector introspector = new Introspector();
+
+    private final Map<Integer, HttpClient> httpClients = new ConcurrentHashMap<>();
 
     public static Introspector getInstance() {
-        if (introspector == null) {
-            introspector = new Introspector();
-        }
         return introspector;
     }
 
@@ -62,80 +91,278 @@ public class Introspector {
      */
     public Map<String, Object> getIntrospectionResult(String schema, Extension extensions)
             throws IntospectionException {
+        return getIntrospectionResult(schema, extensions, null, false);
+    }
+
+    /**
+     * Returns the introspection results map for a given GraphQL schema URL. With a cache, the introspection request
+     * is conditional on the validators of the stored snapshot, and the snapshot is reused if the GraphQL API responds
+     * that the schema is not modified. When offline, the snapshot is used without sending a request.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the cache of the introspection results, or `null` if the results
+     *                                              are not cached
+     * @param offline                               whether the introspection result is read only from the cache
+     * @return                                      the introspection results map
+     * @throws IntospectionException                If an error occurs during introspection of the GraphQL API
+     */
+    public Map<String, Object> getIntrospectionResult(String schema, Extension extensions,
+                                                      IntrospectionCache introspectionCache, boolean offline)
+            throws IntospectionException {
         try {
-            HttpClient httpClient = HttpClient.newHttpClient();
-            HttpRequest httpRequest;
-            if (extensions != null) {
-                httpRequest = createHttpRequest(schema, extensions);
-            } else {
-                httpRequest = createHttpRequest(schema);
+            return getIntrospectionResultAsync(schema, extensions, introspectionCache, offline).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IntospectionException(INTROSPECTION_ERROR_MESSAGE);
+        } catch (ExecutionException e) {
+            throw getIntrospectionException(e.getCause());
+        }
+    }
+
+    /**
+     * Introspects the GraphQL API of a given GraphQL schema URL asynchronously. The introspection request is sent
+     * without waiting for the response, so that the introspections of several GraphQL APIs are in flight at the same
+     * time over the shared connections.
+     *
+     * @param schema                                the GraphQL schema URL value of the Graphql config file
+     * @param extensions                            the extensions value of the Graphql config file
+     * @param introspectionCache                    the cache of the introspection results, or `null` if the results
+     *                                              are not cached
+     * @param offline                               whether the introspection result is read only from the cache
+     * @return                                      the future of the introspection results map, which completes
+     *                                              exceptionally with an `IntospectionException` if an error occurs
+     *                                              during introspection of the GraphQL API
+     */
+    public CompletableFuture<Map<String, Object>> getIntrospectionResultAsync(String schema, Extension extensions,
+                                                                             IntrospectionCache introspectionCache,
+                                                                             boolean offline) {
+        Introspection introspection = getIntrospection(extensions);
+        Map<String, String> headers = getHeaders(extensions);
+        String cacheKey = introspectionCache != null ? introspectionCache.getKey(schema, headers) : null;
+        CompletableFuture<Map<String, Object>> introspectionResult;
+        if (offline) {
+            Map<String, Object> snapshot =
+                    introspectionCache != null ? introspectionCache.readSnapshot(cacheKey) : null;
+            introspectionResult = snapshot != null ? CompletableFuture.completedFuture(snapshot) :
+                    CompletableFuture.failedFuture(
+                            new IntospectionException(String.format(MISSING_SNAPSHOT_ERROR_MESSAGE, schema)));
+        } else {
+            Map<String, String> conditionalHeaders = introspectionCache != null ?
+                    introspectionCache.getConditionalHeaders(cacheKey) : Collections.emptyMap();
+            try {
+                HttpRequest httpRequest = createHttpRequest(schema, headers, conditionalHeaders, introspection);
+                introspectionResult = sendHttpRequest(getHttpClient(introspection), httpRequest, introspection,
+                        introspectionCache, cacheKey, 0);
+            } catch (IllegalArgumentException e) {
+                introspectionResult = CompletableFuture.failedFuture(e);
+            }
+        }
+        return introspectionResult.handle((result, error) -> {
+            if (error != null) {
+                return CompletableFuture.<Map<String, Object>>failedFuture(getIntrospectionException(error));
+            }
+            if (result.containsKey(ERROR_FIELD) || !(result.get(DATA_FIELD) instanceof Map)) {
+                return CompletableFuture.<Map<String, Object>>failedFuture(
+                        new IntospectionException(INTROSPECTION_ERROR_MESSAGE));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> data = (Map<String, Object>) result.get(DATA_FIELD);
+            return CompletableFuture.completedFuture(data);
+        }).thenCompose(Function.identity());
+    }
+
+    private static IntospectionException getIntrospectionException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IntospectionException) {
+            return (IntospectionException) cause;
+        }
+        return new IntospectionException(INTROSPECTION_ERROR_MESSAGE +
+                (cause.getMessage() != null ? "\n" + cause.getMessage() : ""));
+    }
+
+    private static Introspection getIntrospection(Extension extensions) {
+        if (extensions != null && extensions.getIntrospection() != null) {
+            return extensions.getIntrospection();
+        }
+        return DEFAULT_INTROSPECTION;
+    }
+
+    /**
+     * Gets the HTTP client for the given introspection settings. The clients are created once for each connect
+     * timeout and prefer HTTP/2, falling back to HTTP/1.1 if the GraphQL API does not support it. The clients do not
+     * follow redirects, so the introspection headers are only sent to the configured GraphQL API.
+     *
+     * @param introspection     the introspection settings of the Graphql config file
+     * @return                  the HTTP client
+     */
+    private HttpClient getHttpClient(Introspection introspection) {
+        return httpClients.computeIfAbsent(introspection.getConnectTimeout(), connectTimeout -> {
+            HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2);
+            if (connectTimeout > 0) {
+                builder.connectTimeout(Duration.ofSeconds(connectTimeout));
             }
-            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            return builder.build();
+        });
+    }
+
+    /**
+     * Sends the introspection request asynchronously and returns the future of the introspection result read from
+     * the response. The response body is decoded and read as it is received, without buffering the whole body. The
+     * request is sent again after a backoff if it fails with an I/O error, including a timeout and an incomplete
+     * response body, or with a status code which may succeed later, until the maximum number of retries is reached.
+     * With a cache, the response is stored as the snapshot of the endpoint, and the stored snapshot is returned if
+     * the schema is not modified.
+     *
+     * @param httpClient            the HTTP client
+     * @param httpRequest           the introspection request
+     * @param introspection         the introspection settings of the Graphql config file
+     * @param introspectionCache    the cache of the introspection results, or `null` if the results are not cached
+     * @param cacheKey              the key of the snapshot of the endpoint
+     * @param attempt               the number of the attempt, starting from zero
+     * @return                      the future of the introspection result
+     */
+    private CompletableFuture<Map<String, Object>> sendHttpRequest(HttpClient httpClient, HttpRequest httpRequest,
+                                                                   Introspection introspection,
+                                                                   IntrospectionCache introspectionCache,
+                                                                   String cacheKey, int attempt) {
+        boolean lastAttempt = attempt >= introspection.getMaxRetries();
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(response -> readResponse(response, introspectionCache, cacheKey, lastAttempt))
+                .handle((introspectionResult, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ?
+                            error.getCause() : error;
+                    if (cause == null && introspectionResult != null) {
+                        return CompletableFuture.completedFuture(introspectionResult);
+                    }
+                    if (cause != null && (lastAttempt || !(cause instanceof IOException))) {
+                        return CompletableFuture.<Map<String, Object>>failedFuture(cause);
+                    }
+                    Executor retryExecutor = CompletableFuture.delayedExecutor(
+                            getRetryBackoff(introspection, attempt), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> { }, retryExecutor).thenCompose(ignored ->
+                            sendHttpRequest(httpClient, httpRequest, introspection, introspectionCache, cacheKey,
+                                    attempt + 1));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Reads the introspection result from the response.
+     *
+     * @param response              the HTTP response
+     * @param introspectionCache    the cache of the introspection results, or `null` if the results are not cached
+     * @param cacheKey              the key of the snapshot of the endpoint
+     * @param lastAttempt           whether the response is of the last attempt
+     * @return                      the introspection result, or `null` if the request should be sent again
+     * @throws CompletionException  If the response is unsuccessful or cannot be read
+     */
+    private Map<String, Object> readResponse(HttpResponse<InputStream> response,
+                                             IntrospectionCache introspectionCache, String cacheKey,
+                                             boolean lastAttempt) {
+        try {
             if (response.statusCode() == 200) {
-                JSONObject introspectionResult = new JSONObject(response.body());
-                if (introspectionResult.has(ERROR_FIELD) || !introspectionResult.has(DATA_FIELD)) {
-                    throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                            "with relevant headers or a local SDL file path.");
+                if (introspectionCache != null) {
+                    try (InputStream responseBody = getDecodedBody(response)) {
+                        return introspectionCache.readAndStoreSnapshot(cacheKey, responseBody, response.headers());
+                    }
                 }
-                return ((JSONObject) introspectionResult.get("data")).toMap();
-            } else {
-                throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL endpoint " +
-                        "with relevant headers or a local SDL file path.");
+                try (Reader responseBody = new InputStreamReader(getDecodedBody(response), StandardCharsets.UTF_8)) {
+                    return new JsonStreamReader(responseBody).readDocument();
+                }
+            }
+            response.body().close();
+            if (response.statusCode() == 304 && introspectionCache != null) {
+                Map<String, Object> snapshot = introspectionCache.readSnapshot(cacheKey);
+                if (snapshot == null) {
+                    throw new IntospectionException(INTROSPECTION_ERROR_MESSAGE);
+                }
+                return snapshot;
+            }
+            if (lastAttempt || !RETRYABLE_STATUS_CODES.contains(response.statusCode())) {
+                throw new IntospectionException(INTROSPECTION_ERROR_MESSAGE);
             }
-        } catch (InterruptedException | IOException e) {
-            throw new IntospectionException("Failed to retrieve SDL. Please provide a valid GraphQL " +
-                    "endpoint with relevant headers or a local SDL file path." +
-                    (e.getMessage() != null ? "\n" + e.getMessage() : ""));
+            return null;
+        } catch (IntospectionException | IOException e) {
+            throw new CompletionException(e);
         }
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload & headers attached to it.
+     * Gets the time (in milliseconds) to wait before a retry. The wait time is doubled for each retry, up to the
+     * maximum retry backoff.
      *
-     * @param endpoint         the Graphql API endpoint
-     * @return                 the HTTP request object
+     * @param introspection     the introspection settings of the Graphql config file
+     * @param attempt           the number of the failed attempt, starting from zero
+     * @return                  the time to wait before the retry
      */
-    private HttpRequest createHttpRequest(String endpoint, Extension extensions) {
-        Map<String, String> headers = null;
-        Endpoints endpoints = extensions.getEndpoints();
-        if (endpoints != null) {
-            Default defaultName = endpoints.getDefaultName();
-            if (defaultName != null) {
-                headers = defaultName.getHeaders();
-            }
+    private static long getRetryBackoff(Introspection introspection, int attempt) {
+        long backoff = Math.max(introspection.getRetryBackoff(), 0) *
+                (1L << Math.min(attempt, MAX_BACKOFF_EXPONENT));
+        return Math.min(backoff, Math.max(introspection.getMaxRetryBackoff(), 0));
+    }
+
+    /**
+     * Gets the response body decoded with the content encoding of the response.
+     *
+     * @param response          the HTTP response
+     * @return                  the decoded response body
+     * @throws IOException      If an I/O error occurs
+     */
+    private static InputStream getDecodedBody(HttpResponse<InputStream> response) throws IOException {
+        String contentEncoding = response.headers().firstValue(CONTENT_ENCODING).orElse("").trim();
+        if (GZIP.equalsIgnoreCase(contentEncoding)) {
+            return new GZIPInputStream(response.body());
+        } else if (DEFLATE.equalsIgnoreCase(contentEncoding)) {
+            return new InflaterInputStream(response.body());
         }
-        String graphqlPayload = getRequestPayload();
-        HttpRequest request;
-        if (headers != null) {
-            request = addHeaders(HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8)), headers)
-                    .build();
-        } else {
-            request = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .headers(CONTENT_TYPE, APPLICATION_JSON)
-                    .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                    .build();
+        return response.body();
+    }
+
+    /**
+     * Gets the headers of the introspection request configured in the extensions.
+     *
+     * @param extensions        the extensions value of the Graphql config file
+     * @return                  the headers map, or an empty map if no headers are configured
+     */
+    public static Map<String, String> getHeaders(Extension extensions) {
+        if (extensions != null) {
+            Endpoints endpoints = extensions.getEndpoints();
+            if (endpoints != null) {
+                Default defaultName = endpoints.getDefaultName();
+                if (defaultName != null && defaultName.getHeaders() != null) {
+                    return defaultName.getHeaders();
+                }
+            }
         }
-        return request;
+        return Collections.emptyMap();
     }
 
     /**
-     * Creates the HTTP request object with the GraphQL payload attached to it.
+     * Creates the HTTP request object with the GraphQL payload & headers attached to it. The request has the
+     * request timeout and the accepted content encodings of the introspection settings.
      *
-     * @param endpoint         the Graphql API endpoint
-     * @return                 the HTTP request object
+     * @param endpoint              the Graphql API endpoint
+     * @param headers               the headers map
+     * @param conditionalHeaders    the headers which make the request conditional on a stored snapshot
+     * @param introspection         the introspection settings of the Graphql config file
+     * @return                      the HTTP request object
      */
-    private HttpRequest createHttpRequest(String endpoint) {
+    private HttpRequest createHttpRequest(String endpoint, Map<String, String> headers,
+                                          Map<String, String> conditionalHeaders, Introspection introspection) {
         String graphqlPayload = getRequestPayload();
-        HttpRequest request = HttpRequest.newBuilder()
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(endpoint))
                 .headers(CONTENT_TYPE, APPLICATION_JSON)
-                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8))
-                .build();
-        return request;
+                .POST(HttpRequest.BodyPublishers.ofString(graphqlPayload, StandardCharsets.UTF_8));
+        if (introspection.getRequestTimeout() > 0) {
+            builder.timeout(Duration.ofSeconds(introspection.getRequestTimeout()));
+        }
+        if (introspection.isCompression()) {
+            builder.header(ACCEPT_ENCODING, String.join(", ", GZIP, DEFLATE));
+        }
+        addHeaders(builder, conditionalHeaders);
+        return addHeaders(builder, headers).build();
     }
 
     /**
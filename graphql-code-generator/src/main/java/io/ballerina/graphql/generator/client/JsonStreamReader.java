@@ -0,0 +1,273 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class reads a JSON document from a character stream into the maps, lists, strings, numbers and booleans that
+ * the introspection result is represented with. The document is read in chunks directly into these values, so that
+ * the raw document is never held in memory as a whole. The object keys are shared across the document, as the
+ * introspection result repeats a small set of keys many times.
+ */
+class JsonStreamReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+    private static final String NULL = "null";
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final Map<String, String> keys = new HashMap<>();
+    private final StringBuilder token = new StringBuilder();
+    private int position = 0;
+    private int limit = 0;
+    private long offset = 0;
+
+    JsonStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads a JSON document which is a single JSON object.
+     *
+     * @return                  the map of the members of the JSON object
+     * @throws IOException      If an I/O error occurs, or the document is not a valid JSON object
+     */
+    Map<String, Object> readDocument() throws IOException {
+        skipWhitespace();
+        if (peek() != '{') {
+            throw syntaxError("Expected a JSON object");
+        }
+        Map<String, Object> document = readObject();
+        skipWhitespace();
+        if (peek() != -1) {
+            throw syntaxError("Unexpected content after the JSON object");
+        }
+        return document;
+    }
+
+    private Object readValue() throws IOException {
+        skipWhitespace();
+        int next = peek();
+        switch (next) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                readLiteral(TRUE);
+                return Boolean.TRUE;
+            case 'f':
+                readLiteral(FALSE);
+                return Boolean.FALSE;
+            case 'n':
+                readLiteral(NULL);
+                return null;
+            default:
+                if (next == '-' || (next >= '0' && next <= '9')) {
+                    return readNumber();
+                }
+                throw syntaxError("Unexpected character");
+        }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+        read();
+        Map<String, Object> members = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            read();
+            return members;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw syntaxError("Expected an object key");
+            }
+            String key = keys.computeIfAbsent(readString(), k -> k);
+            skipWhitespace();
+            if (read() != ':') {
+                throw syntaxError("Expected ':'");
+            }
+            members.put(key, readValue());
+            skipWhitespace();
+            int next = read();
+            if (next == '}') {
+                return members;
+            } else if (next != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArray() throws IOException {
+        read();
+        List<Object> elements = new ArrayList<>();
+        skipWhitespace();
+        if (peek() == ']') {
+            read();
+            return elements;
+        }
+        while (true) {
+            elements.add(readValue());
+            skipWhitespace();
+            int next = read();
+            if (next == ']') {
+                return elements;
+            } else if (next != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        read();
+        token.setLength(0);
+        while (true) {
+            int next = read();
+            if (next == '"') {
+                return token.toString();
+            } else if (next == '\\') {
+                token.append(readEscapedCharacter());
+            } else if (next == -1 || next < 0x20) {
+                throw syntaxError("Unterminated string");
+            } else {
+                token.append((char) next);
+            }
+        }
+    }
+
+    private char readEscapedCharacter() throws IOException {
+        int next = read();
+        switch (next) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) next;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                return (char) codeUnit;
+            default:
+                throw syntaxError("Invalid escape character");
+        }
+    }
+
+    private Number readNumber() throws IOException {
+        token.setLength(0);
+        boolean integral = true;
+        while (true) {
+            int next = peek();
+            if ((next >= '0' && next <= '9') || next == '-' || next == '+') {
+                token.append((char) read());
+            } else if (next == '.' || next == 'e' || next == 'E') {
+                integral = false;
+                token.append((char) read());
+            } else {
+                break;
+            }
+        }
+        try {
+            if (!integral) {
+                return new BigDecimal(token.toString());
+            }
+            BigInteger value = new BigInteger(token.toString());
+            if (value.bitLength() < Integer.SIZE) {
+                return value.intValue();
+            } else if (value.bitLength() < Long.SIZE) {
+                return value.longValue();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw syntaxError("Invalid number");
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+    }
+
+    private void skipWhitespace() throws IOException {
+        int next = peek();
+        while (next == ' ' || next == '\n' || next == '\r' || next == '\t') {
+            read();
+            next = peek();
+        }
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        offset += limit;
+        position = 0;
+        limit = reader.read(buffer, 0, BUFFER_SIZE);
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + (offset + position) + " of the JSON document.");
+    }
+}
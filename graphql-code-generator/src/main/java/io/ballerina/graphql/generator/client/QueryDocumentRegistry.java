@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client;
+
+import graphql.language.Document;
+import graphql.parser.Parser;
+import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds the parsed GraphQL query documents of a single generation run, so that the validation and the
+ * code generation stages share one parsed AST per document instead of re-parsing the file.
+ */
+public class QueryDocumentRegistry {
+    private final Map<Path, ParsedDocument> parsedDocuments = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the parsed `Document` instance for a given GraphQL queries file.
+     *
+     * @param document                              the document value of the Graphql config file
+     * @return                                      the `Document` instance
+     * @throws IOException                          If an I/O error occurs
+     */
+    public Document getDocument(String document) throws IOException {
+        return getParsedDocument(document).getDocument();
+    }
+
+    /**
+     * Returns the `QueryReader` instance for a given GraphQL queries file.
+     *
+     * @param document                              the document value of the Graphql config file
+     * @return                                      the `QueryReader` instance
+     * @throws IOException                          If an I/O error occurs
+     */
+    public QueryReader getQueryReader(String document) throws IOException {
+        return getParsedDocument(document).getQueryReader();
+    }
+
+    /**
+     * Returns the parsed document for a given GraphQL queries file. The file is parsed only if it is not available in
+     * the registry or if its content has changed since it was parsed. The size and the last modified time of the file
+     * are checked first, but as an edit may keep both of them on a file system with a coarse time resolution, the
+     * cached document is reused only if the SHA-256 hash of the file content is also unchanged.
+     *
+     * @param document                              the document value of the Graphql config file
+     * @return                                      the parsed document
+     * @throws IOException                          If an I/O error occurs
+     */
+    private ParsedDocument getParsedDocument(String document) throws IOException {
+        Path documentPath = Paths.get(new File(document).getCanonicalPath());
+        BasicFileAttributes attributes = Files.readAttributes(documentPath, BasicFileAttributes.class);
+        String documentContent = Files.readString(documentPath);
+        String contentHash = CodeGeneratorUtils.getSha256Hash(documentContent);
+        ParsedDocument parsedDocument = parsedDocuments.get(documentPath);
+        if (parsedDocument != null && parsedDocument.isParsedFrom(attributes, contentHash)) {
+            return parsedDocument;
+        }
+        return parsedDocuments.compute(documentPath, (path, currentDocument) -> {
+            // Another thread may have parsed the same content in the meantime, or only the attributes have changed
+            if (currentDocument != null && currentDocument.getContentHash().equals(contentHash)) {
+                return currentDocument.isParsedFrom(attributes, contentHash) ? currentDocument :
+                        new ParsedDocument(attributes, contentHash, currentDocument.getDocument());
+            }
+            return new ParsedDocument(attributes, contentHash, new Parser().parseDocument(documentContent));
+        });
+    }
+
+    /**
+     * Represents a parsed GraphQL queries file along with the size, the last modified time and the content hash of
+     * the file it was parsed from.
+     */
+    private static class ParsedDocument {
+        private final long size;
+        private final FileTime lastModifiedTime;
+        private final String contentHash;
+        private final Document document;
+        private final QueryReader queryReader;
+
+        ParsedDocument(BasicFileAttributes attributes, String contentHash, Document document) {
+            this.size = attributes.size();
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.contentHash = contentHash;
+            this.document = document;
+            this.queryReader = new QueryReader(document);
+        }
+
+        boolean isParsedFrom(BasicFileAttributes attributes, String contentHash) {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime()) &&
+                    this.contentHash.equals(contentHash);
+        }
+
+        String getContentHash() {
+            return contentHash;
+        }
+
+        Document getDocument() {
+            return document;
+        }
+
+        QueryReader getQueryReader() {
+            return queryReader;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.graphql.generator.CodeGenerator;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.GraphqlProject;
 import io.ballerina.graphql.generator.client.GraphqlClientProject;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
 import io.ballerina.graphql.generator.client.exception.ClientCodeGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
@@ -33,26 +34,88 @@ import io.ballerina.graphql.generator.client.generator.ballerina.ClientGenerator
 import io.ballerina.graphql.generator.client.generator.ballerina.ClientTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.ConfigTypesGenerator;
 import io.ballerina.graphql.generator.client.generator.ballerina.UtilsGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.OperationManifestGenerator;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.client.pojo.Extension;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.graphql.generator.utils.SrcFilePojo;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Generates Ballerina client code.
  */
 public class ClientCodeGenerator extends CodeGenerator {
+    private boolean fastEmit = false;
+    private boolean typedBinding = false;
+    private boolean operationManifest = false;
+    private int generationThreads = CodeGeneratorConstants.DEFAULT_GENERATION_THREADS;
+
+    /**
+     * Makes the generator write the types file directly to the output file instead of building the syntax tree and
+     * formatting it.
+     */
+    public void enableFastEmit() {
+        this.fastEmit = true;
+    }
+
+    /**
+     * Makes the generated client pass the response types to the GraphQL client, so that the responses are bound to
+     * the response records directly instead of being bound through the `performDataBinding` util function.
+     */
+    public void enableTypedBinding() {
+        this.typedBinding = true;
+    }
+
+    /**
+     * Makes the generator write a manifest of the persisted operations, which maps the hash of each operation to its
+     * query text, alongside the generated client.
+     */
+    public void enableOperationManifest() {
+        this.operationManifest = true;
+    }
+
+    /**
+     * Sets the number of threads used to generate the source files of a project concurrently. The source files are
+     * generated one after another in the calling thread when this is less than two.
+     *
+     * @param generationThreads the number of threads used to generate the source files
+     */
+    public void setGenerationThreads(int generationThreads) {
+        this.generationThreads = generationThreads;
+    }
+
     @Override
     public void generate(GraphqlProject project) throws ClientCodeGenerationException {
         String outputPath = project.getOutputPath();
         try {
-            List<SrcFilePojo> genSources = generateBalSources(project, GeneratorContext.CLI);
+            boolean shardTypes = getClientOptions(((GraphqlClientProject) project).getExtensions()).isShardTypes();
+            // The sharded types files are small enough to be formatted, so they are not emitted directly
+            boolean emitTypes = fastEmit && !shardTypes;
+            List<SrcFilePojo> genSources = generateBalSources(project, GeneratorContext.CLI, !emitTypes);
             writeGeneratedSources(genSources, Path.of(outputPath));
+            deleteStaleTypesShards(project, genSources, Path.of(outputPath));
+            if (emitTypes) {
+                emitClientTypes(project, Path.of(outputPath));
+            }
         } catch (IOException e) {
             throw new ClientCodeGenerationException(e.getMessage(), project.getName());
         } catch (NullPointerException e) {
@@ -64,40 +127,188 @@ public class ClientCodeGenerator extends CodeGenerator {
     public List<SrcFilePojo> generateBalSources(GraphqlProject project, GeneratorContext generatorContext)
             throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
             ConfigTypesGenerationException {
+        return generateBalSources(project, generatorContext, true);
+    }
+
+    private List<SrcFilePojo> generateBalSources(GraphqlProject project, GeneratorContext generatorContext,
+                                                 boolean includeClientTypes)
+            throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
+            ConfigTypesGenerationException {
         String projectName = project.getName();
         Extension extensions = ((GraphqlClientProject) project).getExtensions();
         List<String> documents = ((GraphqlClientProject) project).getDocuments();
+        QueryDocumentRegistry documentRegistry = ((GraphqlClientProject) project).getDocumentRegistry();
         GraphQLSchema schema = project.getGraphQLSchema();
 
         AuthConfig authConfig = new AuthConfig();
         AuthConfigGenerator.getInstance().populateAuthConfigTypes(extensions, authConfig);
         AuthConfigGenerator.getInstance().populateApiHeaders(extensions, authConfig);
 
+        ClientOptions clientOptions = getClientOptions(extensions);
+        // The persisted queries and the cached responses are read as `json`, so they cannot be bound by the GraphQL
+        // client. Generating them with typed binding would silently fall back to the `performDataBinding` function.
+        if (clientOptions.isTypedBinding() &&
+                (clientOptions.isPersistedQueries() || clientOptions.isResponseCache())) {
+            throw new ClientGenerationException("The typed-binding flag is incompatible with the persistedQueries " +
+                    "and the responseCache extensions of the project \"" + projectName + "\".");
+        }
+        clientOptions.setSubscriptions(hasSubscriptions(documents, documentRegistry));
+
+        List<GenerationStage> stages = new ArrayList<>();
+        stages.add(sourceFiles -> generateClients(projectName, documents, documentRegistry, schema, authConfig,
+                clientOptions, sourceFiles, generatorContext));
+        stages.add(sourceFiles -> generateUtils(projectName, authConfig, clientOptions, sourceFiles));
+        if (includeClientTypes) {
+            stages.add(sourceFiles -> generateClientTypes(projectName, documents, documentRegistry, schema,
+                    clientOptions, sourceFiles));
+        }
+        stages.add(sourceFiles -> generateConfigTypes(projectName, authConfig, clientOptions, sourceFiles));
+        if (operationManifest) {
+            stages.add(sourceFiles -> generateOperationManifest(projectName, documents, documentRegistry,
+                    sourceFiles));
+        }
+
+        return runGenerationStages(stages);
+    }
+
+    /**
+     * Gets the optional features of the generated client from the command options and the project extensions.
+     *
+     * @param extensions the extensions of a given GraphQL project, or `null` if the project has none
+     * @return the optional features of the generated client
+     */
+    private ClientOptions getClientOptions(Extension extensions) {
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setTypedBinding(typedBinding);
+        clientOptions.setPersistedQueries(extensions != null && extensions.isPersistedQueries());
+        clientOptions.setBatching(extensions != null && extensions.isBatching());
+        clientOptions.setResponseCache(extensions != null && extensions.isResponseCache());
+        clientOptions.setPruneUnusedTypes(extensions != null && extensions.isPruneUnusedTypes());
+        clientOptions.setDeduplicateRecords(extensions != null && extensions.isDeduplicateRecords());
+        clientOptions.setTypesShardSize(extensions != null ? extensions.getTypesShardSize() : 0);
+        clientOptions.setShardTypesByDocument(extensions != null && extensions.isShardTypesByDocument());
+        clientOptions.setOmitUnsetVariables(extensions != null && extensions.isOmitUnsetVariables());
+        return clientOptions;
+    }
+
+    /**
+     * Checks whether the given query documents have subscription operations, so that the client, the utils and the
+     * config types are generated with the support for subscriptions.
+     *
+     * @param documents        the list of documents of a given GraphQL project
+     * @param documentRegistry the registry of the parsed query documents
+     * @return `true` if any of the documents has a subscription operation
+     * @throws ClientGenerationException when a query document cannot be read
+     */
+    private static boolean hasSubscriptions(List<String> documents, QueryDocumentRegistry documentRegistry)
+            throws ClientGenerationException {
+        try {
+            for (String document : documents) {
+                for (ExtendedOperationDefinition operationDefinition :
+                        documentRegistry.getQueryReader(document).getExtendedOperationDefinitions()) {
+                    if (operationDefinition.isSubscription()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the given independent generation stages, concurrently if more than one generation thread is configured.
+     * The generated source files are always collected in the order of the stages.
+     *
+     * @param stages the generation stages of a given GraphQL project
+     * @return the list of generated Ballerina source file pojo
+     */
+    private List<SrcFilePojo> runGenerationStages(List<GenerationStage> stages)
+            throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
+            ConfigTypesGenerationException {
         List<SrcFilePojo> sourceFiles = new ArrayList<>();
-        generateClients(projectName, documents, schema, authConfig, sourceFiles, generatorContext);
-        generateUtils(projectName, authConfig, sourceFiles);
-        generateClientTypes(projectName, documents, schema, sourceFiles);
-        generateConfigTypes(projectName, authConfig, sourceFiles);
+        if (generationThreads < 2) {
+            for (GenerationStage stage : stages) {
+                try {
+                    stage.generate(sourceFiles);
+                } catch (ClientCodeGenerationException e) {
+                    rethrowStageException(e);
+                }
+            }
+            return sourceFiles;
+        }
 
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(generationThreads, stages.size()));
+        try {
+            List<Future<List<SrcFilePojo>>> stageResults = new ArrayList<>();
+            for (GenerationStage stage : stages) {
+                stageResults.add(executor.submit(() -> {
+                    List<SrcFilePojo> stageSourceFiles = new ArrayList<>();
+                    stage.generate(stageSourceFiles);
+                    return stageSourceFiles;
+                }));
+            }
+            for (Future<List<SrcFilePojo>> stageResult : stageResults) {
+                try {
+                    sourceFiles.addAll(stageResult.get());
+                } catch (ExecutionException e) {
+                    rethrowStageException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ClientGenerationException(e.getMessage(), e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
         return sourceFiles;
     }
 
+    /**
+     * Rethrows the failure of a generation stage as it would have been thrown by the stage itself.
+     *
+     * @param e the failure of the generation stage
+     */
+    private static void rethrowStageException(Throwable e)
+            throws ClientGenerationException, UtilsGenerationException, ClientTypesGenerationException,
+            ConfigTypesGenerationException {
+        if (e instanceof ClientGenerationException) {
+            throw (ClientGenerationException) e;
+        } else if (e instanceof UtilsGenerationException) {
+            throw (UtilsGenerationException) e;
+        } else if (e instanceof ClientTypesGenerationException) {
+            throw (ClientTypesGenerationException) e;
+        } else if (e instanceof ConfigTypesGenerationException) {
+            throw (ConfigTypesGenerationException) e;
+        } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new ClientGenerationException(e.getMessage(), e);
+    }
+
     /**
      * Generates the Ballerina clients source codes for a given GraphQL project.
      *
      * @param projectName      the name of the GraphQL project
      * @param documents        the list of documents of a given GraphQL project
+     * @param documentRegistry the registry of the parsed query documents of a given GraphQL project
      * @param schema           the object instance of the GraphQL schema (SDL)
      * @param authConfig       the object instance representing authentication config information
+     * @param clientOptions    the object instance representing the optional client features
      * @param sourceFiles      the list of generated Ballerina source file pojo
      * @param generatorContext the context which triggered the source generation
      * @throws ClientGenerationException when a client code generation error occurs
      * @throws IOException               If an I/O error occurs
      */
-    private void generateClients(String projectName, List<String> documents, GraphQLSchema schema,
-                                 AuthConfig authConfig, List<SrcFilePojo> sourceFiles,
-                                 GeneratorContext generatorContext) throws ClientGenerationException {
-        String clientSrc = ClientGenerator.getInstance().generateSrc(documents, schema, authConfig, generatorContext);
+    private void generateClients(String projectName, List<String> documents, QueryDocumentRegistry documentRegistry,
+                                 GraphQLSchema schema, AuthConfig authConfig, ClientOptions clientOptions,
+                                 List<SrcFilePojo> sourceFiles, GeneratorContext generatorContext)
+            throws ClientGenerationException {
+        String clientSrc = ClientGenerator.getInstance()
+                .generateSrc(documents, documentRegistry, schema, authConfig, generatorContext, clientOptions);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.CLIENT_FILE_NAME,
                         clientSrc));
@@ -107,20 +318,97 @@ public class ClientCodeGenerator extends CodeGenerator {
      * Generates the Ballerina Client types source codes for a given GraphQL project.
      *
      * @param projectName the name of the GraphQL project
-     * @param documents   the list of documents of a given GraphQL project
-     * @param schema      the GraphQL schema (SDL) of a given GraphQL project
-     * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param documents        the list of documents of a given GraphQL project
+     * @param documentRegistry the registry of the parsed query documents of a given GraphQL project
+     * @param schema           the GraphQL schema (SDL) of a given GraphQL project
+     * @param clientOptions    the optional features of the generated client
+     * @param sourceFiles      the list of generated Ballerina source file pojo
      * @throws ClientTypesGenerationException when a types code generation error occurs
      */
-    private void generateClientTypes(String projectName, List<String> documents, GraphQLSchema schema,
-                                     List<SrcFilePojo> sourceFiles) throws ClientTypesGenerationException {
+    private void generateClientTypes(String projectName, List<String> documents,
+                                     QueryDocumentRegistry documentRegistry, GraphQLSchema schema,
+                                     ClientOptions clientOptions, List<SrcFilePojo> sourceFiles)
+            throws ClientTypesGenerationException {
+        if (clientOptions.isShardTypes()) {
+            List<String> typesFileContents = ClientTypesGenerator.getInstance().generateShardedSrc(schema, documents,
+                    documentRegistry, clientOptions);
+            sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName,
+                    CodeGeneratorConstants.TYPES_FILE_NAME, typesFileContents.get(0)));
+            for (int shard = 1; shard < typesFileContents.size(); shard++) {
+                sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName,
+                        String.format(CodeGeneratorConstants.TYPES_SHARD_FILE_NAME, shard),
+                        CodeGeneratorConstants.TYPES_SHARD_FILE_HEADER + CodeGeneratorConstants.NEW_LINE +
+                                typesFileContents.get(shard)));
+            }
+            return;
+        }
         String typesFileContent = "";
-        typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schema, documents);
+        typesFileContent = ClientTypesGenerator.getInstance().generateSrc(schema, documents, documentRegistry,
+                clientOptions);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName, CodeGeneratorConstants.TYPES_FILE_NAME,
                         typesFileContent));
     }
 
+    /**
+     * Deletes the types shard files left in the output directory by a previous generation, either with more shards or
+     * with sharding turned on, as their records would be defined twice in the module. Only the shard files starting
+     * with the generated shard file header are deleted, so the files written by the user are kept.
+     *
+     * @param project    the instance of the GraphQL project
+     * @param sources    the list of generated Ballerina source file pojo
+     * @param outputPath the target output path for the code generation
+     * @throws IOException If an I/O error occurs
+     */
+    private void deleteStaleTypesShards(GraphqlProject project, List<SrcFilePojo> sources, Path outputPath)
+            throws IOException {
+        Set<String> generatedFileNames = new HashSet<>();
+        for (SrcFilePojo source : sources) {
+            generatedFileNames.add(source.getFileName());
+        }
+        SrcFilePojo typesFile = new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, project.getName(),
+                CodeGeneratorConstants.TYPES_FILE_NAME, CodeGeneratorConstants.EMPTY_STRING);
+        Path typesDirectory = CodeGeneratorUtils.getAbsoluteFilePath(typesFile, outputPath).getParent();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(typesDirectory,
+                CodeGeneratorConstants.TYPES_SHARD_FILE_GLOB)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.matches(CodeGeneratorConstants.TYPES_SHARD_FILE_NAME_PATTERN) &&
+                        !generatedFileNames.contains(fileName) && isGeneratedTypesShard(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static boolean isGeneratedTypesShard(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return CodeGeneratorConstants.TYPES_SHARD_FILE_HEADER.equals(reader.readLine());
+        } catch (MalformedInputException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes the Ballerina Client types source codes of a given GraphQL project directly to the types file.
+     *
+     * @param project    the instance of the GraphQL project
+     * @param outputPath the target output path for the code generation
+     * @throws ClientTypesGenerationException when a types code generation error occurs
+     * @throws IOException                    If an I/O error occurs
+     */
+    private void emitClientTypes(GraphqlProject project, Path outputPath)
+            throws ClientTypesGenerationException, IOException {
+        GraphqlClientProject clientProject = (GraphqlClientProject) project;
+        SrcFilePojo typesFile = new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, project.getName(),
+                CodeGeneratorConstants.TYPES_FILE_NAME, CodeGeneratorConstants.EMPTY_STRING);
+        Path typesFilePath = CodeGeneratorUtils.getAbsoluteFilePath(typesFile, outputPath);
+        try (Writer writer = Files.newBufferedWriter(typesFilePath, StandardCharsets.UTF_8)) {
+            ClientTypesGenerator.getInstance().emitSrc(project.getGraphQLSchema(), clientProject.getDocuments(),
+                    clientProject.getDocumentRegistry(), getClientOptions(clientProject.getExtensions()), writer);
+        }
+    }
+
     /**
      * Generates the Ballerina utils source codes for a given GraphQL project.
      *
@@ -131,7 +419,23 @@ public class ClientCodeGenerator extends CodeGenerator {
      */
     public void generateUtils(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles)
             throws UtilsGenerationException {
-        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig);
+        ClientOptions clientOptions = new ClientOptions();
+        clientOptions.setTypedBinding(typedBinding);
+        generateUtils(projectName, authConfig, clientOptions, sourceFiles);
+    }
+
+    /**
+     * Generates the Ballerina utils source codes for a given GraphQL project with the given optional client features.
+     *
+     * @param projectName   the name of the GraphQL project
+     * @param authConfig    the object instance representing authentication config information
+     * @param clientOptions the object instance representing the optional client features
+     * @param sourceFiles   the list of generated Ballerina source file pojo
+     * @throws UtilsGenerationException when an utils code generation error occurs
+     */
+    private void generateUtils(String projectName, AuthConfig authConfig, ClientOptions clientOptions,
+                               List<SrcFilePojo> sourceFiles) throws UtilsGenerationException {
+        String utilSrc = UtilsGenerator.getInstance().generateSrc(authConfig, clientOptions);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.UTIL_SRC, projectName, CodeGeneratorConstants.UTILS_FILE_NAME,
                         utilSrc));
@@ -141,14 +445,40 @@ public class ClientCodeGenerator extends CodeGenerator {
      * Generates the Ballerina config types source codes for a given GraphQL project.
      *
      * @param projectName the name of the GraphQL project
-     * @param authConfig  the object instance representing authentication config information
-     * @param sourceFiles the list of generated Ballerina source file pojo
+     * @param authConfig    the object instance representing authentication config information
+     * @param clientOptions the object instance representing the optional client features
+     * @param sourceFiles   the list of generated Ballerina source file pojo
      * @throws ConfigTypesGenerationException when a config types code generation error occurs
      */
-    private void generateConfigTypes(String projectName, AuthConfig authConfig, List<SrcFilePojo> sourceFiles)
-            throws ConfigTypesGenerationException {
-        String configTypesSrc = ConfigTypesGenerator.getInstance().generateSrc(authConfig);
+    private void generateConfigTypes(String projectName, AuthConfig authConfig, ClientOptions clientOptions,
+                                     List<SrcFilePojo> sourceFiles) throws ConfigTypesGenerationException {
+        String configTypesSrc = ConfigTypesGenerator.getInstance().generateSrc(authConfig, clientOptions);
         sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.CONFIG_SRC, projectName,
                 CodeGeneratorConstants.CONFIG_TYPES_FILE_NAME, configTypesSrc));
     }
+
+    /**
+     * Generates the persisted operation manifest for a given GraphQL project.
+     *
+     * @param projectName      the name of the GraphQL project
+     * @param documents        the list of documents of a given GraphQL project
+     * @param documentRegistry the registry of the parsed query documents of a given GraphQL project
+     * @param sourceFiles      the list of generated Ballerina source file pojo
+     * @throws ClientGenerationException when a query document cannot be read
+     */
+    private void generateOperationManifest(String projectName, List<String> documents,
+                                           QueryDocumentRegistry documentRegistry, List<SrcFilePojo> sourceFiles)
+            throws ClientGenerationException {
+        String manifestContent = OperationManifestGenerator.getInstance().generateSrc(documents, documentRegistry);
+        sourceFiles.add(new SrcFilePojo(SrcFilePojo.GenFileType.RES, projectName,
+                CodeGeneratorConstants.OPERATION_MANIFEST_FILE_NAME, manifestContent));
+    }
+
+    /**
+     * Represents a stage of the client code generation which generates source files independently of other stages.
+     */
+    @FunctionalInterface
+    private interface GenerationStage {
+        void generate(List<SrcFilePojo> sourceFiles) throws ClientCodeGenerationException;
+    }
 }
@@ -18,7 +18,6 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
-import graphql.language.Document;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
@@ -37,11 +36,12 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
 import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.graphql.generator.utils.GeneratorContext;
 import io.ballerina.tools.text.TextDocument;
@@ -80,6 +80,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.READONLY_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
@@ -91,12 +92,9 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.INIT;
  * This class is used to generate ballerina client file according to given SDL and query file.
  */
 public class ClientGenerator {
-    private static ClientGenerator clientGenerator = null;
+    private static final ClientGenerator clientGenerator = new ClientGenerator();
 
     public static ClientGenerator getInstance() {
-        if (clientGenerator == null) {
-            clientGenerator = new ClientGenerator();
-        }
         return clientGenerator;
     }
 
@@ -111,9 +109,43 @@ public class ClientGenerator {
      */
     public String generateSrc(List<String> queryDocuments, GraphQLSchema graphQLSchema, AuthConfig authConfig,
                               GeneratorContext generatorContext) throws ClientGenerationException {
+        return generateSrc(queryDocuments, new QueryDocumentRegistry(), graphQLSchema, authConfig, generatorContext);
+    }
+
+    /**
+     * Generates the client file content reusing the query documents parsed into the given registry.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentRegistry                  the registry of the parsed query documents
+     * @param graphQLSchema                     the object instance of the GraphQL schema (SDL)
+     * @param authConfig                        the object instance representing authentication config information
+     * @return                                  the client file content
+     * @throws ClientGenerationException        when a client code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, QueryDocumentRegistry documentRegistry,
+                              GraphQLSchema graphQLSchema, AuthConfig authConfig, GeneratorContext generatorContext)
+            throws ClientGenerationException {
+        return generateSrc(queryDocuments, documentRegistry, graphQLSchema, authConfig, generatorContext,
+                new ClientOptions());
+    }
+
+    /**
+     * Generates the client file content with the given optional client features.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentRegistry                  the registry of the parsed query documents
+     * @param graphQLSchema                     the object instance of the GraphQL schema (SDL)
+     * @param authConfig                        the object instance representing authentication config information
+     * @param clientOptions                     the object instance representing the optional client features
+     * @return                                  the client file content
+     * @throws ClientGenerationException        when a client code generation error occurs
+     */
+    public String generateSrc(List<String> queryDocuments, QueryDocumentRegistry documentRegistry,
+                              GraphQLSchema graphQLSchema, AuthConfig authConfig, GeneratorContext generatorContext,
+                              ClientOptions clientOptions) throws ClientGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(
-                    queryDocuments, graphQLSchema, authConfig, generatorContext)).toString();
+            return Formatter.format(generateSyntaxTree(queryDocuments, documentRegistry, graphQLSchema, authConfig,
+                    generatorContext, clientOptions)).toString();
         } catch (FormatterException | IOException e) {
             throw new ClientGenerationException(e.getMessage());
         }
@@ -123,17 +155,22 @@ public class ClientGenerator {
      * Generates the client syntax tree.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentRegistry          the registry of the parsed query documents
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param clientOptions             the object instance representing the optional client features
      * @return                          Syntax tree for the ballerina client code
      */
-    private SyntaxTree generateSyntaxTree(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                          AuthConfig authConfig, GeneratorContext generatorContext) throws IOException {
+    private SyntaxTree generateSyntaxTree(List<String> queryDocuments, QueryDocumentRegistry documentRegistry,
+                                          GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                          GeneratorContext generatorContext, ClientOptions clientOptions)
+            throws IOException {
         // Generate imports
-        NodeList<ImportDeclarationNode> imports = generateImports();
+        NodeList<ImportDeclarationNode> imports = generateImports(clientOptions);
         // Generate auth config records & client class
         NodeList<ModuleMemberDeclarationNode> members =
-                generateMembers(queryDocuments, graphQLSchema, authConfig, generatorContext);
+                generateMembers(queryDocuments, documentRegistry, graphQLSchema, authConfig, generatorContext,
+                        clientOptions);
 
         ModulePartNode modulePartNode = createModulePartNode(imports, members, createToken(EOF_TOKEN));
 
@@ -145,13 +182,18 @@ public class ClientGenerator {
     /**
      * Generates the imports in the client file.
      *
+     * @param clientOptions             the object instance representing the optional client features
      * @return                          the node list which represent imports in the client file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(ClientOptions clientOptions) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
                 CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
         imports.add(importForGraphql);
+        if (clientOptions.requiresHttpClient()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.HTTP));
+        }
         return createNodeList(imports);
     }
 
@@ -159,18 +201,23 @@ public class ClientGenerator {
      * Generates the members in the client file. The members include auth config record types & client class nodes.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentRegistry          the registry of the parsed query documents
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param clientOptions             the object instance representing the optional client features
      * @return                          the node list which represent members in the client file
      */
     private NodeList<ModuleMemberDeclarationNode> generateMembers(List<String> queryDocuments,
+                                                                  QueryDocumentRegistry documentRegistry,
                                                                   GraphQLSchema graphQLSchema, AuthConfig authConfig,
-                                                                  GeneratorContext generatorContext)
+                                                                  GeneratorContext generatorContext,
+                                                                  ClientOptions clientOptions)
             throws IOException {
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
         // Generate client class
         ClassDefinitionNode classDefinitionNode =
-                generateClientClass(queryDocuments, graphQLSchema, authConfig, generatorContext);
+                generateClientClass(queryDocuments, documentRegistry, graphQLSchema, authConfig, generatorContext,
+                        clientOptions);
         members.add(classDefinitionNode);
         return createNodeList(members);
     }
@@ -179,12 +226,16 @@ public class ClientGenerator {
      * Generates the client class in the client file.
      *
      * @param queryDocuments            the list of names of the query documents
+     * @param documentRegistry          the registry of the parsed query documents
      * @param graphQLSchema             the object instance of the GraphQL schema (SDL)
      * @param authConfig                the object instance representing authentication configuration information
+     * @param clientOptions             the object instance representing the optional client features
      * @return                          the node which represent the client class in the client file
      */
-    private ClassDefinitionNode generateClientClass(List<String> queryDocuments, GraphQLSchema graphQLSchema,
-                                                    AuthConfig authConfig, GeneratorContext generatorContext)
+    private ClassDefinitionNode generateClientClass(List<String> queryDocuments,
+                                                    QueryDocumentRegistry documentRegistry,
+                                                    GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                    GeneratorContext generatorContext, ClientOptions clientOptions)
             throws IOException {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
         NodeList<Token> classTypeQualifiers = createNodeList(
@@ -194,11 +245,18 @@ public class ClientGenerator {
         // Collect members for class definition node
         List<Node> members =  new ArrayList<>();
         // Generate class instance variables
-        members.addAll(generateClassInstanceVariables(authConfig));
+        members.addAll(generateClassInstanceVariables(authConfig, clientOptions));
         // Generate init function
-        members.add(generateInitFunction(authConfig));
+        members.add(generateInitFunction(authConfig, clientOptions));
         // Generate remote functions
-        members.addAll(generateRemoteFunctions(queryDocuments, graphQLSchema, authConfig));
+        members.addAll(generateRemoteFunctions(queryDocuments, documentRegistry, graphQLSchema, authConfig,
+                clientOptions));
+        if (clientOptions.isBatching()) {
+            // Generate batch operation functions
+            members.add(generateExecuteBatchFunction(authConfig));
+            members.addAll(generateBatchOperationFunctions(queryDocuments, documentRegistry, graphQLSchema,
+                    clientOptions));
+        }
 
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
                 createToken(CLASS_KEYWORD), className, createToken(OPEN_BRACE_TOKEN),
@@ -209,11 +267,23 @@ public class ClientGenerator {
      * Generates the client class instance variables.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param clientOptions     the object instance representing the optional client features
      * @return                  the list of nodes which represent the client class instance variables
      */
-    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig) {
+    private List<ObjectFieldNode> generateClassInstanceVariables(AuthConfig authConfig,
+                                                                 ClientOptions clientOptions) {
         List<ObjectFieldNode> objectFields = new ArrayList<>();
         objectFields.add(generateGraphqlClientField());
+        if (clientOptions.requiresHttpClient()) {
+            objectFields.add(generateHttpClientField());
+        }
+        if (clientOptions.isResponseCache()) {
+            objectFields.add(generateResponseCacheField());
+        }
+        if (clientOptions.isSubscriptions()) {
+            objectFields.add(generateSubscriptionUrlField());
+            objectFields.add(generateSubscriptionConfigField());
+        }
 
         if (authConfig.isApiKeysConfig()) {
             objectFields.add(generateApiKeysConfigField());
@@ -225,9 +295,10 @@ public class ClientGenerator {
      * Generates the client class init function.
      *
      * @param authConfig        the object instance representing authentication configuration information
+     * @param clientOptions     the object instance representing the optional client features
      * @return                  the node which represent the init function
      */
-    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig) {
+    private FunctionDefinitionNode generateInitFunction(AuthConfig authConfig, ClientOptions clientOptions) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -236,7 +307,8 @@ public class ClientGenerator {
 
         FunctionSignatureNode functionSignatureNode =
                 FunctionSignatureGenerator.getInstance().generateInitFunctionSignature(authConfig);
-        FunctionBodyNode functionBodyNode = FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig);
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateInitFunctionBody(authConfig, clientOptions);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
@@ -246,23 +318,26 @@ public class ClientGenerator {
      * Generates the client class remote functions.
      *
      * @param queryDocuments    the list of names of the query documents
+     * @param documentRegistry  the registry of the parsed query documents
      * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
      * @param authConfig        the object instance representing authentication configuration information
+     * @param clientOptions     the object instance representing the optional client features
      * @return                  the list of nodes which represent the remote functions
      */
     private List<FunctionDefinitionNode> generateRemoteFunctions(List<String> queryDocuments,
-                                                                 GraphQLSchema graphQLSchema, AuthConfig authConfig)
+                                                                 QueryDocumentRegistry documentRegistry,
+                                                                 GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                                 ClientOptions clientOptions)
             throws IOException {
         List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
 
         for (String document : queryDocuments) {
-            Document queryDocument = Utils.getGraphQLQueryDocument(document);
-            QueryReader queryReader = new QueryReader(queryDocument);
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
 
             for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
                 // Generate remote function
                 FunctionDefinitionNode functionDefinitionNode =
-                        generateRemoteFunction(queryDefinition, graphQLSchema, authConfig);
+                        generateRemoteFunction(queryDefinition, graphQLSchema, authConfig, clientOptions);
                 functionDefinitionNodeList.add(functionDefinitionNode);
             }
         }
@@ -275,10 +350,12 @@ public class ClientGenerator {
      * @param queryDefinition       the object instance of a single query definition in a query document
      * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
      * @param authConfig            the object instance representing authentication configuration information
+     * @param clientOptions         the object instance representing the optional client features
      * @return                      the node which represent the remote function
      */
     private FunctionDefinitionNode generateRemoteFunction(ExtendedOperationDefinition queryDefinition,
-                                                          GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+                                                          GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                          ClientOptions clientOptions) {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
@@ -291,7 +368,92 @@ public class ClientGenerator {
                         .generateRemoteFunctionSignature(queryDefinition, graphQLSchema);
         FunctionBodyNode functionBodyNode =
                 FunctionBodyGenerator.getInstance()
-                        .generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig);
+                        .generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig, clientOptions);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generates the {@code executeBatch} remote function, which sends the given batch operations as a single batched
+     * request.
+     *
+     * @param authConfig            the object instance representing authentication configuration information
+     * @return                      the node which represent the {@code executeBatch} remote function
+     */
+    private FunctionDefinitionNode generateExecuteBatchFunction(AuthConfig authConfig) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(CodeGeneratorConstants.EXECUTE_BATCH);
+
+        FunctionSignatureNode functionSignatureNode =
+                FunctionSignatureGenerator.getInstance().generateExecuteBatchFunctionSignature();
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateExecuteBatchFunctionBody(authConfig);
+
+        return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
+                functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
+    }
+
+    /**
+     * Generates the client class functions which build the batch operations, one for each query definition except
+     * the subscriptions.
+     *
+     * @param queryDocuments    the list of names of the query documents
+     * @param documentRegistry  the registry of the parsed query documents
+     * @param graphQLSchema     the object instance of the GraphQL schema (SDL)
+     * @param clientOptions     the object instance representing the optional client features
+     * @return                  the list of nodes which represent the batch operation functions
+     */
+    private List<FunctionDefinitionNode> generateBatchOperationFunctions(List<String> queryDocuments,
+                                                                         QueryDocumentRegistry documentRegistry,
+                                                                         GraphQLSchema graphQLSchema,
+                                                                         ClientOptions clientOptions)
+            throws IOException {
+        List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
+
+        for (String document : queryDocuments) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
+
+            for (ExtendedOperationDefinition queryDefinition: queryReader.getExtendedOperationDefinitions()) {
+                // The subscriptions are sent over WebSocket, so they cannot be a part of a batched request
+                if (queryDefinition.isSubscription()) {
+                    continue;
+                }
+                functionDefinitionNodeList.add(generateBatchOperationFunction(queryDefinition, graphQLSchema,
+                        clientOptions));
+            }
+        }
+        return functionDefinitionNodeList;
+    }
+
+    /**
+     * Generates a client class function which builds the batch operation of a query definition, e.g.
+     * {@code countryOperation} for the {@code country} query definition.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @param clientOptions         the object instance representing the optional client features
+     * @return                      the node which represent the batch operation function
+     */
+    private FunctionDefinitionNode generateBatchOperationFunction(ExtendedOperationDefinition queryDefinition,
+                                                                  GraphQLSchema graphQLSchema,
+                                                                  ClientOptions clientOptions) {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD));
+
+        IdentifierToken functionName = createIdentifierToken(
+                queryDefinition.getName() + CodeGeneratorConstants.BATCH_OPERATION_FUNCTION_SUFFIX);
+
+        FunctionSignatureNode functionSignatureNode =
+                FunctionSignatureGenerator.getInstance()
+                        .generateBatchOperationFunctionSignature(queryDefinition, graphQLSchema);
+        FunctionBodyNode functionBodyNode =
+                FunctionBodyGenerator.getInstance().generateBatchOperationFunctionBody(queryDefinition, graphQLSchema,
+                        clientOptions);
 
         return createFunctionDefinitionNode(null, metadataNode, qualifierList, createToken(FUNCTION_KEYWORD),
                 functionName, createEmptyNodeList(), functionSignatureNode, functionBodyNode);
@@ -318,6 +480,93 @@ public class ClientGenerator {
                 createToken(SEMICOLON_TOKEN));
     }
 
+    /**
+     * Generates the {@code final http:Client httpClient;} instance variable, which sends the automatic persisted
+     * queries and the batched operations.
+     *
+     * @return                  the node which represent the {@code httpClient} instance variable
+     */
+    private ObjectFieldNode generateHttpClientField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        QualifiedNameReferenceNode typeName = createQualifiedNameReferenceNode(
+                createIdentifierToken(CodeGeneratorConstants.HTTP), createToken(COLON_TOKEN),
+                createIdentifierToken(CodeGeneratorConstants.CLIENT));
+
+        IdentifierToken fieldName = createIdentifierToken(CodeGeneratorConstants.HTTP_CLIENT);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final ResponseCache responseCache;} instance variable, which caches the responses of the
+     * queries.
+     *
+     * @return                  the node which represent the {@code responseCache} instance variable
+     */
+    private ObjectFieldNode generateResponseCacheField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName = createSimpleNameReferenceNode(createIdentifierToken("ResponseCache"));
+
+        IdentifierToken fieldName = createIdentifierToken(CodeGeneratorConstants.RESPONSE_CACHE);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final string subscriptionUrl;} instance variable, which is the WebSocket URL the
+     * subscriptions are sent to.
+     *
+     * @return                  the node which represent the {@code subscriptionUrl} instance variable
+     */
+    private ObjectFieldNode generateSubscriptionUrlField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode typeName = createSimpleNameReferenceNode(createToken(STRING_KEYWORD));
+
+        IdentifierToken fieldName = createIdentifierToken(CodeGeneratorConstants.SUBSCRIPTION_URL);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the {@code final readonly & SubscriptionConfig subscriptionConfig;} instance variable, which holds
+     * the buffer size and the backpressure policy of the subscriptions.
+     *
+     * @return                  the node which represent the {@code subscriptionConfig} instance variable
+     */
+    private ObjectFieldNode generateSubscriptionConfigField() {
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+
+        NodeList<Token> qualifierList = createNodeList(createToken(FINAL_KEYWORD));
+
+        TypeDescriptorNode readOnlyNode =
+                createTypeReferenceTypeDescNode(createSimpleNameReferenceNode(createToken(READONLY_KEYWORD)));
+        TypeDescriptorNode subscriptionConfigNode = createSimpleNameReferenceNode(
+                createIdentifierToken(CodeGeneratorConstants.SUBSCRIPTION_CONFIG_TYPE_NAME));
+        TypeDescriptorNode typeName = createIntersectionTypeDescriptorNode(readOnlyNode,
+                createToken(BITWISE_AND_TOKEN), subscriptionConfigNode);
+
+        IdentifierToken fieldName = createIdentifierToken(CodeGeneratorConstants.SUBSCRIPTION_CONFIG);
+
+        return createObjectFieldNode(metadataNode, null,
+                qualifierList, typeName, fieldName, null, null,
+                createToken(SEMICOLON_TOKEN));
+    }
+
     /**
      * Generates the API keys config {@code final readonly & ApiKeysConfig apiKeysConfig;} instance variable.
      *
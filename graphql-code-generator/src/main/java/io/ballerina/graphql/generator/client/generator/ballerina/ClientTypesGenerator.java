@@ -26,13 +26,19 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
 import io.ballerina.graphql.generator.client.exception.ClientTypesGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
+import io.ballerina.graphql.generator.utils.BallerinaSourceWriter;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -46,12 +52,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
  * This class is used to generate the types file content.
  */
 public class ClientTypesGenerator extends TypesGenerator {
-    public static ClientTypesGenerator clientTypesGenerator = null;
+    private static final ClientTypesGenerator clientTypesGenerator = new ClientTypesGenerator();
 
     public static ClientTypesGenerator getInstance() {
-        if (clientTypesGenerator == null) {
-            clientTypesGenerator = new ClientTypesGenerator();
-        }
         return clientTypesGenerator;
     }
 
@@ -64,29 +67,164 @@ public class ClientTypesGenerator extends TypesGenerator {
      * @throws ClientTypesGenerationException     when an error occurs during type generation
      */
     public String generateSrc(GraphQLSchema schema, List<String> documents) throws ClientTypesGenerationException {
+        return generateSrc(schema, documents, new QueryDocumentRegistry());
+    }
+
+    /**
+     * Generates the types file content reusing the query documents parsed into the given registry.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentRegistry              the registry of the parsed query documents
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(GraphQLSchema schema, List<String> documents, QueryDocumentRegistry documentRegistry)
+            throws ClientTypesGenerationException {
+        return generateSrc(schema, documents, documentRegistry, new ClientOptions());
+    }
+
+    /**
+     * Generates the types file content reusing the query documents parsed into the given registry. With pruning,
+     * only the input records referred by the variables of the operations, directly or transitively, are generated.
+     * With deduplication, a named record is generated for each selection shape instead of the inline records.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentRegistry              the registry of the parsed query documents
+     * @param clientOptions                 the optional features of the generated client
+     * @return                              the types file content
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public String generateSrc(GraphQLSchema schema, List<String> documents, QueryDocumentRegistry documentRegistry,
+                              ClientOptions clientOptions) throws ClientTypesGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema, documents)).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return Formatter.format(this.generateSyntaxTree(schema, documents, documentRegistry, clientOptions))
+                    .toString();
         } catch (FormatterException | IOException e) {
             throw new ClientTypesGenerationException(e.getMessage());
         }
     }
 
+    /**
+     * Writes the types file content directly to the given writer without building the syntax tree and running the
+     * formatter. The written content is the same as the formatted content of {@link #generateSrc}.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentRegistry              the registry of the parsed query documents
+     * @param writer                        the writer of the types file
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public void emitSrc(GraphQLSchema schema, List<String> documents, QueryDocumentRegistry documentRegistry,
+                        Writer writer) throws ClientTypesGenerationException {
+        emitSrc(schema, documents, documentRegistry, new ClientOptions(), writer);
+    }
+
+    /**
+     * Writes the types file content directly to the given writer, applying the type generation options of the
+     * client. The written content is the same as the formatted content of {@link #generateSrc}.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentRegistry              the registry of the parsed query documents
+     * @param clientOptions                 the optional features of the generated client
+     * @param writer                        the writer of the types file
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public void emitSrc(GraphQLSchema schema, List<String> documents, QueryDocumentRegistry documentRegistry,
+                        ClientOptions clientOptions, Writer writer) throws ClientTypesGenerationException {
+        try {
+            BallerinaSourceWriter sourceWriter = new BallerinaSourceWriter(writer);
+            emitInputRecords(schema, getInputObjectTypeNames(schema, documents, documentRegistry, clientOptions),
+                    sourceWriter);
+            emitQueryResponseRecords(schema, documents, documentRegistry, clientOptions, sourceWriter);
+            sourceWriter.flush();
+        } catch (IOException e) {
+            throw new ClientTypesGenerationException(e.getMessage());
+        }
+    }
+
     /**
      * Generates the types syntax tree.
      *
      * @param schema            the object instance of the GraphQL schema (SDL)
      * @param documents         the list of documents of a given GraphQL project
+     * @param documentRegistry  the registry of the parsed query documents
+     * @return                  Syntax tree for the types.bal
+     * @throws IOException      If an I/O error occurs
+     */
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents,
+                                         QueryDocumentRegistry documentRegistry) throws IOException {
+        return generateSyntaxTree(schema, documents, documentRegistry, new ClientOptions());
+    }
+
+    /**
+     * Generates the types syntax tree, applying the type generation options of the client.
+     *
+     * @param schema            the object instance of the GraphQL schema (SDL)
+     * @param documents         the list of documents of a given GraphQL project
+     * @param documentRegistry  the registry of the parsed query documents
+     * @param clientOptions     the optional features of the generated client
      * @return                  Syntax tree for the types.bal
      * @throws IOException      If an I/O error occurs
      */
-    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents) throws IOException {
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, List<String> documents,
+                                         QueryDocumentRegistry documentRegistry, ClientOptions clientOptions)
+            throws IOException {
         List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
         NodeList<ImportDeclarationNode> importsList = createEmptyNodeList();
 
-        addInputRecords(schema, typeDefinitionNodeList);
-        addQueryResponseRecords(schema, documents, typeDefinitionNodeList);
+        addInputRecords(schema, getInputObjectTypeNames(schema, documents, documentRegistry, clientOptions),
+                typeDefinitionNodeList);
+        List<List<TypeDefinitionNode>> typeDefinitionShards = new ArrayList<>(List.of(typeDefinitionNodeList));
+        addQueryResponseRecords(schema, documents, documentRegistry, clientOptions, typeDefinitionShards);
+        // The single types file has the records of all the shards, in order
+        for (List<TypeDefinitionNode> typeDefinitionShard : typeDefinitionShards.subList(1,
+                typeDefinitionShards.size())) {
+            typeDefinitionNodeList.addAll(typeDefinitionShard);
+        }
+        return getSyntaxTree(importsList, typeDefinitionNodeList);
+    }
 
+    /**
+     * Generates the content of the sharded types files. The first content is of the `types.bal` file, which has the
+     * input records, and the following contents are of the shards of the query response records, in order.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param documents                     the list of documents of a given GraphQL project
+     * @param documentRegistry              the registry of the parsed query documents
+     * @param clientOptions                 the optional features of the generated client
+     * @return                              the contents of the types files
+     * @throws ClientTypesGenerationException     when an error occurs during type generation
+     */
+    public List<String> generateShardedSrc(GraphQLSchema schema, List<String> documents,
+                                           QueryDocumentRegistry documentRegistry, ClientOptions clientOptions)
+            throws ClientTypesGenerationException {
+        try {
+            List<TypeDefinitionNode> inputRecords = new LinkedList<>();
+            addInputRecords(schema, getInputObjectTypeNames(schema, documents, documentRegistry, clientOptions),
+                    inputRecords);
+            List<List<TypeDefinitionNode>> typeDefinitionShards = new ArrayList<>();
+            typeDefinitionShards.add(new LinkedList<>());
+            addQueryResponseRecords(schema, documents, documentRegistry, clientOptions, typeDefinitionShards);
+
+            List<String> typesFileContents = new ArrayList<>();
+            typesFileContents.add(Formatter.format(getSyntaxTree(createEmptyNodeList(), inputRecords)).toString());
+            for (List<TypeDefinitionNode> typeDefinitionShard : typeDefinitionShards) {
+                if (!typeDefinitionShard.isEmpty()) {
+                    typesFileContents.add(Formatter.format(getSyntaxTree(createEmptyNodeList(), typeDefinitionShard))
+                            .toString());
+                }
+            }
+            return typesFileContents;
+        } catch (FormatterException | IOException e) {
+            throw new ClientTypesGenerationException(e.getMessage());
+        }
+    }
+
+    private SyntaxTree getSyntaxTree(NodeList<ImportDeclarationNode> importsList,
+                                     List<TypeDefinitionNode> typeDefinitionNodeList) {
         NodeList<ModuleMemberDeclarationNode> members = createNodeList(typeDefinitionNodeList.toArray(
                 new TypeDefinitionNode[typeDefinitionNodeList.size()]));
         ModulePartNode modulePartNode = createModulePartNode(
@@ -98,4 +236,23 @@ public class ClientTypesGenerator extends TypesGenerator {
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         return syntaxTree.modifyWith(modulePartNode);
     }
+
+    /**
+     * Gets the names of the input object types to generate the records for.
+     *
+     * @param schema            the object instance of the GraphQL schema (SDL)
+     * @param documents         the list of documents of a given GraphQL project
+     * @param documentRegistry  the registry of the parsed query documents
+     * @param clientOptions     the optional features of the generated client
+     * @return                  the list of the input object type names
+     * @throws IOException      If an I/O error occurs
+     */
+    private List<String> getInputObjectTypeNames(GraphQLSchema schema, List<String> documents,
+                                                 QueryDocumentRegistry documentRegistry, ClientOptions clientOptions)
+            throws IOException {
+        if (clientOptions.isPruneUnusedTypes()) {
+            return getReferencedInputObjectTypeNames(schema, documents, documentRegistry);
+        }
+        return SpecReader.getInputObjectTypeNames(schema);
+    }
 }
@@ -30,6 +30,7 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
@@ -40,6 +41,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.client.exception.ConfigTypesGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Package;
@@ -77,6 +79,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstru
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldWithDefaultValueNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
@@ -86,7 +89,10 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKE
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.DECIMAL_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.INT_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
@@ -100,21 +106,24 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNO
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_KIND_PASSWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_LABEL_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DISPLAY_ANNOTATION_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_EXPRESSION;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE_CONFIG_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_FIELD_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.getMetadataNode;
 
 /**
  * This class is used to generate connection config related types in the ballerina config types file.
  */
 public class ConfigTypesGenerator {
-    private static ConfigTypesGenerator configTypesGenerator = null;
+    private static final ConfigTypesGenerator configTypesGenerator = new ConfigTypesGenerator();
     private static final String CONNECTION_CONFIG = "ConnectionConfig";
+    private static final String BACKPRESSURE_POLICY = "BackpressurePolicy";
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigTypesGenerator.class);
 
     public static ConfigTypesGenerator getInstance() {
-        if (configTypesGenerator == null) {
-            configTypesGenerator = new ConfigTypesGenerator();
-        }
         return configTypesGenerator;
     }
 
@@ -126,8 +135,23 @@ public class ConfigTypesGenerator {
      * @throws ConfigTypesGenerationException when a config types code generation error occurs
      */
     public String generateSrc(AuthConfig authConfig) throws ConfigTypesGenerationException {
+        return generateSrc(authConfig, new ClientOptions());
+    }
+
+    /**
+     * Generates the config types file content for the given optional client features. With the response cache, the
+     * `ConnectionConfig` record has the configurations of the response cache. With subscriptions, it has the
+     * configurations of the WebSocket connections of the subscriptions.
+     *
+     * @param authConfig    the object instance representing authentication config information
+     * @param clientOptions the object instance representing the optional client features
+     * @return the config types file content
+     * @throws ConfigTypesGenerationException when a config types code generation error occurs
+     */
+    public String generateSrc(AuthConfig authConfig, ClientOptions clientOptions)
+            throws ConfigTypesGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(authConfig)).toString();
+            return Formatter.format(generateSyntaxTree(authConfig, clientOptions)).toString();
         } catch (FormatterException | IOException e) {
             throw new ConfigTypesGenerationException(e.getMessage());
         }
@@ -136,11 +160,12 @@ public class ConfigTypesGenerator {
     /**
      * Generates the config types syntax tree.
      *
-     * @param authConfig the object instance representing authentication config information
+     * @param authConfig    the object instance representing authentication config information
+     * @param clientOptions the object instance representing the optional client features
      * @return syntax tree for the Ballerina config types file code
      * @throws IOException if an I/O error occurs
      */
-    private SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
+    private SyntaxTree generateSyntaxTree(AuthConfig authConfig, ClientOptions clientOptions) throws IOException {
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         Path path = getResourceFilePath();
@@ -157,10 +182,10 @@ public class ConfigTypesGenerator {
         MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
 
         for (ModuleMemberDeclarationNode node : members) {
-            if (authConfig.isClientConfig()) {
+            if (authConfig.isClientConfig() || clientOptions.isResponseCache() || clientOptions.isSubscriptions()) {
                 if (node.kind().equals(SyntaxKind.TYPE_DEFINITION) && ((TypeDefinitionNode) node).typeName().text()
                         .equals(CONNECTION_CONFIG)) {
-                    node = constructConnectionConfig(node, authConfig);
+                    node = constructConnectionConfig(node, authConfig, clientOptions);
                 }
                 memberDeclarationNodes.add(node);
             } else {
@@ -168,6 +193,15 @@ public class ConfigTypesGenerator {
             }
         }
 
+        if (clientOptions.isResponseCache()) {
+            memberDeclarationNodes.add(generateResponseCacheConfigTypeDefinition());
+        }
+
+        if (clientOptions.isSubscriptions()) {
+            memberDeclarationNodes.add(generateSubscriptionConfigTypeDefinition());
+            memberDeclarationNodes.addAll(generateBackpressurePolicyDefinitions());
+        }
+
         if (authConfig.isApiKeysConfig()) {
             Token typeName = AbstractNodeFactory.createIdentifierToken("ApiKeysConfig");
             NodeList<Node> nodeList = createNodeList(generateApiKeysConfigRecordFields(authConfig));
@@ -191,31 +225,43 @@ public class ConfigTypesGenerator {
     /**
      * Creates updated `ConnectionConfig` record.
      *
-     * @param node       the 'ConnectionConfig` node
-     * @param authConfig the object instance representing authentication configuration information
+     * @param node          the 'ConnectionConfig` node
+     * @param authConfig    the object instance representing authentication configuration information
+     * @param clientOptions the object instance representing the optional client features
      * @return updated `ConnectionConfig` type
      */
-    private TypeDefinitionNode constructConnectionConfig(ModuleMemberDeclarationNode node, AuthConfig authConfig) {
+    private TypeDefinitionNode constructConnectionConfig(ModuleMemberDeclarationNode node, AuthConfig authConfig,
+                                                         ClientOptions clientOptions) {
         RecordTypeDescriptorNode connectionConfigNode = (RecordTypeDescriptorNode)
                 ((TypeDefinitionNode) node).typeDescriptor();
-        MetadataNode authMetadataNode = getMetadataNode("Configurations related to client authentication");
-        String authName;
-        if (authConfig.getAuthConfigTypes().contains(AuthConfigType.BEARER)) {
-            authName = AuthConfigType.BEARER.getValue();
-        } else {
-            authName = AuthConfigType.BASIC.getValue();
-        }
-        IdentifierToken authFieldName = AbstractNodeFactory.createIdentifierToken(authName);
-
-        Node authConfigNode = createRecordFieldNode(authMetadataNode, null, authFieldName,
-                createIdentifierToken("auth"), null, createToken(SEMICOLON_TOKEN));
-
         List<Node> tokens = new ArrayList<>();
+        if (authConfig.isClientConfig()) {
+            tokens.add(generateAuthConfigField(authConfig));
+        }
         NodeList<Node> fields = connectionConfigNode.fields();
-        tokens.add(authConfigNode);
         for (Node n : fields) {
             tokens.add(n);
         }
+        if (clientOptions.isResponseCache()) {
+            // {@code ResponseCacheConfig responseCache = {};}
+            MetadataNode responseCacheMetadataNode =
+                    getMetadataNode("Configurations related to the in-memory cache of the query responses");
+            tokens.add(createRecordFieldWithDefaultValueNode(responseCacheMetadataNode, null,
+                    createSimpleNameReferenceNode(createIdentifierToken(RESPONSE_CACHE_CONFIG_TYPE_NAME)),
+                    createIdentifierToken(RESPONSE_CACHE), createToken(EQUAL_TOKEN),
+                    createBasicLiteralNode(null, createIdentifierToken(EMPTY_EXPRESSION)),
+                    createToken(SEMICOLON_TOKEN)));
+        }
+        if (clientOptions.isSubscriptions()) {
+            // {@code SubscriptionConfig subscription = {};}
+            MetadataNode subscriptionMetadataNode =
+                    getMetadataNode("Configurations related to the WebSocket connections of the subscriptions");
+            tokens.add(createRecordFieldWithDefaultValueNode(subscriptionMetadataNode, null,
+                    createSimpleNameReferenceNode(createIdentifierToken(SUBSCRIPTION_CONFIG_TYPE_NAME)),
+                    createIdentifierToken(SUBSCRIPTION_CONFIG_FIELD_NAME), createToken(EQUAL_TOKEN),
+                    createBasicLiteralNode(null, createIdentifierToken(EMPTY_EXPRESSION)),
+                    createToken(SEMICOLON_TOKEN)));
+        }
         NodeList<Node> nodeList = createNodeList(tokens);
         RecordTypeDescriptorNode.RecordTypeDescriptorNodeModifier recordTypeDescriptorNodeModifier =
                 connectionConfigNode.modify().withFields(nodeList);
@@ -226,6 +272,145 @@ public class ConfigTypesGenerator {
                 connectionConfigNode, createToken(SEMICOLON_TOKEN));
     }
 
+    /**
+     * Generates the `auth` field of the `ConnectionConfig` record.
+     *
+     * @param authConfig the object instance representing authentication configuration information
+     * @return the `auth` record field
+     */
+    private Node generateAuthConfigField(AuthConfig authConfig) {
+        MetadataNode authMetadataNode = getMetadataNode("Configurations related to client authentication");
+        String authName;
+        if (authConfig.getAuthConfigTypes().contains(AuthConfigType.BEARER)) {
+            authName = AuthConfigType.BEARER.getValue();
+        } else {
+            authName = AuthConfigType.BASIC.getValue();
+        }
+        IdentifierToken authFieldName = AbstractNodeFactory.createIdentifierToken(authName);
+
+        return createRecordFieldNode(authMetadataNode, null, authFieldName,
+                createIdentifierToken("auth"), null, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the `ResponseCacheConfig` record, which configures the in-memory cache of the query responses.
+     * <pre>
+     *     # Provides configurations for the in-memory cache of the query responses.
+     *     public type ResponseCacheConfig record {|
+     *         # The maximum number of responses kept in the cache. The cache is disabled if it is not positive
+     *         int maxEntries = 100;
+     *         # The time (in seconds) a cached response is reused for
+     *         decimal ttl = 60;
+     *     |};
+     * </pre>
+     *
+     * @return the `ResponseCacheConfig` type definition node
+     */
+    private TypeDefinitionNode generateResponseCacheConfigTypeDefinition() {
+        List<Node> fields = new ArrayList<>();
+        fields.add(createRecordFieldWithDefaultValueNode(
+                getMetadataNode("The maximum number of responses kept in the cache. " +
+                        "The cache is disabled if it is not positive"), null,
+                createSimpleNameReferenceNode(createToken(INT_KEYWORD)), createIdentifierToken("maxEntries"),
+                createToken(EQUAL_TOKEN), createBasicLiteralNode(null, createIdentifierToken("100")),
+                createToken(SEMICOLON_TOKEN)));
+        fields.add(createRecordFieldWithDefaultValueNode(
+                getMetadataNode("The time (in seconds) a cached response is reused for"), null,
+                createSimpleNameReferenceNode(createToken(DECIMAL_KEYWORD)), createIdentifierToken("ttl"),
+                createToken(EQUAL_TOKEN), createBasicLiteralNode(null, createIdentifierToken("60")),
+                createToken(SEMICOLON_TOKEN)));
+        RecordTypeDescriptorNode recordTypeDescriptorNode =
+                NodeFactory.createRecordTypeDescriptorNode(createToken(RECORD_KEYWORD),
+                        createToken(OPEN_BRACE_PIPE_TOKEN), createNodeList(fields), null,
+                        createToken(CLOSE_BRACE_PIPE_TOKEN));
+        return createTypeDefinitionNode(
+                getMetadataNode("Provides configurations for the in-memory cache of the query responses."),
+                createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
+                createIdentifierToken(RESPONSE_CACHE_CONFIG_TYPE_NAME), recordTypeDescriptorNode,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the `SubscriptionConfig` record, which configures the WebSocket connections of the subscriptions.
+     * <pre>
+     *     # Provides configurations for the WebSocket connections of the subscriptions.
+     *     public type SubscriptionConfig record {|
+     *         # The WebSocket URL of the service. The URL is derived from the service URL if it is not given
+     *         string? url = ();
+     *         # The maximum number of received messages buffered for a subscription until they are consumed
+     *         int bufferSize = 64;
+     *         # The action taken when a message is received while the buffer is full
+     *         BackpressurePolicy backpressurePolicy = BACKPRESSURE_BLOCK;
+     *     |};
+     * </pre>
+     *
+     * @return the `SubscriptionConfig` type definition node
+     */
+    private TypeDefinitionNode generateSubscriptionConfigTypeDefinition() {
+        List<Node> fields = new ArrayList<>();
+        fields.add(createRecordFieldWithDefaultValueNode(
+                getMetadataNode("The WebSocket URL of the service. " +
+                        "The URL is derived from the service URL if it is not given"), null,
+                createSimpleNameReferenceNode(createIdentifierToken("string?")), createIdentifierToken("url"),
+                createToken(EQUAL_TOKEN), createBasicLiteralNode(null, createIdentifierToken("()")),
+                createToken(SEMICOLON_TOKEN)));
+        fields.add(createRecordFieldWithDefaultValueNode(
+                getMetadataNode("The maximum number of received messages buffered for a subscription " +
+                        "until they are consumed"), null,
+                createSimpleNameReferenceNode(createToken(INT_KEYWORD)), createIdentifierToken("bufferSize"),
+                createToken(EQUAL_TOKEN), createBasicLiteralNode(null, createIdentifierToken("64")),
+                createToken(SEMICOLON_TOKEN)));
+        fields.add(createRecordFieldWithDefaultValueNode(
+                getMetadataNode("The action taken when a message is received while the buffer is full"), null,
+                createSimpleNameReferenceNode(createIdentifierToken(BACKPRESSURE_POLICY)),
+                createIdentifierToken("backpressurePolicy"), createToken(EQUAL_TOKEN),
+                createBasicLiteralNode(null, createIdentifierToken("BACKPRESSURE_BLOCK")),
+                createToken(SEMICOLON_TOKEN)));
+        RecordTypeDescriptorNode recordTypeDescriptorNode =
+                NodeFactory.createRecordTypeDescriptorNode(createToken(RECORD_KEYWORD),
+                        createToken(OPEN_BRACE_PIPE_TOKEN), createNodeList(fields), null,
+                        createToken(CLOSE_BRACE_PIPE_TOKEN));
+        return createTypeDefinitionNode(
+                getMetadataNode("Provides configurations for the WebSocket connections of the subscriptions."),
+                createToken(PUBLIC_KEYWORD), createToken(TYPE_KEYWORD),
+                createIdentifierToken(SUBSCRIPTION_CONFIG_TYPE_NAME), recordTypeDescriptorNode,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates the `BackpressurePolicy` type and its values, in the same way as the `KeepAlive` and the `Chunking`
+     * types of the template.
+     *
+     * @return the list of the `BackpressurePolicy` type and constant definition nodes
+     */
+    private List<ModuleMemberDeclarationNode> generateBackpressurePolicyDefinitions() {
+        List<ModuleMemberDeclarationNode> definitions = new ArrayList<>();
+        definitions.add(NodeParser.parseModuleMemberDeclaration(
+                "# Defines the possible actions taken when a message of a subscription is received while its " +
+                        "buffer is full.\n" +
+                        "#\n" +
+                        "# `BLOCK`: Stops reading from the connection until a message is consumed, so that the " +
+                        "server is slowed down\n" +
+                        "# `DROP_OLDEST`: Drops the oldest buffered message to buffer the received message\n" +
+                        "# `DROP_LATEST`: Drops the received message\n" +
+                        "# `ERROR`: Ends the subscription with an error\n" +
+                        "public type " + BACKPRESSURE_POLICY + " BACKPRESSURE_BLOCK|BACKPRESSURE_DROP_OLDEST|" +
+                        "BACKPRESSURE_DROP_LATEST|BACKPRESSURE_ERROR;"));
+        definitions.add(NodeParser.parseModuleMemberDeclaration(
+                "# Stops reading from the connection until a message is consumed\n" +
+                        "public const BACKPRESSURE_BLOCK = \"BLOCK\";"));
+        definitions.add(NodeParser.parseModuleMemberDeclaration(
+                "# Drops the oldest buffered message to buffer the received message\n" +
+                        "public const BACKPRESSURE_DROP_OLDEST = \"DROP_OLDEST\";"));
+        definitions.add(NodeParser.parseModuleMemberDeclaration(
+                "# Drops the received message\n" +
+                        "public const BACKPRESSURE_DROP_LATEST = \"DROP_LATEST\";"));
+        definitions.add(NodeParser.parseModuleMemberDeclaration(
+                "# Ends the subscription with an error\n" +
+                        "public const BACKPRESSURE_ERROR = \"ERROR\";"));
+        return definitions;
+    }
+
     /**
      * Gets the path of the config_types.bal template at the time of execution.
      *
@@ -18,6 +18,7 @@
 
 package io.ballerina.graphql.generator.client.generator.ballerina;
 
+import graphql.language.OperationDefinition;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
@@ -55,9 +56,12 @@ import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -89,9 +93,14 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.VAR_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHED_RESPONSE_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CACHE_KEY_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLIENT_EP;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CLONE_READ_ONLY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.COMMA;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_VARIABLES;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_CONFIGURATION_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_CLIENT_TYPE_NAME;
@@ -101,23 +110,31 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARI
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.GRAPHQL_VARIABLES_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HEADER_VALUES_VARIABLES_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_CLIENT_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.HTTP_HEADERS_VARIABLES_VAR_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUESTION_MARK;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE_CACHE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SELF;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SERVICE_URL_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_CONFIG_FIELD_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_MESSAGES_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_STREAM_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_STREAM_VAR_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION_URL;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.TARGET_TYPE_PARAM_NAME;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
 
 /**
  * This class is used to generate function body's in the ballerina client file.
  */
 public class FunctionBodyGenerator {
-    private static FunctionBodyGenerator functionBodyGenerator = null;
+    private static final FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator();
 
     public static FunctionBodyGenerator getInstance() {
-        if (functionBodyGenerator == null) {
-            functionBodyGenerator = new FunctionBodyGenerator();
-        }
         return functionBodyGenerator;
     }
 
@@ -128,6 +145,17 @@ public class FunctionBodyGenerator {
      * @return the node which represent the init function body
      */
     public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig) {
+        return generateInitFunctionBody(authConfig, new ClientOptions());
+    }
+
+    /**
+     * Generates the client class init function body with the given optional client features.
+     *
+     * @param authConfig    the object instance representing authentication configuration information
+     * @param clientOptions the object instance representing the optional client features
+     * @return the node which represent the init function body
+     */
+    public FunctionBodyNode generateInitFunctionBody(AuthConfig authConfig, ClientOptions clientOptions) {
         List<StatementNode> assignmentNodes = new ArrayList<>();
         // Generate initialization statement of httpClientConfig
         List<StatementNode> httpClientConfigNode = generateHttpClientConfigurationNode(authConfig);
@@ -149,6 +177,24 @@ public class FunctionBodyGenerator {
         assignmentNodes.addAll(httpClientConfigNode);
         assignmentNodes.add(clientInitializationNode);
         assignmentNodes.add(httpClientAssignmentStatementNode);
+        if (clientOptions.requiresHttpClient()) {
+            // Generate {@code self.httpClient = check getHttpClient(...);} assignment node
+            assignmentNodes.add(NodeParser.parseStatement(String.format(
+                    "self.%s = check getHttpClient(serviceUrl, graphqlClientConfig);", HTTP_CLIENT)));
+        }
+        if (clientOptions.isResponseCache()) {
+            // Generate {@code self.responseCache = new (config.responseCache);} assignment node
+            assignmentNodes.add(NodeParser.parseStatement(String.format("self.%s = new (%s.%s);",
+                    RESPONSE_CACHE, CONFIG_PARAM_NAME, RESPONSE_CACHE)));
+        }
+        if (clientOptions.isSubscriptions()) {
+            // Generate {@code self.subscriptionUrl = getSubscriptionUrl(serviceUrl, config.subscription);} and
+            // {@code self.subscriptionConfig = config.subscription.cloneReadOnly();} assignment nodes
+            assignmentNodes.add(NodeParser.parseStatement(String.format("self.%s = getSubscriptionUrl(%s, %s.%s);",
+                    SUBSCRIPTION_URL, SERVICE_URL_PARAM_NAME, CONFIG_PARAM_NAME, SUBSCRIPTION_CONFIG_FIELD_NAME)));
+            assignmentNodes.add(NodeParser.parseStatement(String.format("self.%s = %s.%s.%s();",
+                    SUBSCRIPTION_CONFIG, CONFIG_PARAM_NAME, SUBSCRIPTION_CONFIG_FIELD_NAME, CLONE_READ_ONLY)));
+        }
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(apiKeyConfigAssignmentStatementNode);
         }
@@ -293,28 +339,79 @@ public class FunctionBodyGenerator {
      */
     public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition,
                                                        GraphQLSchema graphQLSchema, AuthConfig authConfig) {
+        return generateRemoteFunctionBody(queryDefinition, graphQLSchema, authConfig, new ClientOptions());
+    }
+
+    /**
+     * Generates the client class remote function body with the given optional client features. With typed binding,
+     * the response type is passed to the {@code executeWithType} method of the GraphQL client, which binds the
+     * response to the record directly, instead of getting the response as {@code json} and binding it with the
+     * {@code performDataBinding} function. With persisted queries, the operation is sent with the hash of the query,
+     * which is computed at the generation time, through the {@code executePersistedQuery} function. With the response
+     * cache, the queries return the cached response of the same operation and variables if it has not expired, and
+     * cache the response they receive otherwise. The subscriptions are sent over WebSocket regardless of these
+     * features, and return a stream of the responses bound with the {@code performDataBinding} function.
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param authConfig      the object instance representing authentication configuration information
+     * @param clientOptions   the object instance representing the optional client features
+     * @return the node which represent the remote function body
+     */
+    public FunctionBodyNode generateRemoteFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                       GraphQLSchema graphQLSchema, AuthConfig authConfig,
+                                                       ClientOptions clientOptions) {
         List<StatementNode> assignmentNodes = new ArrayList<>();
 
         VariableDeclarationNode queryVariableDeclarationNode = generateQueryVariableDeclarationNode(queryDefinition);
-        VariableDeclarationNode graphqlVariablesDeclarationNode =
-                getGraphqlVariablesDeclarationNode(queryDefinition, graphQLSchema);
+        List<StatementNode> graphqlVariablesStatementNodes =
+                generateGraphqlVariablesStatementNodes(queryDefinition, graphQLSchema, clientOptions);
 
         VariableDeclarationNode headerValuesVariableDeclarationNode =
                 generateHeaderValuesVariableDeclarationNode(authConfig);
         VariableDeclarationNode httpHeadersVariableDeclarationNode = generateHttpHeadersVariableDeclarationNode();
 
         assignmentNodes.add(queryVariableDeclarationNode);
-        assignmentNodes.add(graphqlVariablesDeclarationNode);
+        assignmentNodes.addAll(graphqlVariablesStatementNodes);
 
         if (authConfig.isApiKeysConfig()) {
             assignmentNodes.add(headerValuesVariableDeclarationNode);
             assignmentNodes.add(httpHeadersVariableDeclarationNode);
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(queryDefinition));
-        } else {
-            assignmentNodes.add(generateGraphqlResponseVariableDeclarationNode(queryDefinition));
         }
 
-        assignmentNodes.add(generateReturnStatementNode(queryDefinition));
+        if (queryDefinition.isSubscription()) {
+            assignmentNodes.addAll(generateSubscriptionStatementNodes(queryDefinition,
+                    authConfig.isApiKeysConfig()));
+            return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                    null, createNodeList(assignmentNodes), createToken(CLOSE_BRACE_TOKEN), null);
+        }
+
+        // Only the queries are cached, as the mutations and the subscriptions are not idempotent
+        boolean cacheResponse = clientOptions.isResponseCache() &&
+                OperationDefinition.Operation.QUERY.name().equals(queryDefinition.getOperationType());
+        // The client code generator rejects typed binding with the persisted queries and the response cache, as
+        // their responses are read as `json` and are bound through the data binding function
+        if (clientOptions.isTypedBinding() && !clientOptions.isPersistedQueries() && !cacheResponse) {
+            assignmentNodes.add(generateTypedReturnStatementNode(queryDefinition, authConfig.isApiKeysConfig()));
+        } else {
+            if (cacheResponse) {
+                assignmentNodes.addAll(generateCachedResponseStatementNodes(queryDefinition));
+            }
+            if (clientOptions.isPersistedQueries()) {
+                assignmentNodes.add(generatePersistedQueryResponseVariableDeclarationNode(queryDefinition,
+                        authConfig.isApiKeysConfig()));
+            } else if (authConfig.isApiKeysConfig()) {
+                assignmentNodes.add(generateGraphqlResponseVariableDeclarationNodeWithHttpHeaders(queryDefinition));
+            } else {
+                assignmentNodes.add(generateGraphqlResponseVariableDeclarationNode(queryDefinition));
+            }
+            if (cacheResponse) {
+                // Generate {@code self.responseCache.put(cacheKey, graphqlResponse);} statement node
+                assignmentNodes.add(NodeParser.parseStatement(String.format("self.%s.put(%s, %s);", RESPONSE_CACHE,
+                        CACHE_KEY_VAR_NAME, GRAPHQL_RESPONSE_VAR_NAME)));
+            }
+            assignmentNodes.add(generateReturnStatementNode(queryDefinition));
+        }
 
         NodeList<StatementNode> statementList = createNodeList(assignmentNodes);
 
@@ -322,6 +419,73 @@ public class FunctionBodyGenerator {
                 null, statementList, createToken(CLOSE_BRACE_TOKEN), null);
     }
 
+    /**
+     * Generates the body of the function which builds the batch operation of a query definition. The operation is
+     * built the same way as in the remote function, but it is returned along with the response type to be sent
+     * later in a batched request, instead of being executed.
+     * <pre>
+     *     string query = string `query country($code:ID!) {country(code:$code) {name}}`;
+     *     map<anydata> variables = {"code": code};
+     *     return {query, variables, targetType: CountryResponse};
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @return the node which represent the batch operation function body
+     */
+    public FunctionBodyNode generateBatchOperationFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                               GraphQLSchema graphQLSchema) {
+        return generateBatchOperationFunctionBody(queryDefinition, graphQLSchema, new ClientOptions());
+    }
+
+    /**
+     * Generates the body of the function which builds the batch operation of a query definition with the given
+     * optional client features, which decide how the variables of the operation are built.
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param clientOptions   the object instance representing the optional client features
+     * @return the node which represent the batch operation function body
+     */
+    public FunctionBodyNode generateBatchOperationFunctionBody(ExtendedOperationDefinition queryDefinition,
+                                                               GraphQLSchema graphQLSchema,
+                                                               ClientOptions clientOptions) {
+        List<StatementNode> assignmentNodes = new ArrayList<>();
+        assignmentNodes.add(generateQueryVariableDeclarationNode(queryDefinition));
+        assignmentNodes.addAll(generateGraphqlVariablesStatementNodes(queryDefinition, graphQLSchema,
+                clientOptions));
+        assignmentNodes.add(NodeParser.parseStatement(String.format("return {%s, %s, %s: %s};", QUERY_VAR_NAME,
+                GRAPHQL_VARIABLES_VAR_NAME, TARGET_TYPE_PARAM_NAME,
+                CodeGeneratorUtils.getRemoteFunctionResponseTypeName(queryDefinition.getName()))));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(assignmentNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
+    /**
+     * Generates the body of the remote function which sends the given batch operations as a single batched request.
+     * <pre>
+     *     return executeBatchOperations(self.httpClient, operations);
+     * </pre>
+     *
+     * @param authConfig the object instance representing authentication configuration information
+     * @return the node which represent the {@code executeBatch} remote function body
+     */
+    public FunctionBodyNode generateExecuteBatchFunctionBody(AuthConfig authConfig) {
+        List<StatementNode> assignmentNodes = new ArrayList<>();
+        String httpHeadersArgument = "";
+        if (authConfig.isApiKeysConfig()) {
+            assignmentNodes.add(generateHeaderValuesVariableDeclarationNode(authConfig));
+            assignmentNodes.add(generateHttpHeadersVariableDeclarationNode());
+            httpHeadersArgument = COMMA + " " + HTTP_HEADERS_VARIABLES_VAR_NAME;
+        }
+        assignmentNodes.add(NodeParser.parseStatement(String.format("return executeBatchOperations(self.%s, %s%s);",
+                HTTP_CLIENT, BATCH_OPERATIONS_PARAM_NAME, httpHeadersArgument)));
+
+        return createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN),
+                null, createNodeList(assignmentNodes), createToken(CLOSE_BRACE_TOKEN), null);
+    }
+
     /**
      * Generates the initialization statement of {@code graphql:Client} class instance in the init function.
      *
@@ -411,14 +575,65 @@ public class FunctionBodyGenerator {
     }
 
     /**
-     * Generates the GraphQL {@code variables} variable declaration node in the remote function.
+     * Generates the statement nodes which build the GraphQL {@code variables} of an operation. By default, all the
+     * variables are added to the mapping constructor, and the optional variables which are not set are sent as
+     * `null`. When the unset optional variables are omitted, only the required variables are added to the mapping
+     * constructor and each optional variable is added only if it is set, and an operation without variables refers
+     * to the shared {@code EMPTY_VARIABLES} constant.
+     * <pre>
+     *     map&lt;anydata&gt; variables = {"code": code};
+     *     if filter !is () {
+     *         variables["filter"] = filter;
+     *     }
+     * </pre>
      *
      * @param queryDefinition the object instance of a single query definition in a query document
      * @param graphQLSchema   the object instance of the GraphQL schema (SDL)
+     * @param clientOptions   the object instance representing the optional client features
+     * @return the list of nodes which build the GraphQL {@code variables}
+     */
+    private List<StatementNode> generateGraphqlVariablesStatementNodes(ExtendedOperationDefinition queryDefinition,
+                                                                       GraphQLSchema graphQLSchema,
+                                                                       ClientOptions clientOptions) {
+        Map<String, FieldType> variableDefinitionsMap = queryDefinition.getVariableDefinitionsMap(graphQLSchema);
+        List<StatementNode> statementNodes = new ArrayList<>();
+        if (!clientOptions.isOmitUnsetVariables()) {
+            statementNodes.add(getGraphqlVariablesDeclarationNode(variableDefinitionsMap.keySet()));
+            return statementNodes;
+        }
+        if (variableDefinitionsMap.isEmpty()) {
+            // Generate {@code map<anydata> variables = EMPTY_VARIABLES;} variable declaration node
+            statementNodes.add(NodeParser.parseStatement(String.format("%s %s = %s;", GRAPHQL_VARIABLES_TYPE_NAME,
+                    GRAPHQL_VARIABLES_VAR_NAME, EMPTY_VARIABLES)));
+            return statementNodes;
+        }
+
+        List<String> requiredVariableNames = new ArrayList<>();
+        List<String> optionalVariableNames = new ArrayList<>();
+        for (Map.Entry<String, FieldType> variableDefinition : variableDefinitionsMap.entrySet()) {
+            if (variableDefinition.getValue().getFieldTypeAsString().endsWith(QUESTION_MARK)) {
+                optionalVariableNames.add(variableDefinition.getKey());
+            } else {
+                requiredVariableNames.add(variableDefinition.getKey());
+            }
+        }
+        statementNodes.add(getGraphqlVariablesDeclarationNode(requiredVariableNames));
+        for (String variableName : optionalVariableNames) {
+            String parameterName = escapeIdentifier(variableName);
+            statementNodes.add(NodeParser.parseStatement(String.format("if %s !is () {\n" +
+                    "    %s[\"%s\"] = %s;\n" +
+                    "}", parameterName, GRAPHQL_VARIABLES_VAR_NAME, variableName, parameterName)));
+        }
+        return statementNodes;
+    }
+
+    /**
+     * Generates the GraphQL {@code variables} variable declaration node in the remote function.
+     *
+     * @param variableNames the names of the variables added to the GraphQL {@code variables}
      * @return the node which represent the GraphQL {@code variables} declaration
      */
-    private VariableDeclarationNode getGraphqlVariablesDeclarationNode(ExtendedOperationDefinition queryDefinition,
-                                                                       GraphQLSchema graphQLSchema) {
+    private VariableDeclarationNode getGraphqlVariablesDeclarationNode(Collection<String> variableNames) {
         NodeList<AnnotationNode> annotationNodes = NodeFactory.createEmptyNodeList();
 
         // GraphQL {@code variables} declaration
@@ -433,14 +648,14 @@ public class FunctionBodyGenerator {
         List<Node> specificFields = new ArrayList<>();
 
         int count = 0;
-        for (String variableName : queryDefinition.getVariableDefinitionsMap(graphQLSchema).keySet()) {
+        for (String variableName : variableNames) {
             BuiltinSimpleNameReferenceNode valueExpr = NodeFactory.createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken(escapeIdentifier(variableName)));
             SpecificFieldNode specificFieldNode = NodeFactory.createSpecificFieldNode(null,
                     createIdentifierToken("\"" + variableName + "\""), createToken(COLON_TOKEN), valueExpr);
             specificFields.add(specificFieldNode);
             count++;
-            if (count < queryDefinition.getVariableDefinitionsMap(graphQLSchema).size()) {
+            if (count < variableNames.size()) {
                 specificFields.add(createToken(COMMA_TOKEN));
             }
         }
@@ -549,6 +764,133 @@ public class FunctionBodyGenerator {
         return NodeFactory.createReturnStatementNode(createToken(RETURN_KEYWORD), expr, createToken(SEMICOLON_TOKEN));
     }
 
+    /**
+     * Generate the return statement for a remote function which binds the response to the response type in the
+     * GraphQL client.
+     * <pre>
+     *     return self.graphqlClient->executeWithType(query, variables, targetType = CountryResponse);
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param withHttpHeaders whether to pass the {@code httpHeaders} to the GraphQL client
+     * @return the node which represent the return statement for a remote function with typed binding
+     */
+    private ReturnStatementNode generateTypedReturnStatementNode(ExtendedOperationDefinition queryDefinition,
+                                                                 boolean withHttpHeaders) {
+        // {@code self.graphqlClient} declaration
+        FieldAccessExpressionNode graphqlClientFieldAccessExpr = NodeFactory.createFieldAccessExpressionNode(
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(SELF)), createToken(DOT_TOKEN),
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(GRAPHQL_CLIENT)));
+
+        // {@code self.graphqlClient->executeWithType(query, variables, targetType = CountryResponse)} declaration
+        SimpleNameReferenceNode methodName =
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("executeWithType"));
+        List<Node> arguments = new ArrayList<>();
+        arguments.add(NodeFactory.createPositionalArgumentNode(
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(QUERY_VAR_NAME))));
+        arguments.add(createToken(COMMA_TOKEN));
+        arguments.add(NodeFactory.createPositionalArgumentNode(
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(GRAPHQL_VARIABLES_VAR_NAME))));
+        if (withHttpHeaders) {
+            arguments.add(createToken(COMMA_TOKEN));
+            arguments.add(NodeFactory.createNamedArgumentNode(
+                    NodeFactory.createSimpleNameReferenceNode(createIdentifierToken("headers")),
+                    createToken(EQUAL_TOKEN), NodeFactory.createSimpleNameReferenceNode(
+                            createIdentifierToken(HTTP_HEADERS_VARIABLES_VAR_NAME))));
+        }
+        arguments.add(createToken(COMMA_TOKEN));
+        arguments.add(NodeFactory.createNamedArgumentNode(
+                NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(TARGET_TYPE_PARAM_NAME)),
+                createToken(EQUAL_TOKEN), NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(
+                        CodeGeneratorUtils.getRemoteFunctionResponseTypeName(queryDefinition.getName())))));
+        RemoteMethodCallActionNode remoteMethodCallExpr = NodeFactory.createRemoteMethodCallActionNode(
+                graphqlClientFieldAccessExpr, createToken(RIGHT_ARROW_TOKEN), methodName, createToken(OPEN_PAREN_TOKEN),
+                NodeFactory.createSeparatedNodeList(arguments), createToken(CLOSE_PAREN_TOKEN));
+
+        return NodeFactory.createReturnStatementNode(createToken(RETURN_KEYWORD), remoteMethodCallExpr,
+                createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generate the {@code graphqlResponse} variable declaration node for a remote function which sends the operation
+     * as an automatic persisted query.
+     * <pre>
+     *     json graphqlResponse = check executePersistedQuery(self.httpClient, query, "5a2b...", variables);
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param withHttpHeaders whether to pass the {@code httpHeaders} with the persisted query
+     * @return the node which represent the {@code graphqlResponse} variable declaration
+     */
+    private StatementNode generatePersistedQueryResponseVariableDeclarationNode(
+            ExtendedOperationDefinition queryDefinition, boolean withHttpHeaders) {
+        String queryHash = CodeGeneratorUtils.getSha256Hash(queryDefinition.getQueryString());
+        String httpHeadersArgument = withHttpHeaders ? COMMA + " " + HTTP_HEADERS_VARIABLES_VAR_NAME : "";
+        return NodeParser.parseStatement(String.format(
+                "json %s = check executePersistedQuery(self.%s, %s, \"%s\", %s%s);", GRAPHQL_RESPONSE_VAR_NAME,
+                HTTP_CLIENT, QUERY_VAR_NAME, queryHash, GRAPHQL_VARIABLES_VAR_NAME, httpHeadersArgument));
+    }
+
+    /**
+     * Generate the statement nodes of a remote function which return the cached response of the query, if the same
+     * operation with the same variables has been cached and has not expired.
+     * <pre>
+     *     string cacheKey = getCacheKey("5a2b...", variables);
+     *     json cachedResponse = self.responseCache.get(cacheKey);
+     *     if cachedResponse !is () {
+     *         return &lt;CountryResponse&gt; check performDataBinding(cachedResponse, CountryResponse);
+     *     }
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @return the list of nodes which represent the cached response lookup
+     */
+    private List<StatementNode> generateCachedResponseStatementNodes(ExtendedOperationDefinition queryDefinition) {
+        String queryHash = CodeGeneratorUtils.getSha256Hash(queryDefinition.getQueryString());
+        String responseTypeName = CodeGeneratorUtils.getRemoteFunctionResponseTypeName(queryDefinition.getName());
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(NodeParser.parseStatement(String.format("string %s = getCacheKey(\"%s\", %s);",
+                CACHE_KEY_VAR_NAME, queryHash, GRAPHQL_VARIABLES_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement(String.format("json %s = self.%s.get(%s);",
+                CACHED_RESPONSE_VAR_NAME, RESPONSE_CACHE, CACHE_KEY_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement(String.format("if %s !is () {\n" +
+                        "    return <%s> check performDataBinding(%s, %s);\n" +
+                        "}", CACHED_RESPONSE_VAR_NAME, responseTypeName, CACHED_RESPONSE_VAR_NAME,
+                responseTypeName)));
+        return statementNodes;
+    }
+
+    /**
+     * Generate the statement nodes of the remote function of a subscription, which subscribes over WebSocket and
+     * returns the stream of the responses bound to the response type.
+     * <pre>
+     *     SubscriptionStream subscriptionStream =
+     *             check new (self.subscriptionUrl, self.subscriptionConfig, query, variables);
+     *     stream&lt;json, graphql:ClientError?&gt; messages = new (subscriptionStream);
+     *     return stream from json message in messages
+     *         select &lt;OnCountryResponse&gt; check performDataBinding(message, OnCountryResponse);
+     * </pre>
+     *
+     * @param queryDefinition the object instance of a single query definition in a query document
+     * @param withHttpHeaders whether to send the {@code httpHeaders} with the WebSocket handshake
+     * @return the list of nodes which represent the subscription
+     */
+    private List<StatementNode> generateSubscriptionStatementNodes(ExtendedOperationDefinition queryDefinition,
+                                                                   boolean withHttpHeaders) {
+        String responseTypeName = CodeGeneratorUtils.getRemoteFunctionResponseTypeName(queryDefinition.getName());
+        String httpHeadersArgument = withHttpHeaders ? COMMA + " " + HTTP_HEADERS_VARIABLES_VAR_NAME : "";
+        List<StatementNode> statementNodes = new ArrayList<>();
+        statementNodes.add(NodeParser.parseStatement(String.format("%s %s = check new (self.%s, self.%s, %s, %s%s);",
+                SUBSCRIPTION_STREAM_TYPE_NAME, SUBSCRIPTION_STREAM_VAR_NAME, SUBSCRIPTION_URL, SUBSCRIPTION_CONFIG,
+                QUERY_VAR_NAME, GRAPHQL_VARIABLES_VAR_NAME, httpHeadersArgument)));
+        statementNodes.add(NodeParser.parseStatement(String.format("stream<json, graphql:ClientError?> %s = new (%s);",
+                SUBSCRIPTION_MESSAGES_VAR_NAME, SUBSCRIPTION_STREAM_VAR_NAME)));
+        statementNodes.add(NodeParser.parseStatement(String.format("return stream from json message in %s " +
+                        "select <%s> check performDataBinding(message, %s);", SUBSCRIPTION_MESSAGES_VAR_NAME,
+                responseTypeName, responseTypeName)));
+        return statementNodes;
+    }
+
     /**
      * Generate the {@code graphqlResponse} variable declaration node for a remote function.
      *
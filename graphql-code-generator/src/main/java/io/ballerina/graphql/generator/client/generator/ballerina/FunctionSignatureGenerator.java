@@ -60,6 +60,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.API_KEYS_CONFIG_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATIONS_PARAM_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_OPERATION_TYPE_NAME;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.BATCH_RESPONSE_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONFIG_PARAM_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.CONNECTION_CONFIG_TYPE_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_EXPRESSION;
@@ -73,12 +76,9 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
  * This class is used to generate function signatures in the ballerina client file.
  */
 public class FunctionSignatureGenerator {
-    private static FunctionSignatureGenerator functionSignatureGenerator = null;
+    private static final FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator();
 
     public static FunctionSignatureGenerator getInstance() {
-        if (functionSignatureGenerator == null) {
-            functionSignatureGenerator = new FunctionSignatureGenerator();
-        }
         return functionSignatureGenerator;
     }
 
@@ -103,7 +103,8 @@ public class FunctionSignatureGenerator {
     }
 
     /**
-     * Generates the client class remote function signature.
+     * Generates the client class remote function signature. The remote function of a subscription returns a stream
+     * of the responses instead of a single response.
      *
      * @param queryDefinition       the object instance of a single query definition in a query document
      * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
@@ -114,9 +115,54 @@ public class FunctionSignatureGenerator {
         SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
                 generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(graphQLSchema)));
 
+        String returnTypeName = queryDefinition.isSubscription() ?
+                CodeGeneratorUtils.getSubscriptionFunctionSignatureReturnTypeName(queryDefinition.getName()) :
+                CodeGeneratorUtils.getRemoteFunctionSignatureReturnTypeName(queryDefinition.getName());
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(returnTypeName));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the signature of the function which builds the batch operation of a query definition. The function
+     * takes the same parameters as the remote function of the query definition.
+     *
+     * @param queryDefinition       the object instance of a single query definition in a query document
+     * @param graphQLSchema         the object instance of the GraphQL schema (SDL)
+     * @return                      the node which represent the batch operation function signature
+     */
+    public FunctionSignatureNode generateBatchOperationFunctionSignature(ExtendedOperationDefinition queryDefinition,
+                                                                         GraphQLSchema graphQLSchema) {
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(
+                generateRemoteFunctionParams(queryDefinition.getVariableDefinitionsMap(graphQLSchema)));
+
+        BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
+
+        return createFunctionSignatureNode(
+                createToken(OPEN_PAREN_TOKEN), parameterList, createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generates the signature of the remote function which sends the given batch operations as a single batched
+     * request.
+     *
+     * @return                      the node which represent the {@code executeBatch} remote function signature
+     */
+    public FunctionSignatureNode generateExecuteBatchFunctionSignature() {
+        BuiltinSimpleNameReferenceNode operationsTypeName = createBuiltinSimpleNameReferenceNode(null,
+                createIdentifierToken(BATCH_OPERATION_TYPE_NAME + "[]"));
+        SeparatedNodeList<ParameterNode> parameterList = createSeparatedNodeList(createRequiredParameterNode(
+                createEmptyNodeList(), operationsTypeName, createIdentifierToken(BATCH_OPERATIONS_PARAM_NAME)));
+
         BuiltinSimpleNameReferenceNode returnType = createBuiltinSimpleNameReferenceNode(null,
-                createIdentifierToken(
-                        CodeGeneratorUtils.getRemoteFunctionSignatureReturnTypeName(queryDefinition.getName())));
+                createIdentifierToken(BATCH_RESPONSE_TYPE_NAME + "[]|graphql:ClientError"));
         ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
                 createToken(RETURNS_KEYWORD), createEmptyNodeList(), returnType);
 
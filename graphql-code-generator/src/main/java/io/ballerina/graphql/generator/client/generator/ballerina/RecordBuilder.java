@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.ballerina;
+
+import java.io.IOException;
+
+/**
+ * This interface builds the records of the types file while {@link TypesGenerator} walks the input types of the
+ * schema and the selections of the query documents, so that the same walk generates either the syntax tree of the
+ * types file or its formatted source code. The records are built in a nested manner, and a named record is added to
+ * the types file as soon as it is completed, ahead of the records which are still being built and refer to it.
+ */
+public interface RecordBuilder {
+
+    /**
+     * Marks the start of the records of a query document.
+     */
+    void startDocument();
+
+    /**
+     * Marks the start of the records of an operation.
+     */
+    void startOperation();
+
+    /**
+     * Starts a named record, to which the following fields are added until it is ended.
+     *
+     * @param typeName          the name of the record type
+     * @param closed            whether the record is a closed record
+     * @throws IOException      If an I/O error occurs
+     */
+    void startRecord(String typeName, boolean closed) throws IOException;
+
+    /**
+     * Ends the last started named record and adds it to the types file.
+     *
+     * @throws IOException      If an I/O error occurs
+     */
+    void endRecord() throws IOException;
+
+    /**
+     * Starts a closed inline record, to which the following fields are added until it is ended.
+     *
+     * @throws IOException      If an I/O error occurs
+     */
+    void startInlineRecord() throws IOException;
+
+    /**
+     * Ends the last started inline record and adds it as the type of a field of the enclosing record.
+     *
+     * @param tokens            the optional and array type tokens of the field
+     * @param fieldName         the name of the field
+     * @throws IOException      If an I/O error occurs
+     */
+    void endInlineRecord(String tokens, String fieldName) throws IOException;
+
+    /**
+     * Adds a field to the record being built.
+     *
+     * @param typeName          the type of the field, including its optional and array type tokens
+     * @param fieldName         the name of the field
+     * @param optional          whether the field is an optional field
+     * @throws IOException      If an I/O error occurs
+     */
+    void addField(String typeName, String fieldName, boolean optional) throws IOException;
+
+    /**
+     * Adds a field of a named record type to the record being built.
+     *
+     * @param typeName          the name of the record type of the field
+     * @param tokens            the optional and array type tokens of the field
+     * @param fieldName         the name of the field
+     * @throws IOException      If an I/O error occurs
+     */
+    void addRecordReferenceField(String typeName, String tokens, String fieldName) throws IOException;
+
+    /**
+     * Includes the fields of a named record type in the record being built.
+     *
+     * @param typeName          the name of the included record type
+     * @throws IOException      If an I/O error occurs
+     */
+    void addIncludedRecord(String typeName) throws IOException;
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.ballerina;
+
+import io.ballerina.graphql.generator.utils.BallerinaSourceWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SEMICOLON;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
+
+/**
+ * This class writes the records of the types file directly to a source writer in the formatted form. Each named
+ * record is completed in memory before it is written, so that the records it refers to are written ahead of it.
+ */
+public class SourceRecordBuilder implements RecordBuilder {
+    private static final String OPTIONAL_TOKEN = "?";
+    private static final String PUBLIC_TYPE = "public type ";
+    private static final String OPEN_RECORD = "record {";
+    private static final String CLOSE_RECORD = "}";
+    private static final String OPEN_CLOSED_RECORD = "record {|";
+    private static final String CLOSE_CLOSED_RECORD = "|}";
+    private static final String ASTERISK = "*";
+
+    private final BallerinaSourceWriter sourceWriter;
+    private final Deque<RecordSource> records = new ArrayDeque<>();
+
+    public SourceRecordBuilder(BallerinaSourceWriter sourceWriter) {
+        this.sourceWriter = sourceWriter;
+    }
+
+    @Override
+    public void startDocument() {
+    }
+
+    @Override
+    public void startOperation() {
+    }
+
+    @Override
+    public void startRecord(String typeName, boolean closed) throws IOException {
+        RecordSource record = new RecordSource(closed);
+        record.getRecordWriter().openBlock(PUBLIC_TYPE + typeName + WHITESPACE +
+                (closed ? OPEN_CLOSED_RECORD : OPEN_RECORD));
+        records.push(record);
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        RecordSource record = records.pop();
+        record.getRecordWriter().closeBlock((record.isClosed() ? CLOSE_CLOSED_RECORD : CLOSE_RECORD) + SEMICOLON);
+        sourceWriter.writeModuleMember(record.getSource());
+    }
+
+    @Override
+    public void startInlineRecord() throws IOException {
+        records.peek().getRecordWriter().openBlock(OPEN_CLOSED_RECORD);
+    }
+
+    @Override
+    public void endInlineRecord(String tokens, String fieldName) throws IOException {
+        records.peek().getRecordWriter().closeBlock(CLOSE_CLOSED_RECORD + tokens + WHITESPACE + fieldName +
+                SEMICOLON);
+    }
+
+    @Override
+    public void addField(String typeName, String fieldName, boolean optional) throws IOException {
+        records.peek().getRecordWriter().writeLine(typeName + WHITESPACE + fieldName +
+                (optional ? OPTIONAL_TOKEN : EMPTY_STRING) + SEMICOLON);
+    }
+
+    @Override
+    public void addRecordReferenceField(String typeName, String tokens, String fieldName) throws IOException {
+        records.peek().getRecordWriter().writeLine(typeName + tokens + WHITESPACE + fieldName + SEMICOLON);
+    }
+
+    @Override
+    public void addIncludedRecord(String typeName) throws IOException {
+        records.peek().getRecordWriter().writeLine(ASTERISK + typeName + SEMICOLON);
+    }
+
+    /**
+     * The source code of a named record being written, along with the inline records of its fields.
+     */
+    private static class RecordSource {
+        private final boolean closed;
+        private final StringWriter source = new StringWriter();
+        private final BallerinaSourceWriter recordWriter = new BallerinaSourceWriter(source);
+
+        RecordSource(boolean closed) {
+            this.closed = closed;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        BallerinaSourceWriter getRecordWriter() {
+            return recordWriter;
+        }
+
+        String getSource() {
+            return source.toString();
+        }
+    }
+}
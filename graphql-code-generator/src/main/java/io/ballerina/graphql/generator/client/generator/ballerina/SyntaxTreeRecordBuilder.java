@@ -0,0 +1,236 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.ballerina;
+
+import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEndOfLineMinutiae;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayDimensionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createArrayTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIncludedRecordParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACKET_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACKET_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.NEW_LINE;
+
+/**
+ * This class builds the records of the types file as type definition nodes, which are formatted afterwards. When the
+ * types are sharded, a new shard is started for every document and/or every given number of operations, and each
+ * completed record is added to the last shard.
+ */
+public class SyntaxTreeRecordBuilder implements RecordBuilder {
+    private static final String OPTIONAL_TOKEN = "?";
+    private static final String ARRAY_TOKEN = "[]";
+
+    private final List<List<TypeDefinitionNode>> typeDefinitionShards;
+    private final ClientOptions clientOptions;
+    private final Deque<RecordFields> records = new ArrayDeque<>();
+    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private int shardOperationCount = 0;
+
+    public SyntaxTreeRecordBuilder(List<TypeDefinitionNode> typeDefinitionNodeList) {
+        this(new ArrayList<>(List.of(typeDefinitionNodeList)), new ClientOptions());
+    }
+
+    public SyntaxTreeRecordBuilder(List<List<TypeDefinitionNode>> typeDefinitionShards, ClientOptions clientOptions) {
+        this.typeDefinitionShards = typeDefinitionShards;
+        this.clientOptions = clientOptions;
+        this.typeDefinitionNodeList = typeDefinitionShards.get(typeDefinitionShards.size() - 1);
+    }
+
+    @Override
+    public void startDocument() {
+        if (clientOptions.isShardTypesByDocument() && !typeDefinitionNodeList.isEmpty()) {
+            startShard();
+        }
+    }
+
+    @Override
+    public void startOperation() {
+        if (clientOptions.getTypesShardSize() > 0 && shardOperationCount == clientOptions.getTypesShardSize()) {
+            startShard();
+        }
+        shardOperationCount++;
+    }
+
+    @Override
+    public void startRecord(String typeName, boolean closed) {
+        records.push(new RecordFields(typeName, closed));
+    }
+
+    @Override
+    public void endRecord() {
+        RecordFields record = records.pop();
+        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
+        TypeDefinitionNode typeDefNode = createTypeDefinitionNode(metadataNode,
+                createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD),
+                createIdentifierToken(record.getTypeName()),
+                getRecordTypeDescriptor(record),
+                createToken(SEMICOLON_TOKEN));
+        typeDefinitionNodeList.add(typeDefNode);
+    }
+
+    @Override
+    public void startInlineRecord() {
+        records.push(new RecordFields(null, true));
+    }
+
+    @Override
+    public void endInlineRecord(String tokens, String fieldName) {
+        RecordFields record = records.pop();
+        addTypedField(getTypeDescriptorWithTokens(getRecordTypeDescriptor(record), tokens), fieldName);
+    }
+
+    @Override
+    public void addField(String typeName, String fieldName, boolean optional) {
+        records.peek().getFields().add(createRecordFieldNode(null, null,
+                createIdentifierToken(typeName),
+                createIdentifierToken(fieldName),
+                optional ? createToken(QUESTION_MARK_TOKEN) : null,
+                createToken(SEMICOLON_TOKEN)));
+    }
+
+    @Override
+    public void addRecordReferenceField(String typeName, String tokens, String fieldName) {
+        addTypedField(getTypeDescriptorWithTokens(createSimpleNameReferenceNode(createIdentifierToken(typeName)),
+                tokens), fieldName);
+    }
+
+    @Override
+    public void addIncludedRecord(String typeName) {
+        records.peek().getFields().add(createIncludedRecordParameterNode(
+                createEmptyNodeList(),
+                createToken(ASTERISK_TOKEN),
+                createIdentifierToken(typeName),
+                createToken(SEMICOLON_TOKEN, createEmptyMinutiaeList(),
+                        createMinutiaeList(createEndOfLineMinutiae(NEW_LINE)))));
+    }
+
+    private void startShard() {
+        typeDefinitionNodeList = new LinkedList<>();
+        typeDefinitionShards.add(typeDefinitionNodeList);
+        shardOperationCount = 0;
+    }
+
+    private void addTypedField(TypeDescriptorNode typeDescriptorNode, String fieldName) {
+        records.peek().getFields().add(createRecordFieldNode(null, null,
+                typeDescriptorNode,
+                createIdentifierToken(fieldName),
+                null,
+                createToken(SEMICOLON_TOKEN)));
+    }
+
+    private RecordTypeDescriptorNode getRecordTypeDescriptor(RecordFields record) {
+        return createRecordTypeDescriptorNode(
+                createToken(RECORD_KEYWORD),
+                createToken(record.isClosed() ? OPEN_BRACE_PIPE_TOKEN : OPEN_BRACE_TOKEN),
+                createNodeList(record.getFields()),
+                null,
+                createToken(record.isClosed() ? CLOSE_BRACE_PIPE_TOKEN : CLOSE_BRACE_TOKEN));
+    }
+
+    /**
+     * Wraps a type descriptor with the optional and array type tokens of a field type.
+     * -- ex: If the tokens are `?[]`, the type descriptor `T` will be wrapped as `T?[]`
+     *
+     * @param typeDescriptorNode    the type descriptor node to be wrapped
+     * @param tokens                the optional and array type tokens of the field type
+     * @return                      the wrapped type descriptor node
+     */
+    private TypeDescriptorNode getTypeDescriptorWithTokens(TypeDescriptorNode typeDescriptorNode, String tokens) {
+        TypeDescriptorNode wrappedTypeDescriptorNode = typeDescriptorNode;
+        int index = 0;
+        while (index < tokens.length()) {
+            if (tokens.startsWith(OPTIONAL_TOKEN, index)) {
+                wrappedTypeDescriptorNode = createOptionalTypeDescriptorNode(wrappedTypeDescriptorNode,
+                        createToken(QUESTION_MARK_TOKEN));
+                index += OPTIONAL_TOKEN.length();
+            } else if (tokens.startsWith(ARRAY_TOKEN, index)) {
+                ArrayDimensionNode arrayDimensionNode = createArrayDimensionNode(createToken(OPEN_BRACKET_TOKEN),
+                        null, createToken(CLOSE_BRACKET_TOKEN));
+                wrappedTypeDescriptorNode = createArrayTypeDescriptorNode(wrappedTypeDescriptorNode,
+                        createNodeList(arrayDimensionNode));
+                index += ARRAY_TOKEN.length();
+            } else {
+                index++;
+            }
+        }
+        return wrappedTypeDescriptorNode;
+    }
+
+    /**
+     * The fields of a record being built.
+     */
+    private static class RecordFields {
+        private final String typeName;
+        private final boolean closed;
+        private final List<Node> fields = new ArrayList<>();
+
+        RecordFields(String typeName, boolean closed) {
+            this.typeName = typeName;
+            this.closed = closed;
+        }
+
+        String getTypeName() {
+            return typeName;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        List<Node> getFields() {
+            return fields;
+        }
+    }
+}
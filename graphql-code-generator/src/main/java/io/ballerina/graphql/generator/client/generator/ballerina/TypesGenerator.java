@@ -24,55 +24,36 @@ import graphql.language.InlineFragment;
 import graphql.language.Selection;
 import graphql.language.SelectionSet;
 import graphql.schema.GraphQLSchema;
-import io.ballerina.compiler.syntax.tree.MetadataNode;
-import io.ballerina.compiler.syntax.tree.Node;
-import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.RecordFieldNode;
-import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
-import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.graphql.generator.client.Utils;
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
 import io.ballerina.graphql.generator.client.generator.graphql.SpecReader;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFieldDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedFragmentDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedVariableDefinition;
 import io.ballerina.graphql.generator.client.generator.graphql.components.SelectionData;
+import io.ballerina.graphql.generator.client.generator.graphql.components.SharedRecordTypes;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.BallerinaSourceWriter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createIncludedRecordParameterNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordFieldNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createRecordTypeDescriptorNode;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.ASTERISK_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_PIPE_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
-import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.FRAGMENT;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MUTATION;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.NEW_LINE;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.QUERY;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.RESPONSE;
-import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SUBSCRIPTION;
 import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIdentifier;
 
 /**
@@ -80,12 +61,11 @@ import static io.ballerina.graphql.generator.utils.CodeGeneratorUtils.escapeIden
  */
 public class TypesGenerator {
     private static final Log log = LogFactory.getLog(TypesGenerator.class);
-    private static TypesGenerator typesGenerator = null;
+    private static final String EXTENSIONS_FIELD_TYPE = "map<json?>";
+    private static final String EXTENSIONS_FIELD_NAME = "__extensions";
+    private static final TypesGenerator typesGenerator = new TypesGenerator();
 
     public static TypesGenerator getInstance() {
-        if (typesGenerator == null) {
-            typesGenerator = new TypesGenerator();
-        }
         return typesGenerator;
     }
 
@@ -94,34 +74,98 @@ public class TypesGenerator {
      *
      * @param schema                    the object instance of the GraphQL schema (SDL)
      * @param documents                 the list of documents of a given GraphQL project
+     * @param documentRegistry          the registry of the parsed query documents
      * @param typeDefinitionNodeList    the list of TypeDefinitionNodes
      * @throws IOException              If an I/O error occurs
      */
-    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents, List<TypeDefinitionNode>
-            typeDefinitionNodeList) throws IOException {
-        String queryObjectTypeName = QUERY;
-        String mutationObjectTypeName = MUTATION;
-        if (schema.getQueryType() != null) {
-            queryObjectTypeName = schema.getQueryType().getName();
-        }
-        if (schema.getMutationType() != null) {
-            mutationObjectTypeName = schema.getMutationType().getName();
-        }
-        Map<String, FieldType> queryFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, queryObjectTypeName);
-        Map<String, FieldType> mutationFieldsMap = SpecReader.getObjectTypeFieldsMap(schema, mutationObjectTypeName);
-        queryFieldsMap.putAll(mutationFieldsMap);
-        RecordFieldNode extensionsFieldNode = getExtensionsRecField();
+    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents,
+                                           QueryDocumentRegistry documentRegistry,
+                                           List<TypeDefinitionNode> typeDefinitionNodeList) throws IOException {
+        addQueryResponseRecords(schema, documents, documentRegistry, new ClientOptions(),
+                new ArrayList<>(List.of(typeDefinitionNodeList)));
+    }
+
+    /**
+     * Create query response records. With deduplication, every selection shape is generated once as a named record
+     * and the selections with the same shape refer to it, instead of repeating the same inline record.
+     * The records are added to the last of the given shards. When the types are sharded, a new shard is started for
+     * every document and/or every given number of operations, and the fragment and the shared records are added to
+     * the shard of the first operation which refers to them.
+     *
+     * @param schema                    the object instance of the GraphQL schema (SDL)
+     * @param documents                 the list of documents of a given GraphQL project
+     * @param documentRegistry          the registry of the parsed query documents
+     * @param clientOptions             the optional features of the generated client
+     * @param typeDefinitionShards      the lists of TypeDefinitionNodes of the shards
+     * @throws IOException              If an I/O error occurs
+     */
+    protected void addQueryResponseRecords(GraphQLSchema schema, List<String> documents,
+                                           QueryDocumentRegistry documentRegistry, ClientOptions clientOptions,
+                                           List<List<TypeDefinitionNode>> typeDefinitionShards) throws IOException {
+        buildQueryResponseRecords(schema, documents, documentRegistry, clientOptions,
+                new SyntaxTreeRecordBuilder(typeDefinitionShards, clientOptions));
+    }
+
+    /**
+     * Writes the query response records directly to the given source writer.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param documents             the list of documents of a given GraphQL project
+     * @param documentRegistry      the registry of the parsed query documents
+     * @param sourceWriter          the writer of the types file
+     * @throws IOException          If an I/O error occurs
+     */
+    protected void emitQueryResponseRecords(GraphQLSchema schema, List<String> documents,
+                                            QueryDocumentRegistry documentRegistry,
+                                            BallerinaSourceWriter sourceWriter) throws IOException {
+        emitQueryResponseRecords(schema, documents, documentRegistry, new ClientOptions(), sourceWriter);
+    }
+
+    /**
+     * Writes the query response records directly to the given source writer, optionally generating a named record
+     * for each selection shape as {@link #addQueryResponseRecords} does. The records are not sharded.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param documents             the list of documents of a given GraphQL project
+     * @param documentRegistry      the registry of the parsed query documents
+     * @param clientOptions         the optional features of the generated client
+     * @param sourceWriter          the writer of the types file
+     * @throws IOException          If an I/O error occurs
+     */
+    protected void emitQueryResponseRecords(GraphQLSchema schema, List<String> documents,
+                                            QueryDocumentRegistry documentRegistry, ClientOptions clientOptions,
+                                            BallerinaSourceWriter sourceWriter) throws IOException {
+        buildQueryResponseRecords(schema, documents, documentRegistry, clientOptions,
+                new SourceRecordBuilder(sourceWriter));
+    }
+
+    /**
+     * Walks the operations of the query documents and builds their response records with the given record builder.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param documents             the list of documents of a given GraphQL project
+     * @param documentRegistry      the registry of the parsed query documents
+     * @param clientOptions         the optional features of the generated client
+     * @param recordBuilder         the builder of the records
+     * @throws IOException          If an I/O error occurs
+     */
+    private void buildQueryResponseRecords(GraphQLSchema schema, List<String> documents,
+                                           QueryDocumentRegistry documentRegistry, ClientOptions clientOptions,
+                                           RecordBuilder recordBuilder) throws IOException {
+        Map<String, FieldType> queryFieldsMap = getRootFieldsMap(schema);
         Map<String, String> fragmentRecordsMap = new HashMap<>();
+        SharedRecordTypes sharedRecordTypes = clientOptions.isDeduplicateRecords() ? new SharedRecordTypes(schema) :
+                null;
 
         for (String document: documents) {
-            QueryReader queryReader = new QueryReader(Utils.getGraphQLQueryDocument(document));
+            recordBuilder.startDocument();
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
             for (ExtendedOperationDefinition definition: queryReader.getExtendedOperationDefinitions()) {
-                String queryName = definition.getName();
-                // Record field nodes of the Query record
-                List<Node> queryRecordFieldList = new ArrayList<>();
+                recordBuilder.startOperation();
+                recordBuilder.startRecord(getQueryResponseTypeName(definition.getName()), true);
 
                 // Add record field for extensions - map<json?> __extensions?;
-                queryRecordFieldList.add(extensionsFieldNode);
+                recordBuilder.addField(EXTENSIONS_FIELD_TYPE, EXTENSIONS_FIELD_NAME, true);
 
                 for (ExtendedFieldDefinition extendedFieldDefinition: definition.getExtendedFieldDefinitions()) {
                     String fieldName = extendedFieldDefinition.getName(); // countries
@@ -132,183 +176,91 @@ public class TypesGenerator {
                     }
                     Map<String, FieldType> fieldsOfSelectionType = SpecReader.getObjectTypeFieldsMap(schema,
                             selectionType);
-                    // Record field nodes of the Inline record
-                    List<Node> fieldsOfInlineRecord = new ArrayList<>();
 
                     SelectionData selectionData = new SelectionData(selectionType, fieldsOfSelectionType, schema,
-                            queryReader, fieldsOfInlineRecord, typeDefinitionNodeList, fragmentRecordsMap);
-                    for (Selection selection: extendedFieldDefinition.getSelectionSet().getSelections()) {
-                        handleSelection(selection, selectionData);
-                    }
-
-                    NodeList<Node> recFieldNodesOfInlineRecord = createNodeList(fieldsOfInlineRecord);
-                    RecordTypeDescriptorNode inlineRecord = createRecordTypeDescriptorNode(
-                            createToken(RECORD_KEYWORD),
-                            createToken(OPEN_BRACE_PIPE_TOKEN), recFieldNodesOfInlineRecord, null,
-                            createToken(CLOSE_BRACE_PIPE_TOKEN));
-
-                    RecordFieldNode queryRecordFieldNode = createRecordFieldNode(null, null,
-                            createIdentifierToken(inlineRecord + queryFieldsMap.get(fieldName).getTokens()),
-                            createIdentifierToken(escapeIdentifier(recordFieldName)),
-                            null,
-                            createToken(SEMICOLON_TOKEN));
-                    queryRecordFieldList.add(queryRecordFieldNode);
+                            queryReader, recordBuilder, fragmentRecordsMap, sharedRecordTypes);
+                    addSelectionRecordField(extendedFieldDefinition.getSelectionSet(), selectionData,
+                            getTokens(queryFieldsMap.get(fieldName)), escapeIdentifier(recordFieldName));
                 }
-
-                NodeList<Node> queryResponseRecFields = createNodeList(queryRecordFieldList);
-
-                RecordTypeDescriptorNode queryResponseRecord = createRecordTypeDescriptorNode(
-                        createToken(RECORD_KEYWORD),
-                        createToken(OPEN_BRACE_PIPE_TOKEN), queryResponseRecFields, null,
-                        createToken(CLOSE_BRACE_PIPE_TOKEN));
-                MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
-                TypeDefinitionNode typeDefNode = createTypeDefinitionNode(metadataNode,
-                        createToken(PUBLIC_KEYWORD),
-                        createToken(TYPE_KEYWORD),
-                        createIdentifierToken(getQueryResponseTypeName(queryName)),
-                        queryResponseRecord,
-                        createToken(SEMICOLON_TOKEN));
-                typeDefinitionNodeList.add(typeDefNode);
+                recordBuilder.endRecord();
             }
         }
     }
 
-
     /**
-     * Handle a Selection and create record field nodes according to its type.
+     * Handle a Selection and add the record fields according to its type.
      *
      * @param selection         Selection object
      * @param selectionData     Selection data
+     * @throws IOException      If an I/O error occurs
      */
-    private void handleSelection(Selection selection, SelectionData selectionData) {
+    private void handleSelection(Selection selection, SelectionData selectionData) throws IOException {
         if (selection instanceof FragmentSpread) {
-            handleFragmentSpread(selection, selectionData);
+            handleFragmentSpread((FragmentSpread) selection, selectionData);
         } else if (selection instanceof InlineFragment) {
-            handleInlineFragment((InlineFragment) selection, selectionData);
+            for (Selection inlineFragmentSelection: ((InlineFragment) selection).getSelectionSet().getSelections()) {
+                handleSelection(inlineFragmentSelection, selectionData);
+            }
         } else {
-            handleField(selection, selectionData);
+            Field field = (Field) selection;
+            if (field.getSelectionSet() != null) {
+                addInlineRecordField(field, selectionData);
+            } else {
+                String fieldName = field.getName();
+                String typeOfField = selectionData.getFieldsOfSelectionType().get(fieldName).getFieldTypeAsString();
+                selectionData.getRecordBuilder().addField(typeOfField, fieldName, false);
+            }
         }
     }
 
     /**
-     * Handle a FragmentSpread and create record field nodes.
+     * Handle a FragmentSpread, including the fragment record in the record being built.
      *
-     * @param selection     Selection object
-     * @param selectionData Selection data
+     * @param fragmentSpread    Instance of the FragmentSpread object
+     * @param selectionData     Selection data
+     * @throws IOException      If an I/O error occurs
      */
-    private void handleFragmentSpread(Selection selection, SelectionData selectionData) {
-        String fragmentName = ((FragmentSpread) selection).getName();
+    private void handleFragmentSpread(FragmentSpread fragmentSpread, SelectionData selectionData)
+            throws IOException {
+        String fragmentName = fragmentSpread.getName();
         String fragmentTypeName = getFragmentTypeName(fragmentName);
-        selectionData.getFieldsOfInlineRecord().add(
-                createIncludedRecordParameterNode(
-                        createEmptyNodeList(),
-                        createToken(ASTERISK_TOKEN),
-                        createIdentifierToken(fragmentTypeName),
-                        createIdentifierToken(createToken(SEMICOLON_TOKEN) + NEW_LINE)
-                )
-        );
+        selectionData.getRecordBuilder().addIncludedRecord(fragmentTypeName);
 
         // Add ballerina record for fragment if its not already available in the fragmentRecords map
         if (!selectionData.getFragmentRecordsMap().containsKey(fragmentName)) {
-            addFragmentRecord((FragmentSpread) selection, selectionData);
+            addFragmentRecord(fragmentName, selectionData);
             selectionData.getFragmentRecordsMap().put(fragmentName, fragmentTypeName);
         }
     }
 
     /**
-     * Handle a Field and create record field nodes.
-     *
-     * @param selection
-     * @param selectionData
-     */
-    private void handleField(Selection selection, SelectionData selectionData) {
-        Field field = (Field) selection;
-        if (field.getSelectionSet() != null) {
-            createInlineRecordField(field, selectionData);
-        } else {
-            String fieldName = field.getName();
-            String typeOfField = selectionData.getFieldsOfSelectionType().get(fieldName).getFieldTypeAsString();
-            selectionData.getFieldsOfInlineRecord().add(createRecordFieldNode(null, null,
-                    createIdentifierToken(typeOfField + WHITESPACE),
-                    createIdentifierToken(fieldName),
-                    null,
-                    createIdentifierToken(createToken(SEMICOLON_TOKEN) + NEW_LINE)
-            ));
-        }
-    }
-
-    /**
-     * Handle Fragment Fields.
+     * Add the record of a fragment.
      *
-     * @param fragmentSpread    Instance of the FragmentSpread object
+     * @param fragmentName      the name of the fragment
      * @param selectionData     Instance of the selectionData object
+     * @throws IOException      If an I/O error occurs
      */
-    private void addFragmentRecord(FragmentSpread fragmentSpread, SelectionData selectionData) {
-        List<Node> recordFieldList = new ArrayList<>();
-        String fragmentName = fragmentSpread.getName();
+    private void addFragmentRecord(String fragmentName, SelectionData selectionData) throws IOException {
+        RecordBuilder recordBuilder = selectionData.getRecordBuilder();
+        recordBuilder.startRecord(getFragmentTypeName(fragmentName), true);
         for (ExtendedFragmentDefinition fragmentDef: selectionData.getQueryReader().getExtendedFragmentDefinitions()) {
             if (fragmentName.equals(fragmentDef.getName())) {
-                SelectionData fragmentSelData = new SelectionData(selectionData.getSelectionType(),
-                        selectionData.getFieldsOfSelectionType(), selectionData.getSchema(),
-                        selectionData.getQueryReader(), recordFieldList, selectionData.getTypeDefinitionNodeList(),
-                        selectionData.getFragmentRecordsMap());
                 for (Selection selection: fragmentDef.getSelectionSet().getSelections()) {
-                    if (selection instanceof Field) {
-                        Field field = (Field) selection;
-                        if (field.getSelectionSet() != null) {
-                            createInlineRecordField(field, fragmentSelData);
-                        } else {
-                            String fieldName = field.getName();
-                            String typeOfField = fragmentSelData.getFieldsOfSelectionType().get(fieldName)
-                                    .getFieldTypeAsString();
-                            recordFieldList.add(createRecordFieldNode(null, null,
-                                    createIdentifierToken(typeOfField + WHITESPACE),
-                                    createIdentifierToken(fieldName),
-                                    null,
-                                    createToken(SEMICOLON_TOKEN)
-                            ));
-                        }
-                    } else {
-                        handleSelection(selection, fragmentSelData);
-                    }
+                    handleSelection(selection, selectionData);
                 }
             }
         }
-        NodeList<Node> fragmentTypeFields = createNodeList(recordFieldList);
-
-        RecordTypeDescriptorNode fragmentRecord = createRecordTypeDescriptorNode(
-                createToken(RECORD_KEYWORD),
-                createToken(OPEN_BRACE_PIPE_TOKEN), fragmentTypeFields, null,
-                createToken(CLOSE_BRACE_PIPE_TOKEN));
-        MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
-        TypeDefinitionNode typeDefNode = createTypeDefinitionNode(metadataNode,
-                createToken(PUBLIC_KEYWORD),
-                createToken(TYPE_KEYWORD),
-                createIdentifierToken(getFragmentTypeName(fragmentName)),
-                fragmentRecord,
-                createToken(SEMICOLON_TOKEN));
-        selectionData.getTypeDefinitionNodeList().add(typeDefNode);
+        recordBuilder.endRecord();
     }
 
     /**
-     * Handle inline Fragment.
-     *
-     * @param inlineFragment    Instance of the InlineFragment object
-     * @param selectionData     Instance of the SelectionData object
-     */
-    private void handleInlineFragment(InlineFragment inlineFragment, SelectionData selectionData) {
-        for (Selection selection: inlineFragment.getSelectionSet().getSelections()) {
-            handleSelection(selection, selectionData);
-        }
-    }
-
-    /**
-     * Create inline record field node.
+     * Add an inline record field.
      *
      * @param inlineRecordField     the object instance of the inline record field
      * @param selectionData         instance of Selection Data
+     * @throws IOException          If an I/O error occurs
      */
-    private void createInlineRecordField(Field inlineRecordField, SelectionData selectionData) {
+    private void addInlineRecordField(Field inlineRecordField, SelectionData selectionData) throws IOException {
         String inlineRecordFieldName = inlineRecordField.getName(); // continent
         Map<String, FieldType> objectFieldsMap = SpecReader.getObjectTypeFieldsMap(
                 selectionData.getSchema(),
@@ -317,32 +269,73 @@ public class TypesGenerator {
         Map<String, FieldType> fieldsOfSelectionType = SpecReader.getObjectTypeFieldsMap(
                 selectionData.getSchema(), selectionType);
 
-        SelectionSet selectionSet = inlineRecordField.getSelectionSet();
-        List<Node> fieldList = new ArrayList<>();
-
         SelectionData inlineRecFieldData = new SelectionData(selectionType, fieldsOfSelectionType,
-                selectionData.getSchema(), selectionData.getQueryReader(),
-                fieldList, selectionData.getTypeDefinitionNodeList(), selectionData.getFragmentRecordsMap());
+                selectionData.getSchema(), selectionData.getQueryReader(), selectionData.getRecordBuilder(),
+                selectionData.getFragmentRecordsMap(), selectionData.getSharedRecordTypes());
+        addSelectionRecordField(inlineRecordField.getSelectionSet(), inlineRecFieldData,
+                getTokens(objectFieldsMap.get(inlineRecordFieldName)), inlineRecordFieldName);
+    }
 
-        for (Selection selection: selectionSet.getSelections()) {
-            handleSelection(selection, inlineRecFieldData);
+    /**
+     * Add a record field of a selection set. The type of the field is an inline record, unless the selection shapes
+     * are deduplicated, in which case the field refers to the named record of the shape and the named record is
+     * added the first time the shape is seen.
+     *
+     * @param selectionSet          the selection set
+     * @param selectionData         instance of Selection Data of the type the selection set is made on
+     * @param tokens                the optional and array type tokens of the field
+     * @param fieldName             the name of the field
+     * @throws IOException          If an I/O error occurs
+     */
+    private void addSelectionRecordField(SelectionSet selectionSet, SelectionData selectionData, String tokens,
+                                         String fieldName) throws IOException {
+        RecordBuilder recordBuilder = selectionData.getRecordBuilder();
+        SharedRecordTypes sharedRecordTypes = selectionData.getSharedRecordTypes();
+        if (sharedRecordTypes == null) {
+            recordBuilder.startInlineRecord();
+            for (Selection selection: selectionSet.getSelections()) {
+                handleSelection(selection, selectionData);
+            }
+            recordBuilder.endInlineRecord(tokens, fieldName);
+            return;
         }
 
-        NodeList<Node> fields = createNodeList(fieldList);
-        TypeDescriptorNode typeDescriptorNode = createRecordTypeDescriptorNode(
-                createToken(RECORD_KEYWORD),
-                createToken(OPEN_BRACE_PIPE_TOKEN),
-                fields,
-                null,
-                createToken(CLOSE_BRACE_PIPE_TOKEN)
-        );
-
-        selectionData.getFieldsOfInlineRecord().add(createRecordFieldNode(null, null,
-                createIdentifierToken(typeDescriptorNode + objectFieldsMap.get(inlineRecordFieldName).getTokens()),
-                createIdentifierToken(inlineRecordFieldName),
-                null,
-                createToken(SEMICOLON_TOKEN))
-        );
+        String shape = SharedRecordTypes.getShape(selectionData.getSelectionType(), selectionSet);
+        String recordTypeName = sharedRecordTypes.getRecordTypeName(shape);
+        if (recordTypeName == null) {
+            recordTypeName = sharedRecordTypes.addRecordType(selectionData.getSelectionType(), shape);
+            recordBuilder.startRecord(recordTypeName, true);
+            for (Selection selection: selectionSet.getSelections()) {
+                handleSelection(selection, selectionData);
+            }
+            recordBuilder.endRecord();
+        }
+        recordBuilder.addRecordReferenceField(recordTypeName, tokens, fieldName);
+    }
+
+    /**
+     * Gets the names of the input object types referred by the variables of the operations in the given documents,
+     * either directly or through the fields of other referred input object types.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param documents             the list of documents of a given GraphQL project
+     * @param documentRegistry      the registry of the parsed query documents
+     * @return                      the list of the referred input object type names, in the order of the schema
+     * @throws IOException          If an I/O error occurs
+     */
+    protected List<String> getReferencedInputObjectTypeNames(GraphQLSchema schema, List<String> documents,
+                                                             QueryDocumentRegistry documentRegistry)
+            throws IOException {
+        Set<String> variableTypeNames = new HashSet<>();
+        for (String document: documents) {
+            QueryReader queryReader = documentRegistry.getQueryReader(document);
+            for (ExtendedOperationDefinition definition: queryReader.getExtendedOperationDefinitions()) {
+                for (ExtendedVariableDefinition variableDefinition: definition.getVariableDefinitions()) {
+                    variableTypeNames.add(variableDefinition.getTypeName());
+                }
+            }
+        }
+        return SpecReader.getReachableInputObjectTypeNames(schema, variableTypeNames);
     }
 
     /**
@@ -350,43 +343,101 @@ public class TypesGenerator {
      *
      * @param schema                        the object instance of the GraphQL schema (SDL)
      * @param typeDefinitionNodeList        the list of typeDefinitionNodes
+     * @throws IOException                  If an I/O error occurs
      */
-    protected void addInputRecords(GraphQLSchema schema, List<TypeDefinitionNode> typeDefinitionNodeList) {
-        List<String> inputObjectTypes = SpecReader.getInputObjectTypeNames(schema);
+    protected void addInputRecords(GraphQLSchema schema, List<TypeDefinitionNode> typeDefinitionNodeList)
+            throws IOException {
+        addInputRecords(schema, SpecReader.getInputObjectTypeNames(schema), typeDefinitionNodeList);
+    }
+
+    /**
+     * Create the records of the given input object types and add them to the typeDefinitionNodeList.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param inputObjectTypes              the names of the input object types
+     * @param typeDefinitionNodeList        the list of typeDefinitionNodes
+     * @throws IOException                  If an I/O error occurs
+     */
+    protected void addInputRecords(GraphQLSchema schema, List<String> inputObjectTypes,
+                                   List<TypeDefinitionNode> typeDefinitionNodeList) throws IOException {
+        buildInputRecords(schema, inputObjectTypes, new SyntaxTreeRecordBuilder(typeDefinitionNodeList));
+    }
+
+    /**
+     * Writes the input records directly to the given source writer.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param sourceWriter          the writer of the types file
+     * @throws IOException          If an I/O error occurs
+     */
+    protected void emitInputRecords(GraphQLSchema schema, BallerinaSourceWriter sourceWriter) throws IOException {
+        emitInputRecords(schema, SpecReader.getInputObjectTypeNames(schema), sourceWriter);
+    }
+
+    /**
+     * Writes the records of the given input object types directly to the given source writer.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param inputObjectTypes      the names of the input object types
+     * @param sourceWriter          the writer of the types file
+     * @throws IOException          If an I/O error occurs
+     */
+    protected void emitInputRecords(GraphQLSchema schema, List<String> inputObjectTypes,
+                                    BallerinaSourceWriter sourceWriter) throws IOException {
+        buildInputRecords(schema, inputObjectTypes, new SourceRecordBuilder(sourceWriter));
+    }
+
+    /**
+     * Builds the records of the given input object types with the given record builder.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @param inputObjectTypes      the names of the input object types
+     * @param recordBuilder         the builder of the records
+     * @throws IOException          If an I/O error occurs
+     */
+    private void buildInputRecords(GraphQLSchema schema, List<String> inputObjectTypes, RecordBuilder recordBuilder)
+            throws IOException {
         for (String inputObjectType: inputObjectTypes) {
-            List<Node> recordFieldList = new ArrayList<>();
-            Map<String, FieldType> inputTypeFieldsMap = SpecReader.getInputTypeFieldsMap(schema, inputObjectType);
-
-            for (Map.Entry<String, FieldType> inputTypeFields: inputTypeFieldsMap.entrySet()) {
-                String typeName = inputTypeFields.getValue().getFieldTypeAsString();
-                String fieldName = inputTypeFields.getKey();
-
-                RecordFieldNode recordFieldNode = createRecordFieldNode(null, null,
-                        createIdentifierToken(typeName),
-                        createIdentifierToken(fieldName), createToken(QUESTION_MARK_TOKEN),
-                        createToken(SEMICOLON_TOKEN));
-                recordFieldList.add(recordFieldNode);
+            recordBuilder.startRecord(inputObjectType, false);
+            for (Map.Entry<String, FieldType> inputTypeFields:
+                    SpecReader.getInputTypeFieldsMap(schema, inputObjectType).entrySet()) {
+                recordBuilder.addField(inputTypeFields.getValue().getFieldTypeAsString(), inputTypeFields.getKey(),
+                        true);
             }
-            NodeList<Node> fieldNodes = createNodeList(recordFieldList);
-
-            RecordTypeDescriptorNode typeDescriptorNode = createRecordTypeDescriptorNode(
-                    createToken(RECORD_KEYWORD),
-                    createToken(OPEN_BRACE_TOKEN),
-                    fieldNodes,
-                    null,
-                    createToken(CLOSE_BRACE_TOKEN));
-
-            MetadataNode metadataNode = createMetadataNode(null, createEmptyNodeList());
-            TypeDefinitionNode typeDefNode = createTypeDefinitionNode(metadataNode,
-                    createToken(PUBLIC_KEYWORD),
-                    createToken(TYPE_KEYWORD),
-                    createIdentifierToken(inputObjectType),
-                    typeDescriptorNode,
-                    createToken(SEMICOLON_TOKEN));
-            typeDefinitionNodeList.add(typeDefNode);
+            recordBuilder.endRecord();
         }
     }
 
+    /**
+     * Gets the fields of the root operation types of the schema, i.e. the fields which the operations of the query
+     * documents select at the top level.
+     *
+     * @param schema                the object instance of the GraphQL schema (SDL)
+     * @return                      the fields of the query, mutation and subscription types mapped by their names
+     */
+    private Map<String, FieldType> getRootFieldsMap(GraphQLSchema schema) {
+        String queryObjectTypeName = schema.getQueryType() != null ? schema.getQueryType().getName() : QUERY;
+        String mutationObjectTypeName = schema.getMutationType() != null ? schema.getMutationType().getName() :
+                MUTATION;
+        String subscriptionObjectTypeName = schema.getSubscriptionType() != null ?
+                schema.getSubscriptionType().getName() : SUBSCRIPTION;
+        Map<String, FieldType> rootFieldsMap =
+                new HashMap<>(SpecReader.getObjectTypeFieldsMap(schema, queryObjectTypeName));
+        rootFieldsMap.putAll(SpecReader.getObjectTypeFieldsMap(schema, mutationObjectTypeName));
+        rootFieldsMap.putAll(SpecReader.getObjectTypeFieldsMap(schema, subscriptionObjectTypeName));
+        return rootFieldsMap;
+    }
+
+    /**
+     * Get the optional and array type tokens of a field type.
+     *
+     * @param fieldType     the field type
+     * @return              the optional and array type tokens
+     */
+    private String getTokens(FieldType fieldType) {
+        return fieldType.getTokens() == null ? EMPTY_STRING : fieldType.getTokens();
+    }
+
     /**
      * Get name for query response type from the query name.
      * -- ex: If the query name is `countries`, the type name will be `CountriesResponse`
@@ -408,21 +459,4 @@ public class TypesGenerator {
         return fragmentName.substring(0, 1).toUpperCase() +
                 fragmentName.substring(1).concat(FRAGMENT);
     }
-
-    /**
-     * Create a record field node for extensions.
-     * <pre>
-     *     map<json?> __extensions?;
-     * </pre>
-     *
-     * @return extensionsFieldNode
-     */
-    private RecordFieldNode getExtensionsRecField() {
-        RecordFieldNode extensionsFieldNode = createRecordFieldNode(null, null,
-                createIdentifierToken("map<json?>"),
-                createIdentifierToken("__extensions"),
-                createToken(QUESTION_MARK_TOKEN),
-                createToken(SEMICOLON_TOKEN));
-        return extensionsFieldNode;
-    }
 }
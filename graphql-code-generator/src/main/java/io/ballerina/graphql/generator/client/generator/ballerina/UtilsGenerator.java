@@ -30,28 +30,22 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.client.exception.UtilsGenerationException;
 import io.ballerina.graphql.generator.client.generator.model.AuthConfig;
+import io.ballerina.graphql.generator.client.generator.model.ClientOptions;
 import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -61,6 +55,7 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSingletonTypeDescriptorNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EOF_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
@@ -69,13 +64,34 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING
  * This class is used to generate utility functions in the ballerina utils file.
  */
 public class UtilsGenerator {
-    private static final Log log = LogFactory.getLog(UtilsGenerator.class);
-    private static UtilsGenerator utilsGenerator = null;
+    private static final String UTILS_TEMPLATE = "templates/utils_graphql.bal";
+    private static final String FUNCTION_NAME = "functionName";
+    private static final String CLASS_NAME = "className";
+    private static final String TYPE_NAME = "typeName";
+    private static final String VARIABLE_NAME = "variableName";
+    private static final String PERFORM_DATA_BINDING = "performDataBinding";
+    private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
+    private static final String GET_HTTP_CLIENT = "getHttpClient";
+    private static final String HANDLE_GRAPHQL_ERRORS = "handleGraphqlErrors";
+    private static final String EXECUTE_PERSISTED_QUERY = "executePersistedQuery";
+    private static final String IS_PERSISTED_QUERY_NOT_FOUND = "isPersistedQueryNotFound";
+    private static final String EXECUTE_BATCH_OPERATIONS = "executeBatchOperations";
+    private static final String RESPONSE_CACHE = "ResponseCache";
+    private static final String CACHED_RESPONSE = "CachedResponse";
+    private static final String GET_CACHE_KEY = "getCacheKey";
+    private static final String GET_CANONICAL_JSON_STRING = "getCanonicalJsonString";
+    private static final String GRAPHQL_TRANSPORT_WS = "GRAPHQL_TRANSPORT_WS";
+    private static final String SUBSCRIPTION_ID = "SUBSCRIPTION_ID";
+    private static final String SUBSCRIPTION_POLL_INTERVAL = "SUBSCRIPTION_POLL_INTERVAL";
+    private static final String GET_SUBSCRIPTION_URL = "getSubscriptionUrl";
+    private static final String SUBSCRIPTION_STREAM = "SubscriptionStream";
+    private static final String OPEN_SUBSCRIPTION = "openSubscription";
+    private static final String EMPTY_VARIABLES = "EMPTY_VARIABLES";
+
+    private static final UtilsGenerator utilsGenerator = new UtilsGenerator();
+    private static volatile Map<String, ModuleMemberDeclarationNode> templateMembers = null;
 
     public static UtilsGenerator getInstance() {
-        if (utilsGenerator == null) {
-            utilsGenerator = new UtilsGenerator();
-        }
         return utilsGenerator;
     }
 
@@ -87,8 +103,26 @@ public class UtilsGenerator {
      * @throws UtilsGenerationException         when an utils code generation error occurs
      */
     public String generateSrc(AuthConfig authConfig) throws UtilsGenerationException {
+        return generateSrc(authConfig, new ClientOptions());
+    }
+
+    /**
+     * Generates the utils file content for the given optional client features. With typed binding, the responses
+     * are bound by the GraphQL client, so the data binding function and the types it binds to are not generated.
+     * With persisted queries, the functions which send the automatic persisted queries are generated. With batching,
+     * the batch operation types and the function which sends the batched operations are generated. With the response
+     * cache, the cache of the query responses and the function which creates the cache keys are generated. With
+     * subscriptions, the stream of the subscriptions over WebSocket is generated. When the unset optional variables
+     * are omitted, the constant shared by the operations without variables is generated.
+     *
+     * @param authConfig                        the object instance representing authentication config information
+     * @param clientOptions                     the object instance representing the optional client features
+     * @return                                  the client file content
+     * @throws UtilsGenerationException         when an utils code generation error occurs
+     */
+    public String generateSrc(AuthConfig authConfig, ClientOptions clientOptions) throws UtilsGenerationException {
         try {
-            return Formatter.format(generateSyntaxTree(authConfig)).toString();
+            return Formatter.format(generateSyntaxTree(authConfig, clientOptions)).toString();
         } catch (FormatterException | IOException e) {
             throw new UtilsGenerationException(e.getMessage());
         }
@@ -102,38 +136,73 @@ public class UtilsGenerator {
      * @throws IOException      If an I/O error occurs
      */
     public SyntaxTree generateSyntaxTree(AuthConfig authConfig) throws IOException {
-        NodeList<ImportDeclarationNode> importsList = generateImports();
+        return generateSyntaxTree(authConfig, new ClientOptions());
+    }
+
+    /**
+     * Generates the utils syntax tree.
+     *
+     * @param authConfig        the object instance representing authentication config information
+     * @param clientOptions     the object instance representing the optional client features
+     * @return                  Syntax tree for the Ballerina utils file code
+     * @throws IOException      If an I/O error occurs
+     */
+    public SyntaxTree generateSyntaxTree(AuthConfig authConfig, ClientOptions clientOptions) throws IOException {
+        // The persisted queries, the batched operations, the cached responses and the subscription responses are
+        // bound through the data binding function even with typed binding
+        boolean dataBinding = !clientOptions.isTypedBinding() || clientOptions.requiresHttpClient() ||
+                clientOptions.isResponseCache() || clientOptions.isSubscriptions();
+        NodeList<ImportDeclarationNode> importsList = generateImports(dataBinding, clientOptions);
 
         List<ModuleMemberDeclarationNode> members =  new ArrayList<>();
         if (authConfig.isApiKeysConfig()) {
             members.add(getSimpleBasicTypeDefinitionNode());
         }
-        members.add(getOperationResponseTypeDefinitionNode());
-        members.add(getDataResponseTypeDefinitionNode());
-
-        Path path = getResourceFilePath();
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree utilSyntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
+        if (dataBinding) {
+            members.add(getOperationResponseTypeDefinitionNode());
+            members.add(getDataResponseTypeDefinitionNode());
+        }
+        if (clientOptions.isBatching()) {
+            members.add(getBatchOperationTypeDefinitionNode());
+            members.add(getBatchResponseTypeDefinitionNode());
+        }
 
-        ModulePartNode utilModulePartNode = utilSyntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> memberDeclarationNodes = utilModulePartNode.members();
-        for (ModuleMemberDeclarationNode node : memberDeclarationNodes) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (authConfig.isApiKeysConfig()) {
-                            if (childNodeEntry.node().get().toString().equals("getMapForHeaders")) {
-                                members.add(node);
-                            }
-                        }
-                        if (childNodeEntry.node().get().toString().equals("performDataBinding")) {
-                            members.add(node);
-                        }
-                    }
-                }
-            }
+        Map<String, ModuleMemberDeclarationNode> utilFunctions = getTemplateMembers();
+        if (authConfig.isApiKeysConfig()) {
+            members.add(utilFunctions.get(GET_MAP_FOR_HEADERS));
+        }
+        if (dataBinding) {
+            members.add(utilFunctions.get(PERFORM_DATA_BINDING));
+        }
+        if (clientOptions.requiresHttpClient()) {
+            members.add(utilFunctions.get(GET_HTTP_CLIENT));
+        }
+        if (clientOptions.requiresHttpClient() || clientOptions.isSubscriptions()) {
+            members.add(utilFunctions.get(HANDLE_GRAPHQL_ERRORS));
+        }
+        if (clientOptions.isPersistedQueries()) {
+            members.add(utilFunctions.get(EXECUTE_PERSISTED_QUERY));
+            members.add(utilFunctions.get(IS_PERSISTED_QUERY_NOT_FOUND));
+        }
+        if (clientOptions.isBatching()) {
+            members.add(utilFunctions.get(EXECUTE_BATCH_OPERATIONS));
+        }
+        if (clientOptions.isResponseCache()) {
+            members.add(utilFunctions.get(CACHED_RESPONSE));
+            members.add(utilFunctions.get(RESPONSE_CACHE));
+            members.add(utilFunctions.get(GET_CACHE_KEY));
+            members.add(utilFunctions.get(GET_CANONICAL_JSON_STRING));
+        }
+        if (clientOptions.isSubscriptions()) {
+            members.add(utilFunctions.get(GRAPHQL_TRANSPORT_WS));
+            members.add(utilFunctions.get(SUBSCRIPTION_ID));
+            members.add(utilFunctions.get(SUBSCRIPTION_POLL_INTERVAL));
+            members.add(utilFunctions.get(GET_SUBSCRIPTION_URL));
+            members.add(utilFunctions.get(SUBSCRIPTION_STREAM));
+            members.add(utilFunctions.get(OPEN_SUBSCRIPTION));
+        }
+        if (clientOptions.isOmitUnsetVariables()) {
+            members.add(utilFunctions.get(EMPTY_VARIABLES));
         }
 
         ModulePartNode modulePartNode =
@@ -145,15 +214,36 @@ public class UtilsGenerator {
     }
 
     /**
-     * Generates the imports in the utils file.
+     * Generates the imports in the utils file. The `graphql` module is only referred by the data binding, the
+     * persisted query and the batch functions, the `http` module only by the persisted query and the batch
+     * functions, the `time` module only by the response cache, and the `websocket` and `lang.runtime` modules only
+     * by the subscriptions.
      *
+     * @param dataBinding               whether the data binding function is generated
+     * @param clientOptions             the object instance representing the optional client features
      * @return                          the node list which represent imports in the utils file
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(boolean dataBinding, ClientOptions clientOptions) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
-                CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
-        imports.add(importForGraphql);
+        if (dataBinding) {
+            ImportDeclarationNode importForGraphql = CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.GRAPHQL);
+            imports.add(importForGraphql);
+        }
+        if (clientOptions.requiresHttpClient()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.HTTP));
+        }
+        if (clientOptions.isResponseCache()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.TIME));
+        }
+        if (clientOptions.isSubscriptions()) {
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.LANG_RUNTIME));
+            imports.add(CodeGeneratorUtils.getImportDeclarationNode(
+                    CodeGeneratorConstants.BALLERINA, CodeGeneratorConstants.WEBSOCKET));
+        }
         return createNodeList(imports);
     }
 
@@ -216,30 +306,125 @@ public class UtilsGenerator {
     }
 
     /**
-     * Gets the path of the utils.bal template at the time of execution.
+     * Generates `BatchOperation` type, which holds an operation to be sent in a batched request along with the type
+     * its response is bound to.
+     * <pre>
+     *      public type BatchOperation record {|
+     *          string query;
+     *          map<anydata> variables;
+     *          typedesc<record {| anydata...; |}> targetType;
+     *      |};
+     * </pre>
+     *
+     * @return          the `BatchOperation` type definition node
+     */
+    private TypeDefinitionNode getBatchOperationTypeDefinitionNode() {
+        TypeDescriptorNode typeDescriptorNode = createSingletonTypeDescriptorNode(
+                createSimpleNameReferenceNode(createIdentifierToken("record {|\n" +
+                        "   string query;\n" +
+                        "   map<anydata> variables;\n" +
+                        "   typedesc<record {| anydata...; |}> targetType;\n" +
+                        "|}")));
+
+        return createTypeDefinitionNode(null, createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD), createIdentifierToken(CodeGeneratorConstants.BATCH_OPERATION_TYPE_NAME),
+                typeDescriptorNode, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generates `BatchResponse` type, which is the result of a single operation of a batched request.
+     * <pre>
+     *     public type BatchResponse record {| anydata...; |}|graphql:ClientError;
+     * </pre>
+     *
+     * @return          the `BatchResponse` type definition node
+     */
+    private TypeDefinitionNode getBatchResponseTypeDefinitionNode() {
+        TypeDescriptorNode typeDescriptorNode = createSingletonTypeDescriptorNode(
+                createSimpleNameReferenceNode(createIdentifierToken("record {| anydata...; |}|graphql:ClientError")));
+
+        return createTypeDefinitionNode(null, createToken(PUBLIC_KEYWORD),
+                createToken(TYPE_KEYWORD), createIdentifierToken(CodeGeneratorConstants.BATCH_RESPONSE_TYPE_NAME),
+                typeDescriptorNode, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Gets the function, class, type and constant definitions of the utils.bal template. The template is parsed into
+     * a syntax tree only once per JVM and the nodes are reused afterwards, as syntax tree nodes are immutable.
      *
-     * @return                  Path to utils.bal file in the temporary directory created
+     * @return                  the definition nodes of the utils.bal template mapped by their names
      * @throws  IOException     When failed to get the templates/utils.bal file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_graphql.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    log.error("Unable to delete the temporary directory : " + tmpDir, ex);
+    private static Map<String, ModuleMemberDeclarationNode> getTemplateMembers() throws IOException {
+        Map<String, ModuleMemberDeclarationNode> members = templateMembers;
+        if (members == null) {
+            members = loadTemplateMembers();
+        }
+        return members;
+    }
+
+    /**
+     * Parses the utils.bal template and caches its function, class, type and constant definitions. Only the first
+     * generation of the JVM acquires the lock, later generations read the published map without any synchronization.
+     *
+     * @return                  the definition nodes of the utils.bal template mapped by their names
+     * @throws  IOException     When failed to get the templates/utils.bal file from resources
+     */
+    private static synchronized Map<String, ModuleMemberDeclarationNode> loadTemplateMembers() throws IOException {
+        if (templateMembers == null) {
+            SyntaxTree utilSyntaxTree = SyntaxTree.from(TextDocuments.from(getTemplateContent()));
+            ModulePartNode utilModulePartNode = utilSyntaxTree.rootNode();
+            Map<String, ModuleMemberDeclarationNode> members = new HashMap<>();
+            for (ModuleMemberDeclarationNode node : utilModulePartNode.members()) {
+                String nameField = getNameField(node.kind());
+                if (nameField == null) {
+                    continue;
+                }
+                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
+                    if (childNodeEntry.name().equals(nameField) && childNodeEntry.node().isPresent()) {
+                        members.put(childNodeEntry.node().get().toString().trim(), node);
+                    }
                 }
-            }));
+            }
+            templateMembers = Collections.unmodifiableMap(members);
+        }
+        return templateMembers;
+    }
+
+    /**
+     * Gets the name of the child node which holds the name of a given kind of module member.
+     *
+     * @param kind              the kind of the module member
+     * @return                  the name of the child node, or `null` if the kind of module member is not extracted
+     */
+    private static String getNameField(SyntaxKind kind) {
+        switch (kind) {
+            case FUNCTION_DEFINITION:
+                return FUNCTION_NAME;
+            case CLASS_DEFINITION:
+                return CLASS_NAME;
+            case TYPE_DEFINITION:
+                return TYPE_NAME;
+            case CONST_DECLARATION:
+                return VARIABLE_NAME;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets the content of the utils.bal template from the resources.
+     *
+     * @return                  the content of the utils.bal template
+     * @throws  IOException     When failed to get the templates/utils.bal file from resources
+     */
+    private static String getTemplateContent() throws IOException {
+        ClassLoader classLoader = UtilsGenerator.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(UTILS_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the utils template : " + UTILS_TEMPLATE);
+            }
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
         }
-        return path;
     }
 }
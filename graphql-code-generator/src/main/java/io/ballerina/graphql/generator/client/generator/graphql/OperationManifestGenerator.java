@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql;
+
+import io.ballerina.graphql.generator.client.QueryDocumentRegistry;
+import io.ballerina.graphql.generator.client.exception.ClientGenerationException;
+import io.ballerina.graphql.generator.client.generator.graphql.components.ExtendedOperationDefinition;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This class is used to generate the persisted operation manifest, which maps the SHA-256 hash of each operation to
+ * the compact query text sent by the generated client. The operations are ordered by the hash and the layout of the
+ * JSON content is fixed, so that the same documents always give a byte identical manifest.
+ */
+public class OperationManifestGenerator {
+    private static final String NEW_LINE = "\n";
+    private static final String INDENTATION = "  ";
+    private static final OperationManifestGenerator operationManifestGenerator = new OperationManifestGenerator();
+
+    public static OperationManifestGenerator getInstance() {
+        return operationManifestGenerator;
+    }
+
+    /**
+     * Generates the persisted operation manifest content.
+     *
+     * @param queryDocuments                    the list of names of the query documents
+     * @param documentRegistry                  the registry of the parsed query documents
+     * @return                                  the persisted operation manifest content
+     * @throws ClientGenerationException        when a query document cannot be read
+     */
+    public String generateSrc(List<String> queryDocuments, QueryDocumentRegistry documentRegistry)
+            throws ClientGenerationException {
+        Map<String, String> operations = new TreeMap<>();
+        try {
+            for (String document : queryDocuments) {
+                QueryReader queryReader = documentRegistry.getQueryReader(document);
+                for (ExtendedOperationDefinition queryDefinition : queryReader.getExtendedOperationDefinitions()) {
+                    String queryString = queryDefinition.getQueryString();
+                    operations.put(CodeGeneratorUtils.getSha256Hash(queryString), queryString);
+                }
+            }
+        } catch (IOException e) {
+            throw new ClientGenerationException(e.getMessage(), e);
+        }
+
+        StringBuilder manifest = new StringBuilder("{");
+        String separator = NEW_LINE;
+        for (Map.Entry<String, String> operation : operations.entrySet()) {
+            manifest.append(separator).append(INDENTATION).append(JSONObject.quote(operation.getKey()))
+                    .append(": ").append(JSONObject.quote(operation.getValue()));
+            separator = "," + NEW_LINE;
+        }
+        if (!operations.isEmpty()) {
+            manifest.append(NEW_LINE);
+        }
+        return manifest.append("}").append(NEW_LINE).toString();
+    }
+}
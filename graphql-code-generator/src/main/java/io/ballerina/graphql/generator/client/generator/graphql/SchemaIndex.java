@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql;
+
+import graphql.schema.GraphQLEnumType;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLInputObjectField;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLScalarType;
+import graphql.schema.GraphQLSchema;
+import io.ballerina.graphql.generator.client.generator.model.FieldType;
+import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.DOUBLE_UNDERSCORE;
+
+/**
+ * This class represents an index of the types of a GraphQL schema (SDL). The index is built with a single pass over
+ * the types of the schema, and answers the type lookups of the schema reader and the generators in constant time.
+ */
+public class SchemaIndex {
+    private static final int OBJECT_TYPE_FIELDS_CACHE_SIZE = 1024;
+    private static final Map<GraphQLSchema, SchemaIndex> schemaIndexes =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<String> inputObjectTypeNames = new ArrayList<>();
+    private final List<String> objectTypeNames = new ArrayList<>();
+    private final List<String> customScalarTypeNames = new ArrayList<>();
+    private final List<String> enumTypeNames = new ArrayList<>();
+    private final Set<String> inputObjectTypeNameSet = new HashSet<>();
+    private final Set<String> objectTypeNameSet = new HashSet<>();
+    private final Set<String> customScalarTypeNameSet = new HashSet<>();
+    private final Set<String> enumTypeNameSet = new HashSet<>();
+    private final Map<String, Map<String, FieldType>> inputTypeFieldsMaps = new HashMap<>();
+    private final Map<String, Map<String, FieldType>> objectTypeFieldsMaps =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, FieldType>> eldest) {
+                    return size() > OBJECT_TYPE_FIELDS_CACHE_SIZE;
+                }
+            });
+
+    private SchemaIndex(GraphQLSchema graphQLSchema) {
+        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
+            String typeName = graphQLNamedType.getName();
+            if (graphQLNamedType instanceof GraphQLInputObjectType) {
+                inputObjectTypeNames.add(typeName);
+                inputObjectTypeNameSet.add(typeName);
+            } else if (!typeName.startsWith(DOUBLE_UNDERSCORE)) {
+                if (graphQLNamedType instanceof GraphQLObjectType) {
+                    objectTypeNames.add(typeName);
+                    objectTypeNameSet.add(typeName);
+                } else if (graphQLNamedType instanceof GraphQLScalarType && !Utils.isPrimitiveScalarType(typeName)) {
+                    customScalarTypeNames.add(typeName);
+                    customScalarTypeNameSet.add(typeName);
+                } else if (graphQLNamedType instanceof GraphQLEnumType) {
+                    enumTypeNames.add(typeName);
+                    enumTypeNameSet.add(typeName);
+                }
+            }
+        }
+        // The field types are resolved only after all the type names are indexed, as resolving a field type looks
+        // up the kind of the referred type in this index.
+        for (String inputObjectTypeName : inputObjectTypeNames) {
+            GraphQLInputObjectType inputObjectType =
+                    (GraphQLInputObjectType) graphQLSchema.getType(inputObjectTypeName);
+            Map<String, FieldType> inputTypeFieldsMap = new HashMap<>();
+            for (GraphQLInputObjectField field : inputObjectType.getFields()) {
+                inputTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
+                        Utils.getFieldType(this, field.getDefinition().getType()));
+            }
+            inputTypeFieldsMaps.put(inputObjectTypeName, Collections.unmodifiableMap(inputTypeFieldsMap));
+        }
+    }
+
+    /**
+     * Gets the index of a given GraphQL schema. The index is built on the first request and reused for the
+     * following requests of the same schema instance, as long as the schema is reachable.
+     *
+     * @param graphQLSchema         the instance of the Graphql schema file
+     * @return                      the index of the given GraphQL schema
+     */
+    public static SchemaIndex of(GraphQLSchema graphQLSchema) {
+        SchemaIndex schemaIndex = schemaIndexes.get(graphQLSchema);
+        if (schemaIndex == null) {
+            schemaIndex = new SchemaIndex(graphQLSchema);
+            schemaIndexes.put(graphQLSchema, schemaIndex);
+        }
+        return schemaIndex;
+    }
+
+    public List<String> getInputObjectTypeNames() {
+        return Collections.unmodifiableList(inputObjectTypeNames);
+    }
+
+    public List<String> getObjectTypeNames() {
+        return Collections.unmodifiableList(objectTypeNames);
+    }
+
+    public List<String> getCustomScalarTypeNames() {
+        return Collections.unmodifiableList(customScalarTypeNames);
+    }
+
+    public List<String> getEnumTypeNames() {
+        return Collections.unmodifiableList(enumTypeNames);
+    }
+
+    public boolean isInputObjectType(String typeName) {
+        return inputObjectTypeNameSet.contains(typeName);
+    }
+
+    public boolean isObjectType(String typeName) {
+        return objectTypeNameSet.contains(typeName);
+    }
+
+    public boolean isCustomScalarType(String typeName) {
+        return customScalarTypeNameSet.contains(typeName);
+    }
+
+    public boolean isEnumType(String typeName) {
+        return enumTypeNameSet.contains(typeName);
+    }
+
+    /**
+     * Gets the input object type fields map of a given input object type name.
+     *
+     * @param inputObjectTypeName   the input object type name
+     * @return                      the unmodifiable input object type fields map, or an empty map if the schema does
+     *                              not have an input object type with the given name
+     */
+    public Map<String, FieldType> getInputTypeFieldsMap(String inputObjectTypeName) {
+        return inputTypeFieldsMaps.getOrDefault(inputObjectTypeName, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the names of the input object types reachable from the given type names, i.e. the given input object
+     * types and the input object types referred by their fields, transitively. The type names which are not input
+     * object types are ignored.
+     *
+     * @param typeNames             the type names to start the traversal from
+     * @return                      the unmodifiable list of the reachable input object type names, in the order of
+     *                              the schema
+     */
+    public List<String> getReachableInputObjectTypeNames(Collection<String> typeNames) {
+        Set<String> reachableTypeNames = new HashSet<>();
+        Deque<String> pendingTypeNames = new ArrayDeque<>(typeNames);
+        while (!pendingTypeNames.isEmpty()) {
+            String typeName = pendingTypeNames.pop();
+            if (!isInputObjectType(typeName) || !reachableTypeNames.add(typeName)) {
+                continue;
+            }
+            for (FieldType fieldType : getInputTypeFieldsMap(typeName).values()) {
+                pendingTypeNames.push(fieldType.getName());
+            }
+        }
+        List<String> reachableInputObjectTypeNames = new ArrayList<>();
+        for (String inputObjectTypeName : inputObjectTypeNames) {
+            if (reachableTypeNames.contains(inputObjectTypeName)) {
+                reachableInputObjectTypeNames.add(inputObjectTypeName);
+            }
+        }
+        return Collections.unmodifiableList(reachableInputObjectTypeNames);
+    }
+
+    /**
+     * Gets the object type fields map of a given object type name. The fields maps are memoised in a cache bounded
+     * to the most recently used object types, so that the selections of the same type do not derive the field types
+     * again. The schema is passed in by the caller instead of being held by the index, so that the index does not
+     * keep its own schema reachable.
+     *
+     * @param graphQLSchema         the instance of the Graphql schema file this index was built for
+     * @param objectTypeName        the object type name
+     * @return                      the unmodifiable object type fields map, or an empty map if the schema does not
+     *                              have an object type with the given name
+     */
+    Map<String, FieldType> getObjectTypeFieldsMap(GraphQLSchema graphQLSchema, String objectTypeName) {
+        Map<String, FieldType> objectTypeFieldsMap = objectTypeFieldsMaps.get(objectTypeName);
+        if (objectTypeFieldsMap == null) {
+            objectTypeFieldsMap = createObjectTypeFieldsMap(graphQLSchema, objectTypeName);
+            objectTypeFieldsMaps.put(objectTypeName, objectTypeFieldsMap);
+        }
+        return objectTypeFieldsMap;
+    }
+
+    private Map<String, FieldType> createObjectTypeFieldsMap(GraphQLSchema graphQLSchema, String objectTypeName) {
+        if (!(graphQLSchema.getType(objectTypeName) instanceof GraphQLObjectType)) {
+            return Collections.emptyMap();
+        }
+        GraphQLObjectType objectType = (GraphQLObjectType) graphQLSchema.getType(objectTypeName);
+        Map<String, FieldType> objectTypeFieldsMap = new HashMap<>();
+        for (GraphQLFieldDefinition field : objectType.getFields()) {
+            objectTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
+                    Utils.getFieldType(this, field.getDefinition().getType()));
+        }
+        return Collections.unmodifiableMap(objectTypeFieldsMap);
+    }
+}
@@ -18,19 +18,10 @@
 
 package io.ballerina.graphql.generator.client.generator.graphql;
 
-import graphql.schema.GraphQLEnumType;
-import graphql.schema.GraphQLFieldDefinition;
-import graphql.schema.GraphQLInputObjectField;
-import graphql.schema.GraphQLInputObjectType;
-import graphql.schema.GraphQLNamedType;
-import graphql.schema.GraphQLObjectType;
-import graphql.schema.GraphQLScalarType;
 import graphql.schema.GraphQLSchema;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
-import io.ballerina.graphql.generator.utils.CodeGeneratorUtils;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -43,16 +34,22 @@ public class SpecReader {
      * Get the input object type names from the GraphQL schema.
      *
      * @param graphQLSchema         the instance of the Graphql schema file
-     * @return                      the list of the input object type names
+     * @return                      the unmodifiable list of the input object type names
      */
     public static List<String> getInputObjectTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> inputObjectTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLInputObjectType) {
-                inputObjectTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return inputObjectTypeNames;
+        return SchemaIndex.of(graphQLSchema).getInputObjectTypeNames();
+    }
+
+    /**
+     * Get the names of the input object types reachable from the given type names from the GraphQL schema.
+     *
+     * @param graphQLSchema         the instance of the Graphql schema file
+     * @param typeNames             the type names to start the traversal from
+     * @return                      the unmodifiable list of the reachable input object type names
+     */
+    public static List<String> getReachableInputObjectTypeNames(GraphQLSchema graphQLSchema,
+                                                                Collection<String> typeNames) {
+        return SchemaIndex.of(graphQLSchema).getReachableInputObjectTypeNames(typeNames);
     }
 
     /**
@@ -60,38 +57,21 @@ public class SpecReader {
      *
      * @param graphQLSchema         the instance of the Graphql schema file
      * @param inputObjectTypeName   the input object type name
-     * @return                      the input object type fields map
+     * @return                      the unmodifiable input object type fields map
      */
     public static Map<String, FieldType> getInputTypeFieldsMap(GraphQLSchema graphQLSchema,
                                                                String inputObjectTypeName) {
-        Map<String, FieldType> inputTypeFieldsMap = new HashMap<>();
-        if (graphQLSchema.getType(inputObjectTypeName) instanceof GraphQLInputObjectType) {
-            GraphQLInputObjectType inputObjectType =
-                    ((GraphQLInputObjectType) graphQLSchema.getType(inputObjectTypeName));
-            if (inputObjectType != null) {
-                for (GraphQLInputObjectField field : inputObjectType.getFields()) {
-                    inputTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
-                            Utils.getFieldType(graphQLSchema, field.getDefinition().getType()));
-                }
-            }
-        }
-        return inputTypeFieldsMap;
+        return SchemaIndex.of(graphQLSchema).getInputTypeFieldsMap(inputObjectTypeName);
     }
 
     /**
      * Get the object type names from the GraphQL schema.
      *
      * @param graphQLSchema         the instance of the Graphql schema file
-     * @return                      the list of the object type names
+     * @return                      the unmodifiable list of the object type names
      */
     public static List<String> getObjectTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> objectTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLObjectType && !graphQLNamedType.getName().startsWith("__")) {
-                objectTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return objectTypeNames;
+        return SchemaIndex.of(graphQLSchema).getObjectTypeNames();
     }
 
     /**
@@ -99,53 +79,29 @@ public class SpecReader {
      *
      * @param graphQLSchema         the instance of the Graphql schema file
      * @param objectTypeName        the object type name
-     * @return                      the object type fields map
+     * @return                      the unmodifiable object type fields map
      */
     public static Map<String, FieldType> getObjectTypeFieldsMap(GraphQLSchema graphQLSchema, String objectTypeName) {
-        Map<String, FieldType> objectTypeFieldsMap = new HashMap<>();
-        if (graphQLSchema.getType(objectTypeName) instanceof GraphQLObjectType) {
-            GraphQLObjectType objectType =
-                    ((GraphQLObjectType) graphQLSchema.getType(objectTypeName));
-            if (objectType != null) {
-                for (GraphQLFieldDefinition field : objectType.getFields()) {
-                    objectTypeFieldsMap.put(CodeGeneratorUtils.escapeIdentifier(field.getName()),
-                            Utils.getFieldType(graphQLSchema, field.getDefinition().getType()));
-                }
-            }
-        }
-        return objectTypeFieldsMap;
+        return SchemaIndex.of(graphQLSchema).getObjectTypeFieldsMap(graphQLSchema, objectTypeName);
     }
 
     /**
      * Get the custom scalar type names from the GraphQL schema.
      *
      * @param graphQLSchema         the instance of the Graphql schema file
-     * @return                      the list of the custom scalar type names
+     * @return                      the unmodifiable list of the custom scalar type names
      */
     public static List<String> getCustomScalarTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> scalarTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLScalarType && !graphQLNamedType.getName().startsWith("__")
-                    && !Utils.isPrimitiveScalarType(graphQLNamedType.getName())) {
-                scalarTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return scalarTypeNames;
+        return SchemaIndex.of(graphQLSchema).getCustomScalarTypeNames();
     }
 
     /**
      * Get the enum type names from the GraphQL schema.
      *
      * @param graphQLSchema         the instance of the Graphql schema file
-     * @return                      the list of the enum type names
+     * @return                      the unmodifiable list of the enum type names
      */
     public static List<String> getEnumTypeNames(GraphQLSchema graphQLSchema) {
-        List<String> enumTypeNames = new ArrayList<>();
-        for (GraphQLNamedType graphQLNamedType : graphQLSchema.getAllTypesAsList()) {
-            if (graphQLNamedType instanceof GraphQLEnumType && !graphQLNamedType.getName().startsWith("__")) {
-                enumTypeNames.add(graphQLNamedType.getName());
-            }
-        }
-        return enumTypeNames;
+        return SchemaIndex.of(graphQLSchema).getEnumTypeNames();
     }
 }
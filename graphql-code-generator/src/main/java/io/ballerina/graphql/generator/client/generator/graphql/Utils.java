@@ -49,10 +49,21 @@ public class Utils {
      * @return                  the Ballerina type name for a given GraphQL scalar type name
      */
     public static String getBallerinaTypeName(GraphQLSchema graphQLSchema, String graphqlTypeName) {
+        return getBallerinaTypeName(SchemaIndex.of(graphQLSchema), graphqlTypeName);
+    }
+
+    /**
+     * Gets the Ballerina type name for a given GraphQL type name using the index of the GraphQL schema.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param graphqlTypeName   the GraphQL scalar type name
+     * @return                  the Ballerina type name for a given GraphQL scalar type name
+     */
+    static String getBallerinaTypeName(SchemaIndex schemaIndex, String graphqlTypeName) {
         String ballerinaTypeName;
-        if (isCustomScalarType(graphQLSchema, graphqlTypeName)) {
+        if (schemaIndex.isCustomScalarType(graphqlTypeName)) {
             ballerinaTypeName = BALLERINA_ANYDATA_TYPE;
-        } else if (isEnumType(graphQLSchema, graphqlTypeName)) {
+        } else if (schemaIndex.isEnumType(graphqlTypeName)) {
             ballerinaTypeName = BALLERINA_STRING_TYPE;
         } else {
             switch (graphqlTypeName) {
@@ -84,27 +95,39 @@ public class Utils {
      * @return                  the string representation of Ballerina type for a given GraphQL field type
      */
     public static FieldType getFieldType(GraphQLSchema graphQLSchema, Type<?> type) {
+        return getFieldType(SchemaIndex.of(graphQLSchema), type);
+    }
+
+    /**
+     * Gets the representation of Ballerina field type for a given GraphQL field type using the index of the GraphQL
+     * schema.
+     *
+     * @param schemaIndex       the index of the GraphQL schema (SDL)
+     * @param type              the field type
+     * @return                  the string representation of Ballerina type for a given GraphQL field type
+     */
+    static FieldType getFieldType(SchemaIndex schemaIndex, Type<?> type) {
         FieldType fieldType = new FieldType();
         if (type instanceof TypeName) {
-            fieldType.setName(getBallerinaTypeName(graphQLSchema, ((TypeName) type).getName()));
+            fieldType.setName(getBallerinaTypeName(schemaIndex, ((TypeName) type).getName()));
             fieldType.setTokens("?");
         }
         if (type instanceof NonNullType) {
             if (((NonNullType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
+                fieldType.setName(getBallerinaTypeName(schemaIndex,
                         ((TypeName) ((NonNullType) type).getType()).getName()));
                 fieldType.setTokens("");
             }
             if (((NonNullType) type).getType() instanceof ListType) {
                 if (((ListType) ((NonNullType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
+                    fieldType.setName(getBallerinaTypeName(schemaIndex,
                             ((TypeName) ((ListType) ((NonNullType) type).getType()).getType()).getName()));
                     fieldType.setTokens("?[]");
                 }
                 if (((ListType) ((NonNullType) type).getType()).getType() instanceof NonNullType) {
                     if (((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
                             .getType() instanceof TypeName) {
-                        fieldType.setName(getBallerinaTypeName(graphQLSchema,
+                        fieldType.setName(getBallerinaTypeName(schemaIndex,
                                 ((TypeName) ((NonNullType) ((ListType) ((NonNullType) type).getType()).getType())
                                         .getType()).getName()));
                         fieldType.setTokens("[]");
@@ -114,13 +137,13 @@ public class Utils {
         }
         if (type instanceof ListType) {
             if (((ListType) type).getType() instanceof TypeName) {
-                fieldType.setName(getBallerinaTypeName(graphQLSchema,
+                fieldType.setName(getBallerinaTypeName(schemaIndex,
                         ((TypeName) ((ListType) type).getType()).getName()));
                 fieldType.setTokens("?[]?");
             }
             if (((ListType) type).getType() instanceof NonNullType) {
                 if (((NonNullType) ((ListType) type).getType()).getType() instanceof TypeName) {
-                    fieldType.setName(getBallerinaTypeName(graphQLSchema,
+                    fieldType.setName(getBallerinaTypeName(schemaIndex,
                             ((TypeName) ((NonNullType) ((ListType) type).getType()).getType()).getName()));
                     fieldType.setTokens("[]?");
                 }
@@ -159,7 +182,7 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isCustomScalarType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getCustomScalarTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.of(graphQLSchema).isCustomScalarType(graphqlTypeName);
     }
 
     /**
@@ -170,6 +193,6 @@ public class Utils {
      * @return                  whether a given GraphQL scalar type name is a primitive scalar type
      */
     public static Boolean isEnumType(GraphQLSchema graphQLSchema, String graphqlTypeName) {
-        return SpecReader.getEnumTypeNames(graphQLSchema).contains(graphqlTypeName);
+        return SchemaIndex.of(graphQLSchema).isEnumType(graphqlTypeName);
     }
 }
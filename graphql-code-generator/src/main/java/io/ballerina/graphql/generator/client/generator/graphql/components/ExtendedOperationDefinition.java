@@ -51,6 +51,15 @@ public class ExtendedOperationDefinition {
         return this.definition.getOperation().name();
     }
 
+    /**
+     * Returns `true` if the operation is a subscription, which is sent over WebSocket instead of HTTP.
+     *
+     * @return {@link boolean}    whether the operation is a subscription
+     */
+    public boolean isSubscription() {
+        return this.definition.getOperation() == OperationDefinition.Operation.SUBSCRIPTION;
+    }
+
     public String getName() {
         return this.definition.getName();
     }
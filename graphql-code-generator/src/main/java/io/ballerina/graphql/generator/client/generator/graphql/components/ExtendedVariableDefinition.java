@@ -21,6 +21,7 @@ package io.ballerina.graphql.generator.client.generator.graphql.components;
 import graphql.language.NonNullType;
 import graphql.language.TypeName;
 import graphql.language.VariableDefinition;
+import graphql.schema.idl.TypeUtil;
 
 import java.util.List;
 
@@ -49,6 +50,15 @@ public class ExtendedVariableDefinition {
         return null;
     }
 
+    /**
+     * Gets the name of the named type of the variable, unwrapping the non-null and the list types.
+     *
+     * @return the name of the named type of the variable
+     */
+    public String getTypeName() {
+        return TypeUtil.unwrapAll(this.definition.getType()).getName();
+    }
+
     public Object getDefaultValue() {
         return this.definition.getDefaultValue();
     }
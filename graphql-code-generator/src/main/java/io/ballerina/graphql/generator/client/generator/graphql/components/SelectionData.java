@@ -1,12 +1,10 @@
 package io.ballerina.graphql.generator.client.generator.graphql.components;
 
 import graphql.schema.GraphQLSchema;
-import io.ballerina.compiler.syntax.tree.Node;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.graphql.generator.client.generator.ballerina.RecordBuilder;
 import io.ballerina.graphql.generator.client.generator.graphql.QueryReader;
 import io.ballerina.graphql.generator.client.generator.model.FieldType;
 
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,20 +15,20 @@ public class SelectionData {
     private Map<String, FieldType> fieldsOfSelectionType;
     private GraphQLSchema schema;
     private QueryReader queryReader;
-    private List<Node> fieldsOfInlineRecord;
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private RecordBuilder recordBuilder;
     private Map<String, String> fragmentRecordsMap;
+    private SharedRecordTypes sharedRecordTypes;
 
     public SelectionData(String selectionType, Map<String, FieldType> fieldsOfSelectionType, GraphQLSchema schema,
-                         QueryReader queryReader, List<Node> fieldsOfInlineRecord, List<TypeDefinitionNode>
-                                 typeDefinitionNodeList, Map<String, String> fragmentRecordsMap) {
+                         QueryReader queryReader, RecordBuilder recordBuilder, Map<String, String> fragmentRecordsMap,
+                         SharedRecordTypes sharedRecordTypes) {
         this.selectionType = selectionType;
         this.fieldsOfSelectionType = fieldsOfSelectionType;
         this.schema = schema;
         this.queryReader = queryReader;
-        this.fieldsOfInlineRecord = fieldsOfInlineRecord;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.recordBuilder = recordBuilder;
         this.fragmentRecordsMap = fragmentRecordsMap;
+        this.sharedRecordTypes = sharedRecordTypes;
     }
 
     public String getSelectionType() {
@@ -49,15 +47,20 @@ public class SelectionData {
         return queryReader;
     }
 
-    public List<Node> getFieldsOfInlineRecord() {
-        return fieldsOfInlineRecord;
-    }
-
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
-        return typeDefinitionNodeList;
+    public RecordBuilder getRecordBuilder() {
+        return recordBuilder;
     }
 
     public Map<String, String> getFragmentRecordsMap() {
         return fragmentRecordsMap;
     }
+
+    /**
+     * Gets the named record types of the selection shapes.
+     *
+     * @return the named record types, or `null` if the selections are generated as inline records
+     */
+    public SharedRecordTypes getSharedRecordTypes() {
+        return sharedRecordTypes;
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.graphql.components;
+
+import graphql.language.Field;
+import graphql.language.FragmentSpread;
+import graphql.language.InlineFragment;
+import graphql.language.Selection;
+import graphql.language.SelectionSet;
+import graphql.schema.GraphQLSchema;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class keeps the named record types generated for the selection shapes of a single types generation, so that
+ * the selections with the same shape refer to a single named record type instead of repeating an inline record.
+ */
+public class SharedRecordTypes {
+    private static final String SELECTION = "Selection";
+
+    private final GraphQLSchema schema;
+    private final Map<String, String> recordTypeNames = new HashMap<>();
+    private final Set<String> usedRecordTypeNames = new HashSet<>();
+
+    public SharedRecordTypes(GraphQLSchema schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * Gets the shape of a selection set of a given type. Two selections with the same shape generate the same record,
+     * as the fields of the record are derived only from the selection type, the field names and the fragments.
+     *
+     * @param selectionType     the name of the type the selection set is made on
+     * @param selectionSet      the selection set
+     * @return                  the shape of the selection set
+     */
+    public static String getShape(String selectionType, SelectionSet selectionSet) {
+        StringBuilder shape = new StringBuilder(selectionType);
+        appendShape(selectionSet, shape);
+        return shape.toString();
+    }
+
+    private static void appendShape(SelectionSet selectionSet, StringBuilder shape) {
+        shape.append('{');
+        for (Selection selection : selectionSet.getSelections()) {
+            if (selection instanceof FragmentSpread) {
+                shape.append("...").append(((FragmentSpread) selection).getName()).append(' ');
+            } else if (selection instanceof InlineFragment) {
+                // The fields of an inline fragment are generated as the fields of the enclosing record
+                appendShape(((InlineFragment) selection).getSelectionSet(), shape);
+            } else {
+                Field field = (Field) selection;
+                shape.append(field.getName());
+                if (field.getSelectionSet() != null) {
+                    appendShape(field.getSelectionSet(), shape);
+                }
+                shape.append(' ');
+            }
+        }
+        shape.append('}');
+    }
+
+    /**
+     * Gets the name of the record type generated for a given selection shape.
+     *
+     * @param shape     the selection shape
+     * @return          the name of the record type, or `null` if no record type is generated for the shape yet
+     */
+    public String getRecordTypeName(String shape) {
+        return recordTypeNames.get(shape);
+    }
+
+    /**
+     * Adds a new record type for a given selection shape. The record type is named after the selection type, with a
+     * numeric suffix for the second and the following shapes of the same type.
+     * -- ex: The shapes of the `Country` type are named `CountrySelection`, `CountrySelection2` and so on
+     *
+     * @param selectionType     the name of the type the selection set is made on
+     * @param shape             the selection shape
+     * @return                  the name of the new record type
+     */
+    public String addRecordType(String selectionType, String shape) {
+        String baseName = selectionType + SELECTION;
+        String recordTypeName = baseName;
+        int suffix = 2;
+        while (usedRecordTypeNames.contains(recordTypeName) || schema.getType(recordTypeName) != null) {
+            recordTypeName = baseName + suffix++;
+        }
+        usedRecordTypeNames.add(recordTypeName);
+        recordTypeNames.put(shape, recordTypeName);
+        return recordTypeName;
+    }
+}
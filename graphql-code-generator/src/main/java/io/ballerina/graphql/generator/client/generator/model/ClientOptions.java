@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.generator.model;
+
+/**
+ * Model class representing the optional features of a generated client.
+ */
+public class ClientOptions {
+    private boolean typedBinding = false;
+    private boolean persistedQueries = false;
+    private boolean batching = false;
+    private boolean responseCache = false;
+    private boolean pruneUnusedTypes = false;
+    private boolean deduplicateRecords = false;
+    private int typesShardSize = 0;
+    private boolean shardTypesByDocument = false;
+    private boolean subscriptions = false;
+    private boolean omitUnsetVariables = false;
+
+    /**
+     * Returns `true` if the responses are bound to the response types in the GraphQL client.
+     *
+     * @return {@link boolean}    value of the flag typedBinding
+     */
+    public boolean isTypedBinding() {
+        return typedBinding;
+    }
+
+    public void setTypedBinding(boolean typedBinding) {
+        this.typedBinding = typedBinding;
+    }
+
+    /**
+     * Returns `true` if the operations are sent as automatic persisted queries.
+     *
+     * @return {@link boolean}    value of the flag persistedQueries
+     */
+    public boolean isPersistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    /**
+     * Returns `true` if the client provides the API to send several operations as a single batched request.
+     *
+     * @return {@link boolean}    value of the flag batching
+     */
+    public boolean isBatching() {
+        return batching;
+    }
+
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    /**
+     * Returns `true` if the client caches the responses of the queries in memory.
+     *
+     * @return {@link boolean}    value of the flag responseCache
+     */
+    public boolean isResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(boolean responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Returns `true` if only the input types referred by the operations are generated.
+     *
+     * @return {@link boolean}    value of the flag pruneUnusedTypes
+     */
+    public boolean isPruneUnusedTypes() {
+        return pruneUnusedTypes;
+    }
+
+    public void setPruneUnusedTypes(boolean pruneUnusedTypes) {
+        this.pruneUnusedTypes = pruneUnusedTypes;
+    }
+
+    /**
+     * Returns `true` if a named record is generated for each selection shape instead of the inline records.
+     *
+     * @return {@link boolean}    value of the flag deduplicateRecords
+     */
+    public boolean isDeduplicateRecords() {
+        return deduplicateRecords;
+    }
+
+    public void setDeduplicateRecords(boolean deduplicateRecords) {
+        this.deduplicateRecords = deduplicateRecords;
+    }
+
+    /**
+     * Returns the maximum number of operations whose response records are generated in a single types file, or `0`
+     * if the response records are not split by the number of operations.
+     *
+     * @return {@link int}    value of the typesShardSize
+     */
+    public int getTypesShardSize() {
+        return typesShardSize;
+    }
+
+    public void setTypesShardSize(int typesShardSize) {
+        this.typesShardSize = typesShardSize;
+    }
+
+    /**
+     * Returns `true` if the response records of each document are generated in a separate types file.
+     *
+     * @return {@link boolean}    value of the flag shardTypesByDocument
+     */
+    public boolean isShardTypesByDocument() {
+        return shardTypesByDocument;
+    }
+
+    public void setShardTypesByDocument(boolean shardTypesByDocument) {
+        this.shardTypesByDocument = shardTypesByDocument;
+    }
+
+    /**
+     * Returns `true` if the documents have subscription operations, which are sent over WebSocket and return a stream
+     * of responses.
+     *
+     * @return {@link boolean}    value of the flag subscriptions
+     */
+    public boolean isSubscriptions() {
+        return subscriptions;
+    }
+
+    public void setSubscriptions(boolean subscriptions) {
+        this.subscriptions = subscriptions;
+    }
+
+    /**
+     * Returns `true` if the optional variables which are not set are left out of the variables of the operations,
+     * instead of being sent as `null`.
+     *
+     * @return {@link boolean}    value of the flag omitUnsetVariables
+     */
+    public boolean isOmitUnsetVariables() {
+        return omitUnsetVariables;
+    }
+
+    public void setOmitUnsetVariables(boolean omitUnsetVariables) {
+        this.omitUnsetVariables = omitUnsetVariables;
+    }
+
+    /**
+     * Returns `true` if the response records are split into several types files.
+     *
+     * @return {@link boolean}    whether the types are sharded
+     */
+    public boolean isShardTypes() {
+        return typesShardSize > 0 || shardTypesByDocument;
+    }
+
+    /**
+     * Returns `true` if the client sends requests through an HTTP client along with the GraphQL client, as the
+     * persisted queries and the batched operations cannot be sent through the GraphQL client.
+     *
+     * @return {@link boolean}    whether the client requires an HTTP client
+     */
+    public boolean requiresHttpClient() {
+        return persistedQueries || batching;
+    }
+}
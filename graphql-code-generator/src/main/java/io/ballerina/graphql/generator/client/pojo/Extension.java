@@ -23,6 +23,15 @@ package io.ballerina.graphql.generator.client.pojo;
  */
 public class Extension {
     private Endpoints endpoints;
+    private Introspection introspection;
+    private boolean persistedQueries;
+    private boolean batching;
+    private boolean responseCache;
+    private boolean pruneUnusedTypes;
+    private boolean deduplicateRecords;
+    private int typesShardSize;
+    private boolean shardTypesByDocument;
+    private boolean omitUnsetVariables;
 
     public Endpoints getEndpoints() {
         return endpoints;
@@ -31,4 +40,76 @@ public class Extension {
     public void setEndpoints(Endpoints endpoints) {
         this.endpoints = endpoints;
     }
+
+    public Introspection getIntrospection() {
+        return introspection;
+    }
+
+    public void setIntrospection(Introspection introspection) {
+        this.introspection = introspection;
+    }
+
+    public boolean isPersistedQueries() {
+        return persistedQueries;
+    }
+
+    public void setPersistedQueries(boolean persistedQueries) {
+        this.persistedQueries = persistedQueries;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public boolean isResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(boolean responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public boolean isPruneUnusedTypes() {
+        return pruneUnusedTypes;
+    }
+
+    public void setPruneUnusedTypes(boolean pruneUnusedTypes) {
+        this.pruneUnusedTypes = pruneUnusedTypes;
+    }
+
+    public boolean isDeduplicateRecords() {
+        return deduplicateRecords;
+    }
+
+    public void setDeduplicateRecords(boolean deduplicateRecords) {
+        this.deduplicateRecords = deduplicateRecords;
+    }
+
+    public int getTypesShardSize() {
+        return typesShardSize;
+    }
+
+    public void setTypesShardSize(int typesShardSize) {
+        this.typesShardSize = typesShardSize;
+    }
+
+    public boolean isShardTypesByDocument() {
+        return shardTypesByDocument;
+    }
+
+    public void setShardTypesByDocument(boolean shardTypesByDocument) {
+        this.shardTypesByDocument = shardTypesByDocument;
+    }
+
+    public boolean isOmitUnsetVariables() {
+        return omitUnsetVariables;
+    }
+
+    public void setOmitUnsetVariables(boolean omitUnsetVariables) {
+        this.omitUnsetVariables = omitUnsetVariables;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.client.pojo;
+
+/**
+ * POJO class representing the introspection settings of a project in GraphQL config file.
+ */
+public class Introspection {
+    private int connectTimeout = 30;
+    private int requestTimeout = 120;
+    private int maxRetries = 2;
+    private int retryBackoff = 500;
+    private int maxRetryBackoff = 10000;
+    private boolean compression = true;
+
+    /**
+     * Returns the time (in seconds) to wait for a connection to the GraphQL API.
+     *
+     * @return {@link int}    value of the connectTimeout
+     */
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Returns the time (in seconds) to wait for the introspection response of the GraphQL API.
+     *
+     * @return {@link int}    value of the requestTimeout
+     */
+    public int getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(int requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns the number of times a failed introspection request is retried.
+     *
+     * @return {@link int}    value of the maxRetries
+     */
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Returns the time (in milliseconds) to wait before the first retry. The wait time is doubled for each of the
+     * following retries.
+     *
+     * @return {@link int}    value of the retryBackoff
+     */
+    public int getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(int retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * Returns the maximum time (in milliseconds) to wait before a retry.
+     *
+     * @return {@link int}    value of the maxRetryBackoff
+     */
+    public int getMaxRetryBackoff() {
+        return maxRetryBackoff;
+    }
+
+    public void setMaxRetryBackoff(int maxRetryBackoff) {
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * Returns `true` if the introspection response is requested with gzip or deflate compression.
+     *
+     * @return {@link boolean}    value of the flag compression
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+}
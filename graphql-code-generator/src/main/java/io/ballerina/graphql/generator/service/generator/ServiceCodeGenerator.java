@@ -19,7 +19,6 @@
 package io.ballerina.graphql.generator.service.generator;
 
 import graphql.schema.GraphQLSchema;
-import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
 import io.ballerina.graphql.generator.CodeGenerator;
 import io.ballerina.graphql.generator.CodeGeneratorConstants;
 import io.ballerina.graphql.generator.GraphqlProject;
@@ -36,9 +35,9 @@ import java.util.List;
  * Generates Ballerina code for service files.
  */
 public class ServiceCodeGenerator extends CodeGenerator {
-    private ServiceGenerator serviceGenerator;
-    private ServiceTypesGenerator serviceTypesGenerator;
-    private List<MethodDeclarationNode> serviceMethodDeclarations;
+    private final ServiceGenerator serviceGenerator;
+    private final ServiceTypesGenerator serviceTypesGenerator;
+    private boolean useRecordsForObjects;
 
     public ServiceCodeGenerator() {
         this.serviceGenerator = new ServiceGenerator();
@@ -59,40 +58,34 @@ public class ServiceCodeGenerator extends CodeGenerator {
 
     public List<SrcFilePojo> generateBalSources(GraphqlProject project) throws ServiceGenerationException {
         String projectName = project.getName();
-        String fileName = project.getFileName();
         GraphQLSchema graphQLSchema = project.getGraphQLSchema();
+        ServiceGenerationContext context =
+                new ServiceGenerationContext(project.getFileName(), this.useRecordsForObjects);
 
         List<SrcFilePojo> sourceFiles = new ArrayList<>();
-        generateServiceTypes(projectName, fileName, graphQLSchema, sourceFiles);
-        generateServices(projectName, fileName, sourceFiles);
+        generateServiceTypes(projectName, graphQLSchema, context, sourceFiles);
+        generateServices(projectName, context, sourceFiles);
         return sourceFiles;
     }
 
-    private void generateServices(String projectName, String fileName, List<SrcFilePojo> sourceFiles)
-            throws ServiceGenerationException {
-        this.serviceGenerator.setFileName(fileName);
-        this.serviceGenerator.setMethodDeclarations(this.serviceMethodDeclarations);
-        String serviceSrc = this.serviceGenerator.generateSrc();
+    private void generateServices(String projectName, ServiceGenerationContext context,
+                                  List<SrcFilePojo> sourceFiles) throws ServiceGenerationException {
+        String serviceSrc = this.serviceGenerator.generateSrc(context);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.GEN_SRC, projectName, CodeGeneratorConstants.SERVICE_FILE_NAME,
                         serviceSrc));
     }
 
-    private void generateServiceTypes(String projectName, String fileName, GraphQLSchema graphQLSchema,
-                                      List<SrcFilePojo> sourceFiles) throws ServiceGenerationException {
-        this.serviceTypesGenerator.setFileName(fileName);
-        String typesFileContent = this.serviceTypesGenerator.generateSrc(graphQLSchema);
-        setServiceMethodDeclarations(this.serviceTypesGenerator.getServiceMethodDeclarations());
+    private void generateServiceTypes(String projectName, GraphQLSchema graphQLSchema,
+                                      ServiceGenerationContext context, List<SrcFilePojo> sourceFiles)
+            throws ServiceGenerationException {
+        String typesFileContent = this.serviceTypesGenerator.generateSrc(graphQLSchema, context);
         sourceFiles.add(
                 new SrcFilePojo(SrcFilePojo.GenFileType.MODEL_SRC, projectName, CodeGeneratorConstants.TYPES_FILE_NAME,
                         typesFileContent));
     }
 
     public void enableToUseRecords() {
-        this.serviceTypesGenerator.setUseRecordsForObjects(true);
-    }
-
-    public void setServiceMethodDeclarations(List<MethodDeclarationNode> serviceMethodDeclarations) {
-        this.serviceMethodDeclarations = serviceMethodDeclarations;
+        this.useRecordsForObjects = true;
     }
 }
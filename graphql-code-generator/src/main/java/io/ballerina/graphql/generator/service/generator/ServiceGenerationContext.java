@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.service.generator;
+
+import graphql.schema.GraphQLObjectType;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class holds the state of a single service generation run. A new context is created for every generation, so
+ * that the service generators themselves stay stateless and can be shared by concurrent generations.
+ */
+public class ServiceGenerationContext {
+    private final String fileName;
+    private final boolean useRecordsForObjects;
+    private final Map<GraphQLObjectType, Boolean> canRecordFromObject;
+    private final List<ModuleMemberDeclarationNode> moduleMembers;
+    private List<MethodDeclarationNode> serviceMethodDeclarations;
+
+    public ServiceGenerationContext(String fileName, boolean useRecordsForObjects) {
+        this.fileName = fileName;
+        this.useRecordsForObjects = useRecordsForObjects;
+        this.canRecordFromObject = new LinkedHashMap<>();
+        this.moduleMembers = new LinkedList<>();
+        this.serviceMethodDeclarations = new ArrayList<>();
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public boolean isUseRecordsForObjects() {
+        return useRecordsForObjects;
+    }
+
+    public Map<GraphQLObjectType, Boolean> getCanRecordFromObject() {
+        return canRecordFromObject;
+    }
+
+    public List<ModuleMemberDeclarationNode> getModuleMembers() {
+        return moduleMembers;
+    }
+
+    public List<MethodDeclarationNode> getServiceMethodDeclarations() {
+        return serviceMethodDeclarations;
+    }
+
+    public void setServiceMethodDeclarations(List<MethodDeclarationNode> serviceMethodDeclarations) {
+        this.serviceMethodDeclarations = serviceMethodDeclarations;
+    }
+}
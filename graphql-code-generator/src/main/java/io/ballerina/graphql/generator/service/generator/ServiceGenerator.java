@@ -58,9 +58,9 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createCommentMinutiae;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEndOfLineMinutiae;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -94,24 +94,28 @@ public class ServiceGenerator {
     private List<MethodDeclarationNode> methodDeclarations;
 
     public ModulePartNode generateContentNode() {
+        return generateContentNode(createGenerationContext());
+    }
+
+    public ModulePartNode generateContentNode(ServiceGenerationContext context) {
         NodeList<ImportDeclarationNode> imports = CodeGeneratorUtils.generateImports();
-        NodeList<ModuleMemberDeclarationNode> serviceBody = generateMembers();
+        NodeList<ModuleMemberDeclarationNode> serviceBody = generateMembers(context);
         return createModulePartNode(imports, serviceBody, createToken(SyntaxKind.EOF_TOKEN));
     }
 
-    private SyntaxTree generateSyntaxTree() throws IOException {
-        ModulePartNode modulePartNode = generateContentNode();
+    private SyntaxTree generateSyntaxTree(ServiceGenerationContext context) throws IOException {
+        ModulePartNode modulePartNode = generateContentNode(context);
         TextDocument textDocument = TextDocuments.from(CodeGeneratorConstants.EMPTY_STRING);
         SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
         return syntaxTree.modifyWith(modulePartNode);
     }
 
-    private NodeList<ModuleMemberDeclarationNode> generateMembers() {
+    private NodeList<ModuleMemberDeclarationNode> generateMembers(ServiceGenerationContext context) {
         List<ModuleMemberDeclarationNode> members = new ArrayList<>();
         ModuleVariableDeclarationNode portVariable =
                 generatePortModuleVariableDeclaration(CodeGeneratorConstants.PORT_NUMBER_DEFAULT);
         members.add(portVariable);
-        ServiceDeclarationNode serviceDeclaration = generateServiceDeclaration();
+        ServiceDeclarationNode serviceDeclaration = generateServiceDeclaration(context);
         members.add(serviceDeclaration);
         return createNodeList(members);
     }
@@ -127,23 +131,25 @@ public class ServiceGenerator {
                 createToken(SyntaxKind.EQUAL_TOKEN), portNumber, createToken(SEMICOLON_TOKEN));
     }
 
-    private ServiceDeclarationNode generateServiceDeclaration() {
+    private ServiceDeclarationNode generateServiceDeclaration(ServiceGenerationContext context) {
         NodeList<Token> qualifiers = createEmptyNodeList();
-        SimpleNameReferenceNode fileName = createSimpleNameReferenceNode(createIdentifierToken(this.fileName));
+        SimpleNameReferenceNode fileName =
+                createSimpleNameReferenceNode(createIdentifierToken(context.getFileName()));
         NodeList<Node> absoluteResourcePath = createEmptyNodeList();
         ExplicitNewExpressionNode graphqlListener = generateGraphqlListener();
-        NodeList<Node> functionDefinitions = generateServiceFunctionDefinitions();
+        NodeList<Node> functionDefinitions =
+                generateServiceFunctionDefinitions(context.getServiceMethodDeclarations());
         return createServiceDeclarationNode(null, qualifiers, createToken(SERVICE_KEYWORD), fileName,
                 absoluteResourcePath, createToken(ON_KEYWORD), createSeparatedNodeList(graphqlListener),
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN), functionDefinitions,
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
     }
 
-    private NodeList<Node> generateServiceFunctionDefinitions() {
+    private NodeList<Node> generateServiceFunctionDefinitions(List<MethodDeclarationNode> methodDeclarations) {
         List<Node> functionDefinitions = new ArrayList<>();
-        for (int methodDeclarationInd = 0; methodDeclarationInd < this.methodDeclarations.size();
+        for (int methodDeclarationInd = 0; methodDeclarationInd < methodDeclarations.size();
              methodDeclarationInd++) {
-            MethodDeclarationNode methodDeclaration = this.methodDeclarations.get(methodDeclarationInd);
+            MethodDeclarationNode methodDeclaration = methodDeclarations.get(methodDeclarationInd);
             MetadataNode methodDeclarationMetadata = methodDeclaration.metadata().orElse(null);
             methodDeclarationMetadata =
                     modifyMetadataForServiceFunctionDefinition(methodDeclarationMetadata, methodDeclarationInd);
@@ -169,7 +175,7 @@ public class ServiceGenerator {
             (NodeList<Token> qualifierList, int methodDeclarationInd, MetadataNode methodDeclarationMetadata) {
         if (methodDeclarationInd != 0 && methodDeclarationMetadata == null) {
             MinutiaeList leadingMinutiaeList =
-                    createMinutiaeList(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+                    createMinutiaeList(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
             Token firstQualifier = qualifierList.get(0);
             qualifierList = qualifierList.remove(0);
             Token newLineAddedFirstQualifier =
@@ -199,7 +205,7 @@ public class ServiceGenerator {
                         (MarkdownDocumentationLineNode) firstDocumentationLine;
                 Token firstLineHash = firstMarkdownDocumentationLine.hashToken();
                 return metadata.replace(firstLineHash, createToken(SyntaxKind.HASH_TOKEN,
-                        createMinutiaeList(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE)),
+                        createMinutiaeList(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE)),
                         createEmptyMinutiaeList()));
             }
         }
@@ -238,13 +244,36 @@ public class ServiceGenerator {
         this.methodDeclarations = methodDeclarations;
     }
 
+    /**
+     * Generates the service file content using the file name and the method declarations set on this generator.
+     *
+     * @return                              the service file content
+     * @throws ServiceGenerationException   when a service generation error occurs
+     */
     public String generateSrc() throws ServiceGenerationException {
+        return generateSrc(createGenerationContext());
+    }
+
+    /**
+     * Generates the service file content using the file name and the service method declarations of the given
+     * context, which are populated by the service types generation of the same run.
+     *
+     * @param context                       the context of the current service generation
+     * @return                              the service file content
+     * @throws ServiceGenerationException   when a service generation error occurs
+     */
+    public String generateSrc(ServiceGenerationContext context) throws ServiceGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree()).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return Formatter.format(this.generateSyntaxTree(context)).toString();
         } catch (FormatterException | IOException e) {
             throw new ServiceGenerationException(ServiceDiagnosticMessages.GRAPHQL_SERVICE_GEN_101, null,
                     e.getMessage());
         }
     }
+
+    private ServiceGenerationContext createGenerationContext() {
+        ServiceGenerationContext context = new ServiceGenerationContext(this.fileName, false);
+        context.setServiceMethodDeclarations(this.methodDeclarations);
+        return context;
+    }
 }
@@ -95,14 +95,11 @@ import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
-import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createCommentMinutiae;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEndOfLineMinutiae;
@@ -156,33 +153,40 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescr
 public class ServiceTypesGenerator extends TypesGenerator {
     private String fileName;
     private boolean useRecordsForObjects;
-    private HashMap<GraphQLObjectType, Boolean> canRecordFromObject;
-
     private List<MethodDeclarationNode> serviceMethodDeclarations;
-    private List<ModuleMemberDeclarationNode> moduleMembers;
-    private List<ModuleMemberDeclarationNode> inputObjectTypesModuleMembers;
-    private List<ModuleMemberDeclarationNode> interfaceTypesModuleMembers;
-    private List<ModuleMemberDeclarationNode> enumTypesModuleMembers;
-    private List<ModuleMemberDeclarationNode> unionTypesModuleMembers;
-    private List<ModuleMemberDeclarationNode> objectTypesModuleMembers;
-
-    public ServiceTypesGenerator() {
-        this.moduleMembers = new LinkedList<>();
-        this.inputObjectTypesModuleMembers = new ArrayList<>();
-        this.interfaceTypesModuleMembers = new ArrayList<>();
-        this.enumTypesModuleMembers = new ArrayList<>();
-        this.unionTypesModuleMembers = new ArrayList<>();
-        this.objectTypesModuleMembers = new ArrayList<>();
-    }
 
     public void setUseRecordsForObjects(boolean useRecordsForObjects) {
         this.useRecordsForObjects = useRecordsForObjects;
     }
 
+    /**
+     * Generates the service types file content using the file name and the options set on this generator. Use
+     * {@link #generateSrc(GraphQLSchema, ServiceGenerationContext)} to share the generator between concurrent
+     * generations.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @return                              the service types file content
+     * @throws ServiceGenerationException   when a service types generation error occurs
+     */
     public String generateSrc(GraphQLSchema schema) throws ServiceGenerationException {
+        ServiceGenerationContext context = new ServiceGenerationContext(this.fileName, this.useRecordsForObjects);
+        String typesFileContent = generateSrc(schema, context);
+        setServiceMethodDeclarations(context.getServiceMethodDeclarations());
+        return typesFileContent;
+    }
+
+    /**
+     * Generates the service types file content. All the state of the generation is kept in the given context.
+     *
+     * @param schema                        the object instance of the GraphQL schema (SDL)
+     * @param context                       the context of the current service generation
+     * @return                              the service types file content
+     * @throws ServiceGenerationException   when a service types generation error occurs
+     */
+    public String generateSrc(GraphQLSchema schema, ServiceGenerationContext context)
+            throws ServiceGenerationException {
         try {
-            String generatedSyntaxTree = Formatter.format(this.generateSyntaxTree(schema)).toString();
-            return Formatter.format(generatedSyntaxTree);
+            return Formatter.format(this.generateSyntaxTree(schema, context)).toString();
         } catch (FormatterException e) {
             throw new ServiceGenerationException(ServiceDiagnosticMessages.GRAPHQL_SERVICE_GEN_102, null,
                     e.getMessage());
@@ -202,11 +206,19 @@ public class ServiceTypesGenerator extends TypesGenerator {
     }
 
     public SyntaxTree generateSyntaxTree(GraphQLSchema schema) throws ServiceGenerationException {
+        ServiceGenerationContext context = new ServiceGenerationContext(this.fileName, this.useRecordsForObjects);
+        SyntaxTree syntaxTree = generateSyntaxTree(schema, context);
+        setServiceMethodDeclarations(context.getServiceMethodDeclarations());
+        return syntaxTree;
+    }
+
+    public SyntaxTree generateSyntaxTree(GraphQLSchema schema, ServiceGenerationContext context)
+            throws ServiceGenerationException {
         NodeList<ImportDeclarationNode> imports = CodeGeneratorUtils.generateImports();
-        addServiceType(schema);
-        addTypeDefinitions(schema);
+        addServiceType(schema, context);
+        addTypeDefinitions(schema, context);
 
-        NodeList<ModuleMemberDeclarationNode> moduleMemberNodes = createNodeList(moduleMembers);
+        NodeList<ModuleMemberDeclarationNode> moduleMemberNodes = createNodeList(context.getModuleMembers());
         ModulePartNode modulePartNode =
                 createModulePartNode(imports, moduleMemberNodes, createToken(SyntaxKind.EOF_TOKEN));
 
@@ -215,8 +227,13 @@ public class ServiceTypesGenerator extends TypesGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
-    private void addTypeDefinitions(GraphQLSchema schema) throws ServiceGenerationException {
-        this.canRecordFromObject = new LinkedHashMap<>();
+    private void addTypeDefinitions(GraphQLSchema schema, ServiceGenerationContext context)
+            throws ServiceGenerationException {
+        List<ModuleMemberDeclarationNode> inputObjectTypesModuleMembers = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> interfaceTypesModuleMembers = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> enumTypesModuleMembers = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> unionTypesModuleMembers = new ArrayList<>();
+        Map<GraphQLObjectType, Boolean> canRecordFromObject = context.getCanRecordFromObject();
         for (Map.Entry<String, GraphQLNamedType> typeEntry : schema.getTypeMap().entrySet()) {
             String key = typeEntry.getKey();
             GraphQLNamedType type = typeEntry.getValue();
@@ -232,16 +249,17 @@ public class ServiceTypesGenerator extends TypesGenerator {
                     enumTypesModuleMembers.add(generateEnumType(enumType));
                 } else if (type instanceof GraphQLUnionType) {
                     GraphQLUnionType unionType = (GraphQLUnionType) type;
-                    addUnionSubObjectTypesToMap(unionType);
+                    addUnionSubObjectTypesToMap(unionType, canRecordFromObject);
                     unionTypesModuleMembers.add(generateUnionType(unionType));
                 } else if (type instanceof GraphQLObjectType) {
                     GraphQLObjectType objectType = (GraphQLObjectType) type;
-                    addObjectTypeToMap(objectType, key);
+                    addObjectTypeToMap(objectType, key, canRecordFromObject);
                 }
             }
         }
-        populateObjectTypesModuleMembers();
+        List<ModuleMemberDeclarationNode> objectTypesModuleMembers = generateObjectTypesModuleMembers(context);
 
+        List<ModuleMemberDeclarationNode> moduleMembers = context.getModuleMembers();
         moduleMembers.addAll(inputObjectTypesModuleMembers);
         moduleMembers.addAll(interfaceTypesModuleMembers);
         moduleMembers.addAll(enumTypesModuleMembers);
@@ -249,19 +267,24 @@ public class ServiceTypesGenerator extends TypesGenerator {
         moduleMembers.addAll(objectTypesModuleMembers);
     }
 
-    private void populateObjectTypesModuleMembers() throws ServiceGenerationException {
-        for (Map.Entry<GraphQLObjectType, Boolean> canRecordFromObjectItem : canRecordFromObject.entrySet()) {
+    private List<ModuleMemberDeclarationNode> generateObjectTypesModuleMembers(ServiceGenerationContext context)
+            throws ServiceGenerationException {
+        List<ModuleMemberDeclarationNode> objectTypesModuleMembers = new ArrayList<>();
+        for (Map.Entry<GraphQLObjectType, Boolean> canRecordFromObjectItem :
+                context.getCanRecordFromObject().entrySet()) {
             GraphQLObjectType nextObjectType = canRecordFromObjectItem.getKey();
             Boolean isPossible = canRecordFromObjectItem.getValue();
-            if (isPossible && useRecordsForObjects) {
+            if (isPossible && context.isUseRecordsForObjects()) {
                 objectTypesModuleMembers.add(generateRecordType(nextObjectType));
             } else {
                 objectTypesModuleMembers.add(generateServiceClassType(nextObjectType));
             }
         }
+        return objectTypesModuleMembers;
     }
 
-    private void addObjectTypeToMap(GraphQLObjectType objectType, String key) {
+    private void addObjectTypeToMap(GraphQLObjectType objectType, String key,
+                                    Map<GraphQLObjectType, Boolean> canRecordFromObject) {
         if (!CodeGeneratorConstants.QUERY.equals(key) && !CodeGeneratorConstants.MUTATION.equals(key) &&
                 !CodeGeneratorConstants.SUBSCRIPTION.equals(key)) {
             canRecordFromObject.putIfAbsent(objectType, true);
@@ -271,7 +294,9 @@ public class ServiceTypesGenerator extends TypesGenerator {
         }
     }
 
-    private void addUnionSubObjectTypesToMap(GraphQLUnionType unionType) throws ServiceGenerationException {
+    private void addUnionSubObjectTypesToMap(GraphQLUnionType unionType,
+                                             Map<GraphQLObjectType, Boolean> canRecordFromObject)
+            throws ServiceGenerationException {
         for (GraphQLNamedOutputType subType : unionType.getTypes()) {
             if (subType instanceof GraphQLObjectType) {
                 GraphQLObjectType subObjectType = (GraphQLObjectType) subType;
@@ -544,7 +569,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
         MinutiaeList resourceLeadingMinutiaeList = createEmptyMinutiaeList();
         if (addAdditionalNewLine) {
             resourceLeadingMinutiaeList =
-                    resourceLeadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+                    resourceLeadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         NodeList<Token> qualifierResource = createNodeList(createToken(SyntaxKind.RESOURCE_KEYWORD,
                 resourceLeadingMinutiaeList,
@@ -568,18 +593,21 @@ public class ServiceTypesGenerator extends TypesGenerator {
                 functionSignature, functionBody);
     }
 
-    private void addServiceType(GraphQLSchema schema) throws ServiceGenerationException {
+    private void addServiceType(GraphQLSchema schema, ServiceGenerationContext context)
+            throws ServiceGenerationException {
         ObjectTypeDescriptorNode serviceObject =
                 createObjectTypeDescriptorNode(createNodeList(createToken(SyntaxKind.SERVICE_KEYWORD)),
                         createToken(SyntaxKind.OBJECT_KEYWORD), createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                        generateServiceObjectMembers(schema), createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+                        generateServiceObjectMembers(schema, context), createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
         TypeDefinitionNode serviceObjectDefinition =
                 createTypeDefinitionNode(null, null, createToken(SyntaxKind.TYPE_KEYWORD),
-                        createIdentifierToken(this.fileName), serviceObject, createToken(SyntaxKind.SEMICOLON_TOKEN));
-        moduleMembers.add(serviceObjectDefinition);
+                        createIdentifierToken(context.getFileName()), serviceObject,
+                        createToken(SyntaxKind.SEMICOLON_TOKEN));
+        context.getModuleMembers().add(serviceObjectDefinition);
     }
 
-    private NodeList<Node> generateServiceObjectMembers(GraphQLSchema schema) throws ServiceGenerationException {
+    private NodeList<Node> generateServiceObjectMembers(GraphQLSchema schema, ServiceGenerationContext context)
+            throws ServiceGenerationException {
         List<Node> members = new ArrayList<>();
         QualifiedNameReferenceNode graphqlServiceName =
                 createQualifiedNameReferenceNode(createIdentifierToken(CodeGeneratorConstants.GRAPHQL),
@@ -592,7 +620,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
         List<MethodDeclarationNode> serviceMethodDeclarations =
                 generateServiceMethodDeclarations(schema.getQueryType(), schema.getMutationType(),
                         schema.getSubscriptionType());
-        setServiceMethodDeclarations(serviceMethodDeclarations);
+        context.setServiceMethodDeclarations(serviceMethodDeclarations);
         members.addAll(serviceMethodDeclarations);
         return createNodeList(members);
     }
@@ -717,7 +745,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
         List<Node> markdownDocumentationLines = new ArrayList<>();
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
             addNewLineInFront = false;
         }
         markdownDocumentationLines.add(
@@ -755,7 +783,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
             (String descriptionLine, String argumentName, boolean addNewLineInFront) {
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         LiteralValueToken parameterName =
                 createLiteralValueToken(SyntaxKind.PARAMETER_NAME, argumentName, createEmptyMinutiaeList(),
@@ -789,7 +817,7 @@ public class ServiceTypesGenerator extends TypesGenerator {
                                                                             boolean addNewLineInFront) {
         MinutiaeList leadingMinutiaeList = createEmptyMinutiaeList();
         if (addNewLineInFront) {
-            leadingMinutiaeList = leadingMinutiaeList.add(createCommentMinutiae(CodeGeneratorConstants.NEW_LINE));
+            leadingMinutiaeList = leadingMinutiaeList.add(createEndOfLineMinutiae(CodeGeneratorConstants.NEW_LINE));
         }
         return createMarkdownDocumentationLineNode(SyntaxKind.MARKDOWN_DOCUMENTATION_LINE,
                 createToken(SyntaxKind.HASH_TOKEN, leadingMinutiaeList, createEmptyMinutiaeList()), createNodeList(
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2023, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.graphql.generator.utils;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * This class writes already formatted Ballerina source code line by line to a given writer, keeping track of the
+ * indentation of the nested blocks, so that the generated code does not need to be held as a syntax tree.
+ */
+public class BallerinaSourceWriter implements Closeable, Flushable {
+    private static final String INDENTATION = "    ";
+    private static final String NEW_LINE = "\n";
+
+    private final Writer writer;
+    private int indentationLevel = 0;
+    private boolean hasModuleMembers = false;
+
+    public BallerinaSourceWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Writes a complete module level member, separating it from the previous member with an empty line.
+     *
+     * @param member            the formatted source code of the module level member
+     * @throws IOException      If an I/O error occurs
+     */
+    public void writeModuleMember(String member) throws IOException {
+        if (hasModuleMembers) {
+            writer.write(NEW_LINE);
+        }
+        writer.write(member);
+        hasModuleMembers = true;
+    }
+
+    /**
+     * Writes a line with the current indentation.
+     *
+     * @param line              the content of the line
+     * @throws IOException      If an I/O error occurs
+     */
+    public void writeLine(String line) throws IOException {
+        for (int level = 0; level < indentationLevel; level++) {
+            writer.write(INDENTATION);
+        }
+        writer.write(line);
+        writer.write(NEW_LINE);
+    }
+
+    /**
+     * Writes the opening line of a block and increases the indentation of the following lines.
+     *
+     * @param line              the opening line of the block
+     * @throws IOException      If an I/O error occurs
+     */
+    public void openBlock(String line) throws IOException {
+        writeLine(line);
+        indentationLevel++;
+    }
+
+    /**
+     * Decreases the indentation and writes the closing line of a block.
+     *
+     * @param line              the closing line of the block
+     * @throws IOException      If an I/O error occurs
+     */
+    public void closeBlock(String line) throws IOException {
+        indentationLevel--;
+        writeLine(line);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
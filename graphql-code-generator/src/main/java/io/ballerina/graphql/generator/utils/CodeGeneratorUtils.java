@@ -40,6 +40,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -66,6 +68,7 @@ import static io.ballerina.graphql.generator.CodeGeneratorConstants.LINE_SEPARAT
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.MODULES_PATH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.ROOT_PROJECT_NAME;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SEMICOLON;
+import static io.ballerina.graphql.generator.CodeGeneratorConstants.SHA_256;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SLASH;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SPECIAL_CHAR_REGEX;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.WHITESPACE;
@@ -194,6 +197,17 @@ public class CodeGeneratorUtils {
                 operationName.substring(1).concat("Response|graphql:ClientError");
     }
 
+    /**
+     * Gets the return type name of the remote function of a subscription, which returns a stream of responses.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the remote function return type name
+     */
+    public static String getSubscriptionFunctionSignatureReturnTypeName(String operationName) {
+        return "stream<" + getRemoteFunctionResponseTypeName(operationName) +
+                ", graphql:ClientError?>|graphql:ClientError";
+    }
+
     /**
      * Gets the remote function body return type name.
      *
@@ -207,6 +221,16 @@ public class CodeGeneratorUtils {
                 operationName.substring(1) + "Response)";
     }
 
+    /**
+     * Gets the name of the response type of a given operation.
+     *
+     * @param operationName    the name of the operation
+     * @return                 the response type name
+     */
+    public static String getRemoteFunctionResponseTypeName(String operationName) {
+        return operationName.substring(0, 1).toUpperCase() + operationName.substring(1) + "Response";
+    }
+
     public static MetadataNode getMetadataNode(String comment) {
         List<Node> docs = new ArrayList<>(CodeGeneratorUtils.createAPIDescriptionDoc(comment, false));
         MarkdownDocumentationNode authDocumentationNode = createMarkdownDocumentationNode(
@@ -321,4 +345,25 @@ public class CodeGeneratorUtils {
         }
         return identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1);
     }
+
+    /**
+     * Gets the hex encoded SHA-256 hash of a given content.
+     *
+     * @param content       the content to be hashed
+     * @return              the hex encoded SHA-256 hash
+     */
+    public static String getSha256Hash(String content) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(SHA_256);
+            byte[] hash = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexHash = new StringBuilder(hash.length * 2);
+            for (byte hashByte : hash) {
+                hexHash.append(String.format("%02x", hashByte));
+            }
+            return hexHash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implementation is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
 }
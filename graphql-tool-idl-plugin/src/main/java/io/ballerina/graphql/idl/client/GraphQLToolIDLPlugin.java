@@ -20,6 +20,7 @@ package io.ballerina.graphql.idl.client;
 
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.graphql.cmd.GraphqlProject;
+import io.ballerina.graphql.cmd.SchemaRegistry;
 import io.ballerina.graphql.cmd.pojo.Config;
 import io.ballerina.graphql.exception.CmdException;
 import io.ballerina.graphql.exception.GenerationException;
@@ -54,6 +55,8 @@ import java.util.regex.Pattern;
 
 import static io.ballerina.graphql.cmd.Constants.YAML_EXTENSION;
 import static io.ballerina.graphql.cmd.Constants.YML_EXTENSION;
+import static io.ballerina.graphql.cmd.Utils.getDefaultSchemaCache;
+import static io.ballerina.graphql.cmd.Utils.validateGraphqlProject;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.DOCUMENTS_PATTERN;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.EMPTY_STRING;
 import static io.ballerina.graphql.generator.CodeGeneratorConstants.SCHEMA_PATTERN;
@@ -102,7 +105,8 @@ public class GraphQLToolIDLPlugin extends IDLGeneratorPlugin {
                             Constants.DiagnosticMessages.ERROR_MULTIPLE_PROJECT_AVAILABILITY.getDescription());
                 }
                 String moduleName = idlSourceGeneratorContext.clientNode().clientPrefix().text();
-                Utils.validateGraphqlProject(projects.get(0));
+                // The schemas of the IDL builds are cached in the default cache location of the GraphQL tool
+                validateGraphqlProject(projects.get(0), new SchemaRegistry(getDefaultSchemaCache(), null, false));
                 QueryValidator.getInstance().validate(projects.get(0));
                 List<SrcFilePojo> genSrcFiles = CodeGenerator.getInstance().generateBalSources(projects.get(0),
                         GeneratorContext.IDL_PLUGIN);